@@ -0,0 +1,39 @@
+package benchmarks;
+
+import gamestate.GameState;
+
+/**
+ * The standard positions every benchmark runs on: the starting position and the
+ * well known perft positions, which between them cover castling, en passant,
+ * promotions, checks and a quiet endgame.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class BenchmarkPositions {
+
+    public static final String[] FENS = {
+        "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+        "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+        "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+        "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+        "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+        "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+    };
+
+    private BenchmarkPositions() {}
+
+    /**
+     * Sets up a fresh chessboard for every position, with white at the bottom.
+     *
+     * @return the positions.
+     */
+    public static GameState[] load() {
+        GameState[] positions = new GameState[FENS.length];
+        for (int i = 0; i < FENS.length; i++) {
+            positions[i] = GameState.fromFen(FENS[i], true);
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import chessboard.Tile;
+import chesspieces.Piece;
+import gamestate.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures pseudo-legal and legal move generation of each piece type, over all
+ * pieces of that type belonging to the side to move in the benchmark positions.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class PieceMovesBenchmark {
+
+    @Param({"Pawn", "Knight", "Bishop", "Rook", "Queen", "King"})
+    public String pieceType;
+
+    private GameState[] positions;
+    private Piece[][] pieces;
+
+    @Setup
+    public void setUp() {
+        positions = BenchmarkPositions.load();
+        pieces = new Piece[positions.length][];
+        for (int i = 0; i < positions.length; i++) {
+            List<Piece> piecesOfType = new ArrayList<Piece>();
+            for (Piece piece : positions[i].getAlivePieces(positions[i].getIsWhiteToMove())) {
+                if (piece.getPieceType().equals(pieceType)) {
+                    piecesOfType.add(piece);
+                }
+            }
+            pieces[i] = piecesOfType.toArray(new Piece[0]);
+        }
+    }
+
+    @Benchmark
+    public void getAllMoves(Blackhole blackhole) {
+        for (int i = 0; i < positions.length; i++) {
+            Tile[] chessBoard = positions[i].getChessBoard();
+            for (Piece piece : pieces[i]) {
+                blackhole.consume(piece.getAllMoves(chessBoard));
+            }
+        }
+    }
+
+    @Benchmark
+    public void getAllLegalMoves(Blackhole blackhole) {
+        for (int i = 0; i < positions.length; i++) {
+            GameState gameState = positions[i];
+            Tile[] chessBoard = gameState.getChessBoard();
+            for (Piece piece : pieces[i]) {
+                blackhole.consume(piece.getAllLegalMoves(gameState, chessBoard,
+                                                         gameState.getMoveAlgorithm()));
+            }
+        }
+    }
+}
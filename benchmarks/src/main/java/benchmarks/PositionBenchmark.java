@@ -0,0 +1,89 @@
+package benchmarks;
+
+import chessboard.Tile;
+import engine.EvalParameters;
+import engine.Evaluator;
+import engine.Move;
+import engine.MoveGenerator;
+import gamestate.GameState;
+import gamestate.MoveAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole-position operations of the search: legal move generation, the
+ * check test, making and taking back every legal move, and evaluation.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class PositionBenchmark {
+
+    private GameState[] positions;
+    private int[][] legalMoves;
+    private Evaluator evaluator;
+
+    @Setup
+    public void setUp() {
+        positions = BenchmarkPositions.load();
+        legalMoves = new int[positions.length][];
+        for (int i = 0; i < positions.length; i++) {
+            legalMoves[i] = MoveGenerator.generateLegalMoves(positions[i]);
+        }
+        evaluator = new Evaluator(EvalParameters.defaults());
+    }
+
+    @Benchmark
+    public void generateLegalMoves(Blackhole blackhole) {
+        for (GameState gameState : positions) {
+            blackhole.consume(MoveGenerator.generateLegalMoves(gameState));
+        }
+    }
+
+    @Benchmark
+    public void calcIfAllyKingIsCheck(Blackhole blackhole) {
+        for (GameState gameState : positions) {
+            blackhole.consume(gameState.calcIfAllyKingIsCheck(true));
+            blackhole.consume(gameState.calcIfAllyKingIsCheck(false));
+        }
+    }
+
+    @Benchmark
+    public void simulateAndUndoMove() {
+        for (int i = 0; i < positions.length; i++) {
+            Tile[] chessBoard = positions[i].getChessBoard();
+            MoveAlgorithm moveAlgorithm = positions[i].getMoveAlgorithm();
+            for (int move : legalMoves[i]) {
+                moveAlgorithm.simulateMovePieceToSquare(chessBoard, Move.getFromID(move),
+                                                        Move.getToID(move),
+                                                        Move.getPromotionKind(move));
+                moveAlgorithm.simulateUndoMove(chessBoard);
+            }
+        }
+    }
+
+    @Benchmark
+    public void evaluate(Blackhole blackhole) {
+        for (GameState gameState : positions) {
+            blackhole.consume(evaluator.evaluate(gameState));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package benchmarks;
+
+import engine.SearchEngine;
+import engine.SearchLimits;
+import gamestate.GameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a fixed-depth search of every benchmark position, starting each search
+ * with an empty transposition table so runs are comparable.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class SearchBenchmark {
+
+    @Param({"2", "3"})
+    public int depth;
+
+    private GameState[] positions;
+    private SearchEngine engine;
+
+    @Setup
+    public void setUp() {
+        positions = BenchmarkPositions.load();
+        engine = new SearchEngine();
+    }
+
+    @Benchmark
+    public void search(Blackhole blackhole) {
+        for (GameState gameState : positions) {
+            engine.newGame();
+            blackhole.consume(engine.search(gameState, SearchLimits.depth(depth)));
+        }
+    }
+}
@@ -1,3 +1,5 @@
+import metrics.MetricsReporter;
+import tools.CommandLine;
 import userinterface.StartUI;
 
 /**
@@ -12,6 +14,15 @@ public class Main {
 
     public static void main(String[] args) {
 
+        // Publishes the engine metrics over JMX and, if asked, as periodic dumps.
+        MetricsReporter.startFromSystemProperties();
+
+        // Runs a headless tool if a command is given.
+        if (args.length > 0) {
+            CommandLine.run(args);
+            return;
+        }
+
         // Starts the game of Chess.
         StartUI startUI = new StartUI();
         startUI.createStartUI();
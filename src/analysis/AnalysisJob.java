@@ -0,0 +1,200 @@
+package analysis;
+
+import engine.SearchLimits;
+import engine.SearchResult;
+import notation.FenPosition;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * A search of one position run by an AnalysisScheduler, with a priority and an
+ * optional deadline. Set the deadline, line count, listener and preemption
+ * behaviour before submitting the job.
+ *
+ * <p>The result completes with the search result; it is cancelled if the job is
+ * cancelled, and completes with a TimeoutException if the deadline passes before
+ * the job starts.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class AnalysisJob {
+
+    public static final int BATCH = 0;
+    public static final int PONDER = 1;
+    public static final int INTERACTIVE = 2;
+
+    static final int PRIORITY_COUNT = 3;
+
+    private final FenPosition position;
+    private final long[] positionKeys;
+    private final int keyCount;
+    private final SearchLimits limits;
+    private final int priority;
+    private final CompletableFuture<SearchResult> result;
+    private long deadlineMillis;
+    private int lineCount;
+    private boolean isRequeuedOnPreemption;
+    private AnalysisListener listener;
+
+    // The scheduler state of the job, changed only under the scheduler's lock.
+    volatile AnalysisScheduler scheduler;
+    long sequence;
+    long submitTimeMillis;
+    boolean isStarted;
+    boolean isPreempted;
+    volatile int preemptionCount;
+    // The timer task that expires the job at its deadline, cancelled once it is done.
+    ScheduledFuture<?> deadlineTask;
+    // Read by the search worker between iterations.
+    volatile boolean isStopRequested;
+
+    /**
+     * Constructor for AnalysisJob.
+     *
+     * @param fen the position to search.
+     * @param positionKeys the Zobrist keys of the game's positions before this one,
+     * oldest first, for detecting repetitions; may be null if keyCount is 0.
+     * @param keyCount the number of keys.
+     * @param limits when to stop searching.
+     * @param priority BATCH, PONDER or INTERACTIVE.
+     * @throws IllegalArgumentException if the FEN or priority is not valid.
+     */
+    public AnalysisJob(String fen, long[] positionKeys, int keyCount, SearchLimits limits,
+                       int priority) {
+        if (priority < BATCH || priority > INTERACTIVE) {
+            throw new IllegalArgumentException("Unknown priority: " + priority);
+        }
+        this.position = FenPosition.fromFen(fen);
+        this.positionKeys = keyCount > 0 ? positionKeys.clone() : new long[0];
+        this.keyCount = keyCount;
+        this.limits = limits;
+        this.priority = priority;
+        this.result = new CompletableFuture<SearchResult>();
+        this.lineCount = 1;
+        this.isRequeuedOnPreemption = true;
+    }
+
+    /**
+     * Constructor for AnalysisJob of a position without a game history.
+     *
+     * @param fen the position to search.
+     * @param limits when to stop searching.
+     * @param priority BATCH, PONDER or INTERACTIVE.
+     * @throws IllegalArgumentException if the FEN or priority is not valid.
+     */
+    public AnalysisJob(String fen, SearchLimits limits, int priority) {
+        this(fen, null, 0, limits, priority);
+    }
+
+    FenPosition getPosition() {
+        return position;
+    }
+
+    long[] getPositionKeys() {
+        return positionKeys;
+    }
+
+    int getKeyCount() {
+        return keyCount;
+    }
+
+    public SearchLimits getLimits() {
+        return limits;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the result of the job.
+     *
+     * @return the future search result.
+     */
+    public CompletableFuture<SearchResult> getResult() {
+        return result;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * Sets the time by which the job must be done. A job still queued at its deadline
+     * is dropped, and a running job stops searching at it.
+     *
+     * @param deadlineMillis the deadline as System.currentTimeMillis time, or 0 for
+     * none.
+     */
+    public void setDeadlineMillis(long deadlineMillis) {
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Sets the number of lines to search. With more than one, the job runs a
+     * multi-PV search whose results have the best lines through getLines.
+     *
+     * @param lineCount the number of lines.
+     * @throws IllegalArgumentException if lineCount is less than 1.
+     */
+    public void setLineCount(int lineCount) {
+        if (lineCount < 1) {
+            throw new IllegalArgumentException("Invalid line count: " + lineCount);
+        }
+        this.lineCount = lineCount;
+    }
+
+    public boolean getIsRequeuedOnPreemption() {
+        return isRequeuedOnPreemption;
+    }
+
+    /**
+     * Sets what happens when a job of higher priority takes the job's worker: the job
+     * is queued again to search from the start (the default), or it is shrunk,
+     * ending with the result of its last completed iteration.
+     *
+     * @param isRequeuedOnPreemption true to queue the job again.
+     */
+    public void setIsRequeuedOnPreemption(boolean isRequeuedOnPreemption) {
+        this.isRequeuedOnPreemption = isRequeuedOnPreemption;
+    }
+
+    AnalysisListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Sets the listener told about each completed iteration.
+     *
+     * @param listener the listener, or null for none.
+     */
+    public void setListener(AnalysisListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Returns how often the job gave up its worker to a job of higher priority.
+     *
+     * @return the number of preemptions.
+     */
+    public int getPreemptionCount() {
+        return preemptionCount;
+    }
+
+    /**
+     * Cancels the job, stopping its search if it is running.
+     *
+     * @return false if the job was already done.
+     */
+    public boolean cancel() {
+        AnalysisScheduler jobScheduler = scheduler;
+        return jobScheduler != null ? jobScheduler.cancel(this) : result.cancel(false);
+    }
+}
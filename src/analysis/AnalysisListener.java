@@ -0,0 +1,22 @@
+package analysis;
+
+import engine.SearchResult;
+
+/**
+ * Receives the progress of an AnalysisJob.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public interface AnalysisListener {
+
+    /**
+     * Called on the search worker after each completed iteration of the job's
+     * search. A job that is preempted and run again reports its iterations again.
+     *
+     * @param job the job.
+     * @param result the result of the iteration.
+     */
+    void iterationCompleted(AnalysisJob job, SearchResult result);
+}
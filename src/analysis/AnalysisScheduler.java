@@ -0,0 +1,480 @@
+package analysis;
+
+import engine.SearchEngine;
+import engine.SearchLimits;
+import engine.SearchResult;
+import gamestate.GameState;
+import notation.FenPosition;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs analysis jobs on a fixed set of search workers, highest priority first and
+ * in submission order within a priority. When a job arrives and no worker is free,
+ * the running job of the lowest priority below it is preempted: its search is
+ * stopped and the job is either queued again or ends with its result so far, as
+ * the job asks. A job queued again keeps its place in the queue, and its worker's
+ * transposition table still holds most of its search if that worker takes it up.
+ *
+ * <p>A job still queued at its deadline is taken off the queue by a timer and ends
+ * with a TimeoutException straight away, so nobody waits on it past the deadline.
+ *
+ * <p>Each worker has its own engine and chessboard; callbacks run on the workers.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class AnalysisScheduler implements AnalysisSchedulerMXBean {
+
+    private final Object lock = new Object();
+    private final PriorityQueue<AnalysisJob> queue;
+    private final Worker[] workers;
+    private final ScheduledThreadPoolExecutor deadlineTimer;
+    private long nextSequence;
+    private boolean isShutdown;
+
+    private long completedJobs;
+    private long cancelledJobs;
+    private long expiredJobs;
+    private long preemptions;
+    private final long[] startedJobs = new long[AnalysisJob.PRIORITY_COUNT];
+    private final long[] totalWaitMillis = new long[AnalysisJob.PRIORITY_COUNT];
+    private long maxWaitMillis;
+
+    /**
+     * Constructor for AnalysisScheduler. The workers start straight away, and the
+     * scheduler is registered with the platform MBean server.
+     *
+     * @param name the name of the scheduler in thread names and JMX.
+     * @param workerCount the number of search workers.
+     * @param hashSizeMB the transposition table size of each worker.
+     */
+    public AnalysisScheduler(String name, int workerCount, int hashSizeMB) {
+        this.queue = new PriorityQueue<AnalysisJob>((job1, job2) -> {
+            int comparison = Integer.compare(job2.getPriority(), job1.getPriority());
+            return comparison != 0 ? comparison : Long.compare(job1.sequence,
+                                                               job2.sequence);
+        });
+        this.deadlineTimer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, name + "-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Jobs mostly finish before their deadlines; their timer tasks go with them.
+        deadlineTimer.setRemoveOnCancelPolicy(true);
+        this.workers = new Worker[Math.max(1, workerCount)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker(new SearchEngine(hashSizeMB));
+            Thread thread = new Thread(workers[i], name + "-worker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        registerMBean(name);
+    }
+
+    /**
+     * Queues a job, preempting a running job of lower priority if no worker is free.
+     *
+     * @param job the job.
+     * @return the job.
+     * @throws IllegalArgumentException if the job was submitted before.
+     * @throws IllegalStateException if the scheduler is shut down.
+     */
+    public AnalysisJob submit(AnalysisJob job) {
+        synchronized (lock) {
+            if (job.scheduler != null) {
+                throw new IllegalArgumentException("The job was already submitted");
+            }
+            if (isShutdown) {
+                throw new IllegalStateException("The scheduler is shut down");
+            }
+            if (job.getResult().isDone()) {
+                return job;
+            }
+            job.scheduler = this;
+            job.sequence = nextSequence++;
+            job.submitTimeMillis = System.currentTimeMillis();
+            queue.add(job);
+            if (queue.size() > getIdleWorkerCount()) {
+                preemptFor(job);
+            }
+            if (job.getDeadlineMillis() > 0) {
+                job.deadlineTask = deadlineTimer.schedule(
+                        () -> expireIfQueued(job),
+                        job.getDeadlineMillis() - job.submitTimeMillis,
+                        TimeUnit.MILLISECONDS);
+                // Covers every way the job ends: completed, cancelled, expired or failed.
+                job.getResult().whenComplete((result, error) ->
+                        job.deadlineTask.cancel(false));
+            }
+            lock.notifyAll();
+        }
+        return job;
+    }
+
+    /**
+     * Ends a job that is still waiting for a worker at its deadline.
+     */
+    private void expireIfQueued(AnalysisJob job) {
+        synchronized (lock) {
+            if (queue.remove(job)) {
+                expire(job);
+            }
+        }
+    }
+
+    private void expire(AnalysisJob job) {
+        expiredJobs++;
+        job.getResult().completeExceptionally(new TimeoutException(
+                "Deadline passed before the job started"));
+    }
+
+    /**
+     * Cancels a job, taking it off the queue or stopping its search.
+     *
+     * @param job the job.
+     * @return false if the job was already done.
+     */
+    boolean cancel(AnalysisJob job) {
+        synchronized (lock) {
+            if (!job.getResult().cancel(false)) {
+                return false;
+            }
+            cancelledJobs++;
+            if (!queue.remove(job)) {
+                stopJob(job);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Stops taking jobs and cancels every queued and running job. The workers end
+     * once their searches have stopped.
+     */
+    public void shutdown() {
+        synchronized (lock) {
+            isShutdown = true;
+            for (AnalysisJob job : queue) {
+                job.getResult().cancel(false);
+                cancelledJobs++;
+            }
+            queue.clear();
+            deadlineTimer.shutdownNow();
+            for (Worker worker : workers) {
+                if (worker.job != null && worker.job.getResult().cancel(false)) {
+                    cancelledJobs++;
+                    stopJob(worker.job);
+                }
+            }
+            lock.notifyAll();
+        }
+    }
+
+    @Override
+    public int getWorkerCount() {
+        return workers.length;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    @Override
+    public int getRunningJobs() {
+        synchronized (lock) {
+            return workers.length - getIdleWorkerCount();
+        }
+    }
+
+    @Override
+    public long getCompletedJobs() {
+        synchronized (lock) {
+            return completedJobs;
+        }
+    }
+
+    @Override
+    public long getCancelledJobs() {
+        synchronized (lock) {
+            return cancelledJobs;
+        }
+    }
+
+    @Override
+    public long getExpiredJobs() {
+        synchronized (lock) {
+            return expiredJobs;
+        }
+    }
+
+    @Override
+    public long getPreemptions() {
+        synchronized (lock) {
+            return preemptions;
+        }
+    }
+
+    @Override
+    public double getAverageWaitMillis() {
+        synchronized (lock) {
+            long started = 0;
+            long waited = 0;
+            for (int priority = 0; priority < AnalysisJob.PRIORITY_COUNT; priority++) {
+                started += startedJobs[priority];
+                waited += totalWaitMillis[priority];
+            }
+            return started > 0 ? (double) waited / started : 0;
+        }
+    }
+
+    @Override
+    public double getAverageInteractiveWaitMillis() {
+        return getAverageWaitMillis(AnalysisJob.INTERACTIVE);
+    }
+
+    /**
+     * Returns the average wait of the jobs of one priority that have started.
+     *
+     * @param priority BATCH, PONDER or INTERACTIVE.
+     * @return the average wait in milliseconds, or 0 if none started.
+     */
+    public double getAverageWaitMillis(int priority) {
+        synchronized (lock) {
+            return startedJobs[priority] > 0
+                   ? (double) totalWaitMillis[priority] / startedJobs[priority] : 0;
+        }
+    }
+
+    @Override
+    public long getMaxWaitMillis() {
+        synchronized (lock) {
+            return maxWaitMillis;
+        }
+    }
+
+    private int getIdleWorkerCount() {
+        int idleCount = 0;
+        for (Worker worker : workers) {
+            if (worker.job == null) {
+                idleCount++;
+            }
+        }
+        return idleCount;
+    }
+
+    /**
+     * Preempts the running job of lowest priority below a job's, preferring the one
+     * started last among equals since it has done the least work.
+     */
+    private void preemptFor(AnalysisJob job) {
+        AnalysisJob victim = null;
+        for (Worker worker : workers) {
+            AnalysisJob running = worker.job;
+            if (running == null || running.isPreempted
+                    || running.getPriority() >= job.getPriority()) {
+                continue;
+            }
+            if (victim == null || running.getPriority() < victim.getPriority()
+                    || running.getPriority() == victim.getPriority()
+                       && running.sequence > victim.sequence) {
+                victim = running;
+            }
+        }
+        if (victim != null) {
+            victim.isPreempted = true;
+            victim.preemptionCount++;
+            preemptions++;
+            stopJob(victim);
+        }
+    }
+
+    private void stopJob(AnalysisJob job) {
+        job.isStopRequested = true;
+        for (Worker worker : workers) {
+            if (worker.job == job) {
+                worker.engine.stop();
+            }
+        }
+    }
+
+    private void registerMBean(String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(
+                    "chess.engine:type=AnalysisScheduler,name=" + ObjectName.quote(name));
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(this, objectName);
+            }
+        } catch (JMException | SecurityException e) {
+            System.err.println("Cannot register analysis scheduler MBean: "
+                               + e.getMessage());
+        }
+    }
+
+    /**
+     * A search thread taking jobs off the queue.
+     */
+    private class Worker implements Runnable {
+
+        private final SearchEngine engine;
+        private final GameState gameState;
+        // The running job, changed only under the scheduler's lock.
+        private AnalysisJob job;
+
+        Worker(SearchEngine engine) {
+            this.engine = engine;
+            this.gameState = GameState.fromFen(FenPosition.STANDARD_START_FEN, true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    AnalysisJob nextJob = takeJob();
+                    if (nextJob == null) {
+                        return;
+                    }
+                    SearchResult result = null;
+                    RuntimeException error = null;
+                    try {
+                        result = search(nextJob);
+                    } catch (RuntimeException e) {
+                        error = e;
+                    }
+                    finishJob(nextJob, result, error);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Waits for the next job that has not passed its deadline.
+         *
+         * @return the job, or null once the scheduler is shut down.
+         */
+        private AnalysisJob takeJob() throws InterruptedException {
+            synchronized (lock) {
+                while (true) {
+                    while (queue.isEmpty() && !isShutdown) {
+                        lock.wait();
+                    }
+                    if (isShutdown) {
+                        return null;
+                    }
+                    AnalysisJob nextJob = queue.poll();
+                    long now = System.currentTimeMillis();
+                    long deadline = nextJob.getDeadlineMillis();
+                    if (deadline > 0 && now >= deadline) {
+                        expire(nextJob);
+                        continue;
+                    }
+                    if (!nextJob.isStarted) {
+                        nextJob.isStarted = true;
+                        long waitMillis = now - nextJob.submitTimeMillis;
+                        startedJobs[nextJob.getPriority()]++;
+                        totalWaitMillis[nextJob.getPriority()] += waitMillis;
+                        maxWaitMillis = Math.max(maxWaitMillis, waitMillis);
+                    }
+                    nextJob.isPreempted = false;
+                    nextJob.isStopRequested = false;
+                    job = nextJob;
+                    return nextJob;
+                }
+            }
+        }
+
+        private SearchResult search(AnalysisJob searchJob) {
+            SearchLimits limits = getLimits(searchJob);
+            // The engine clears its stop flag when a search starts, so a stop that
+            // came before then is honoured here: a cancelled job or one going back
+            // on the queue is not searched, and any other job only gets the
+            // shallowest search, to have a move.
+            if (searchJob.isStopRequested) {
+                if (searchJob.getResult().isDone() || isRequeued(searchJob)) {
+                    return null;
+                }
+                limits = new SearchLimits(1, 0, 0);
+            }
+            gameState.loadPosition(searchJob.getPosition());
+            engine.setGameHistory(searchJob.getPositionKeys(), searchJob.getKeyCount());
+            AnalysisListener listener = searchJob.getListener();
+            engine.setSearchListener(result -> {
+                // A stop requested between the check above and the search's start.
+                if (searchJob.isStopRequested) {
+                    engine.stop();
+                } else if (listener != null) {
+                    listener.iterationCompleted(searchJob, result);
+                }
+            });
+            return engine.search(gameState, limits, searchJob.getLineCount());
+        }
+
+        private void finishJob(AnalysisJob finishedJob, SearchResult result,
+                               RuntimeException error) {
+            synchronized (lock) {
+                job = null;
+                if (finishedJob.getResult().isDone()) {
+                    // Cancelled while searching.
+                } else if (error != null) {
+                    finishedJob.getResult().completeExceptionally(error);
+                } else if (isRequeued(finishedJob)) {
+                    queue.add(finishedJob);
+                    lock.notifyAll();
+                } else if (result == null) {
+                    // Stopped before its search began and cannot go back on the
+                    // queue, which only happens once its deadline has passed.
+                    expire(finishedJob);
+                } else {
+                    // Past its deadline a preempted job ends with what it found, as
+                    // it could not finish a new search in time anyway.
+                    completedJobs++;
+                    finishedJob.getResult().complete(result);
+                }
+            }
+        }
+
+        /**
+         * Returns whether a preempted job goes back on the queue.
+         */
+        private boolean isRequeued(AnalysisJob checkedJob) {
+            synchronized (lock) {
+                return checkedJob.isPreempted && checkedJob.getIsRequeuedOnPreemption()
+                       && !isShutdown && !isPastDeadline(checkedJob);
+            }
+        }
+
+        private boolean isPastDeadline(AnalysisJob checkedJob) {
+            return checkedJob.getDeadlineMillis() > 0
+                   && System.currentTimeMillis() >= checkedJob.getDeadlineMillis();
+        }
+
+        /**
+         * Returns the limits of a job, with its time limit cut to its deadline.
+         */
+        private SearchLimits getLimits(AnalysisJob searchJob) {
+            SearchLimits limits = searchJob.getLimits();
+            if (searchJob.getDeadlineMillis() == 0) {
+                return limits;
+            }
+            long remainingMillis = Math.max(1, searchJob.getDeadlineMillis()
+                                               - System.currentTimeMillis());
+            long maxTimeMillis = limits.getMaxTimeMillis() == 0 ? remainingMillis
+                                 : Math.min(limits.getMaxTimeMillis(), remainingMillis);
+            return new SearchLimits(limits.getMaxDepth(), limits.getMaxNodes(),
+                                    maxTimeMillis);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package analysis;
+
+/**
+ * The state of an AnalysisScheduler as seen through JMX, registered as
+ * "chess.engine:type=AnalysisScheduler,name=" followed by the scheduler name. Wait
+ * times run from submitting a job to its first start.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public interface AnalysisSchedulerMXBean {
+
+    int getWorkerCount();
+
+    int getQueueDepth();
+
+    int getRunningJobs();
+
+    long getCompletedJobs();
+
+    long getCancelledJobs();
+
+    long getExpiredJobs();
+
+    long getPreemptions();
+
+    double getAverageWaitMillis();
+
+    double getAverageInteractiveWaitMillis();
+
+    long getMaxWaitMillis();
+}
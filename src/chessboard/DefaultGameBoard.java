@@ -2,6 +2,7 @@ package chessboard;
 
 import chesspieces.*;
 import gamestate.MoveHistory;
+import notation.FenPosition;
 
 import java.util.Stack;
 
@@ -17,79 +18,212 @@ public class DefaultGameBoard {
 
     private final Stack<MoveHistory> moveHistory;
 
-    private final Piece[] standardDefaultBoard;
-    private final TileUI[] mainChessBoard;
+    private final Piece[] startingBoard;
+    private final Tile[] mainChessBoard;
 
     /**
-     * Constructor for DefaultGameBoard.
+     * Constructor for DefaultGameBoard with the standard starting position.
      * 
      * @param moveHistory the move history of the game.
      * @param isPlayerWhiteSide true if player is white sided, false if not.
      */
     public DefaultGameBoard(Stack<MoveHistory> moveHistory,
                             boolean isPlayerWhiteSide) {
+        this(moveHistory, isPlayerWhiteSide,
+             FenPosition.fromFen(FenPosition.STANDARD_START_FEN));
+    }
+
+    /**
+     * Constructor for DefaultGameBoard with an arbitrary position.
+     * 
+     * @param moveHistory the move history of the game.
+     * @param isPlayerWhiteSide true if player is white sided, false if not.
+     * @param position the position to set up.
+     */
+    public DefaultGameBoard(Stack<MoveHistory> moveHistory,
+                            boolean isPlayerWhiteSide,
+                            FenPosition position) {
         this.moveHistory = moveHistory;
-        this.standardDefaultBoard = setUpStandardBoard(isPlayerWhiteSide);
+        this.startingBoard = setUpPositionBoard(moveHistory,
+                                                       isPlayerWhiteSide, position);
         this.mainChessBoard = setUpMainBoard();
+        seedEnpassantMove(mainChessBoard, moveHistory, isPlayerWhiteSide, position);
     }
 
     /**
-     * Returns a tileUI of size 64 that represents the game's chessboard.
+     * Returns the 64 tiles that represents the game's chessboard.
      * 
      * @return main tile chess board.
      */
-    public TileUI[] getChessBoard() {
+    public Tile[] getChessBoard() {
         return mainChessBoard;
     }
 
     /**
-     * Sets up the main board for the pieces standard starting chess positions.
+     * Places the pieces of a position onto an existing chessboard without creating
+     * any new tiles, and resets the move history to match the position.
+     * 
+     * @param chessBoard the chessboard to set up.
+     * @param moveHistory the move history of the game.
+     * @param isPlayerWhiteSide true if player is white sided, false if not.
+     * @param position the position to set up.
+     */
+    public static void setUpPosition(Tile[] chessBoard,
+                                     Stack<MoveHistory> moveHistory,
+                                     boolean isPlayerWhiteSide,
+                                     FenPosition position) {
+        Piece[] pieces = setUpPositionBoard(moveHistory, isPlayerWhiteSide, position);
+        for (int i = 0; i < chessBoard.length; i++) {
+            chessBoard[i].setAssignedPiece(pieces[i]);
+        }
+        moveHistory.clear();
+        seedEnpassantMove(chessBoard, moveHistory, isPlayerWhiteSide, position);
+    }
+
+    /**
+     * Creates the pieces of a position, indexed by tile ID.
      * 
+     * @param moveHistory the move history of the game.
      * @param isPlayerWhiteSide true if the player is white side.
-     * @return Piece[] representing the starting positions for each piece on chessboard.
+     * @param position the position to set up.
+     * @return Piece[] representing the positions for each piece on chessboard.
      */
-    private Piece[] setUpStandardBoard(boolean isPlayerWhiteSide) {
-        Piece[] standardBoard = new Piece[64];
-        boolean startBotSide = true;
-        boolean startTopSide = false;
-
-        standardBoard[0] = new Rook(isPlayerWhiteSide == false, startTopSide, 0);
-        standardBoard[1] = new Knight(isPlayerWhiteSide == false, startTopSide, 1);
-        standardBoard[2] = new Bishop(isPlayerWhiteSide == false, startTopSide, 2);
-        standardBoard[3] = new Queen(isPlayerWhiteSide == false, startTopSide, 3);
-        standardBoard[4] = new King(isPlayerWhiteSide == false, startTopSide, 4);
-        standardBoard[5] = new Bishop(isPlayerWhiteSide == false, startTopSide, 5);
-        standardBoard[6] = new Knight(isPlayerWhiteSide == false, startTopSide, 6);
-        standardBoard[7] = new Rook(isPlayerWhiteSide == false, startTopSide, 7);
-
-        for (int i = 8; i < 16; i++) {
-            standardBoard[i] = (new Pawn(isPlayerWhiteSide == false,
-                                         startTopSide, i, moveHistory));
-            standardBoard[i + 40] = (new Pawn(isPlayerWhiteSide,
-                                              startBotSide, i + 40, moveHistory));
+    private static Piece[] setUpPositionBoard(Stack<MoveHistory> moveHistory,
+                                              boolean isPlayerWhiteSide,
+                                              FenPosition position) {
+        Piece[] board = new Piece[64];
+        for (int square = 0; square < 64; square++) {
+            char pieceChar = position.getPiece(square);
+            if (pieceChar != FenPosition.EMPTY_SQUARE) {
+                int tileID = FenPosition.toTileID(square, isPlayerWhiteSide);
+                board[tileID] = createPiece(pieceChar, tileID, isPlayerWhiteSide,
+                                            moveHistory);
+            }
         }
 
-        standardBoard[56] = new Rook(isPlayerWhiteSide, startBotSide, 56);
-        standardBoard[57] = new Knight(isPlayerWhiteSide, startBotSide, 57);
-        standardBoard[58] = new Bishop(isPlayerWhiteSide, startBotSide, 58);
-        standardBoard[59] = new Queen(isPlayerWhiteSide, startBotSide, 59);
-        standardBoard[60] = new King(isPlayerWhiteSide, startBotSide, 60);
-        standardBoard[61] = new Bishop(isPlayerWhiteSide, startBotSide, 61);
-        standardBoard[62] = new Knight(isPlayerWhiteSide, startBotSide, 62);
-        standardBoard[63] = new Rook(isPlayerWhiteSide, startBotSide, 63);
+        boolean isWhiteKingHome = isPieceAt(board, 'K', 60, isPlayerWhiteSide);
+        boolean isBlackKingHome = isPieceAt(board, 'k', 4, isPlayerWhiteSide);
+        setCastlingFirstMove(board, 60, 'K', isWhiteKingHome
+                && position.hasCastlingRight(FenPosition.WHITE_KING_SIDE
+                                             | FenPosition.WHITE_QUEEN_SIDE),
+                isPlayerWhiteSide);
+        setCastlingFirstMove(board, 63, 'R', isWhiteKingHome
+                && position.hasCastlingRight(FenPosition.WHITE_KING_SIDE),
+                isPlayerWhiteSide);
+        setCastlingFirstMove(board, 56, 'R', isWhiteKingHome
+                && position.hasCastlingRight(FenPosition.WHITE_QUEEN_SIDE),
+                isPlayerWhiteSide);
+        setCastlingFirstMove(board, 4, 'k', isBlackKingHome
+                && position.hasCastlingRight(FenPosition.BLACK_KING_SIDE
+                                             | FenPosition.BLACK_QUEEN_SIDE),
+                isPlayerWhiteSide);
+        setCastlingFirstMove(board, 7, 'r', isBlackKingHome
+                && position.hasCastlingRight(FenPosition.BLACK_KING_SIDE),
+                isPlayerWhiteSide);
+        setCastlingFirstMove(board, 0, 'r', isBlackKingHome
+                && position.hasCastlingRight(FenPosition.BLACK_QUEEN_SIDE),
+                isPlayerWhiteSide);
+        return board;
+    }
 
-        return standardBoard;
+    /**
+     * Creates a chess piece from its FEN letter.
+     * 
+     * @param pieceChar the FEN letter, upper case for white.
+     * @param tileID the tile ID of the piece.
+     * @param isPlayerWhiteSide true if the player is white side.
+     * @param moveHistory the move history of the game.
+     * @return the new chess piece.
+     */
+    private static Piece createPiece(char pieceChar, int tileID,
+                                     boolean isPlayerWhiteSide,
+                                     Stack<MoveHistory> moveHistory) {
+        boolean isWhite = Character.isUpperCase(pieceChar);
+        boolean isBotSide = isWhite == isPlayerWhiteSide;
+        Piece piece;
+        switch (Character.toLowerCase(pieceChar)) {
+            case 'p':
+                piece = new Pawn(isWhite, isBotSide, tileID, moveHistory);
+                // Pawns may only advance two squares from their starting row.
+                piece.setIsFirstMove(isBotSide ? tileID / 8 == 6 : tileID / 8 == 1);
+                return piece;
+            case 'n':
+                return new Knight(isWhite, isBotSide, tileID);
+            case 'b':
+                return new Bishop(isWhite, isBotSide, tileID);
+            case 'r':
+                piece = new Rook(isWhite, isBotSide, tileID);
+                break;
+            case 'q':
+                return new Queen(isWhite, isBotSide, tileID);
+            default:
+                piece = new King(isWhite, isBotSide, tileID);
+                break;
+        }
+        // Kings and rooks only keep their first move if the position can castle.
+        piece.setIsFirstMove(false);
+        return piece;
+    }
+
+    private static boolean isPieceAt(Piece[] board, char pieceChar, int square,
+                                     boolean isPlayerWhiteSide) {
+        Piece piece = board[FenPosition.toTileID(square, isPlayerWhiteSide)];
+        byte pieceKind = Character.toLowerCase(pieceChar) == 'k' ? Piece.KING : Piece.ROOK;
+        return piece != null
+                && piece.getIsPieceWhite() == Character.isUpperCase(pieceChar)
+                && piece.getPieceKind() == pieceKind;
+    }
+
+    private static void setCastlingFirstMove(Piece[] board, int square, char pieceChar,
+                                             boolean canCastle,
+                                             boolean isPlayerWhiteSide) {
+        if (isPieceAt(board, pieceChar, square, isPlayerWhiteSide)) {
+            board[FenPosition.toTileID(square, isPlayerWhiteSide)].setIsFirstMove(canCastle);
+        }
+    }
+
+    /**
+     * Pushes the double pawn push that created the position's en passant square onto
+     * the move history, since the pawns read en passant rights from the last move.
+     * 
+     * @param chessBoard the chessboard holding the position.
+     * @param moveHistory the move history of the game.
+     * @param isPlayerWhiteSide true if the player is white side.
+     * @param position the position that was set up.
+     */
+    private static void seedEnpassantMove(Tile[] chessBoard,
+                                          Stack<MoveHistory> moveHistory,
+                                          boolean isPlayerWhiteSide,
+                                          FenPosition position) {
+        int enpassantSquare = position.getEnpassantSquare();
+        if (enpassantSquare < 0) {
+            return;
+        }
+        // The pawn that was pushed sits one row past the en passant square.
+        int pawnSquare = position.isWhiteToMove() ? enpassantSquare + 8
+                                                  : enpassantSquare - 8;
+        int originSquare = position.isWhiteToMove() ? enpassantSquare - 8
+                                                    : enpassantSquare + 8;
+        int pawnID = FenPosition.toTileID(pawnSquare, isPlayerWhiteSide);
+        int originID = FenPosition.toTileID(originSquare, isPlayerWhiteSide);
+        Piece pawn = chessBoard[pawnID].getAssignedPiece();
+        if (pawn != null && pawn.getPieceKind() == Piece.PAWN
+                && pawn.getIsPieceWhite() != position.isWhiteToMove()
+                && chessBoard[originID].getAssignedPiece() == null) {
+            pawn.setIsFirstMove(false);
+            moveHistory.push(new MoveHistory(originID, pawnID, pawn, null, true));
+        }
     }
 
     /**
-     * Sets up the TileUI[] board representing our (main) chessboard.
+     * Sets up the Tile[] board representing our (main) chessboard.
      * 
      * @return main tile chessboard.
      */
-    private TileUI[] setUpMainBoard() {
-        TileUI[] chessBoard = new TileUI[64];
+    private Tile[] setUpMainBoard() {
+        Tile[] chessBoard = new Tile[64];
         for (int i = 0; i < chessBoard.length; i++) {
-            chessBoard[i] = new TileUI(i, standardDefaultBoard[i]);
+            chessBoard[i] = new Tile(i, startingBoard[i]);
         }
         return chessBoard;
     }
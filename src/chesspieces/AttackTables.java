@@ -0,0 +1,98 @@
+package chesspieces;
+
+import chessboard.Tile;
+
+/**
+ * Tables of the tiles each piece kind attacks from every tile, so attack tests are
+ * a lookup instead of generating the moves of a piece. The tables follow the same
+ * tile geometry as the move sets of the pieces.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+final class AttackTables {
+
+    private static final int[] KNIGHT_MOVE_SET = {-17, -15, -10, -6, 6, 10, 15, 17};
+    private static final int[] KING_MOVE_SET = {-9, -8, -7, -1, 1, 7, 8, 9};
+
+    private static final long[] KNIGHT_ATTACKS = new long[64];
+    private static final long[] KING_ATTACKS = new long[64];
+    // Index 0 for pawns moving towards tile 0, 1 for pawns moving away from it.
+    private static final long[][] PAWN_ATTACKS = new long[2][64];
+    // The step from one tile towards another on the same line, or 0 if there is none.
+    private static final byte[] RAY_STEPS = new byte[64 * 64];
+
+    static {
+        for (int tileID = 0; tileID < 64; tileID++) {
+            KNIGHT_ATTACKS[tileID] = getStepTargets(tileID, KNIGHT_MOVE_SET);
+            KING_ATTACKS[tileID] = getStepTargets(tileID, KING_MOVE_SET);
+            PAWN_ATTACKS[0][tileID] = getStepTargets(tileID, new int[] {-9, -7});
+            PAWN_ATTACKS[1][tileID] = getStepTargets(tileID, new int[] {7, 9});
+            for (int step : KING_MOVE_SET) {
+                int target = tileID + step;
+                while (isStepOnBoard(target, target - step)) {
+                    RAY_STEPS[tileID * 64 + target] = (byte) step;
+                    target += step;
+                }
+            }
+        }
+    }
+
+    private AttackTables() {}
+
+    static boolean isPawnAttack(boolean isBotSide, int fromID, int toID) {
+        return (PAWN_ATTACKS[isBotSide ? 0 : 1][fromID] & 1L << toID) != 0;
+    }
+
+    static boolean isKnightAttack(int fromID, int toID) {
+        return (KNIGHT_ATTACKS[fromID] & 1L << toID) != 0;
+    }
+
+    static boolean isKingAttack(int fromID, int toID) {
+        return (KING_ATTACKS[fromID] & 1L << toID) != 0;
+    }
+
+    static boolean isDiagonal(int fromID, int toID) {
+        int step = RAY_STEPS[fromID * 64 + toID];
+        return step == 7 || step == -7 || step == 9 || step == -9;
+    }
+
+    static boolean isStraight(int fromID, int toID) {
+        int step = RAY_STEPS[fromID * 64 + toID];
+        return step == 1 || step == -1 || step == 8 || step == -8;
+    }
+
+    /**
+     * Returns whether every tile strictly between two tiles on the same line is
+     * empty.
+     */
+    static boolean isPathClear(Tile[] chessBoard, int fromID, int toID) {
+        int step = RAY_STEPS[fromID * 64 + toID];
+        for (int tileID = fromID + step; tileID != toID; tileID += step) {
+            if (chessBoard[tileID].getAssignedPiece() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long getStepTargets(int fromID, int[] moveSet) {
+        long targets = 0;
+        for (int move : moveSet) {
+            if (isStepOnBoard(fromID + move, fromID)) {
+                targets |= 1L << (fromID + move);
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * Returns whether a step lands on the board without wrapping around to the
+     * other side, the same test as Piece.isWithinLegalColumns.
+     */
+    private static boolean isStepOnBoard(int finalPosition, int currentPosition) {
+        return finalPosition >= 0 && finalPosition <= 63
+               && Math.abs(finalPosition % 8 - currentPosition % 8) <= 2;
+    }
+}
@@ -1,6 +1,6 @@
 package chesspieces;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 
 import java.util.Set;
 
@@ -17,24 +17,13 @@ import java.util.Set;
 public class Bishop extends Piece {
 
     private static final int[] BISHOP_MOVE_SET = {-9, -7, 7, 9};
-    private static final int PIECE_VALUE = 3;
 
     public Bishop(boolean isWhitePiece, boolean isBotSide, int piecePosition) {
-        super(isWhitePiece, isBotSide, piecePosition);
+        super(BISHOP, isWhitePiece, isBotSide, piecePosition);
     }
 
     @Override
-    public String getPieceType() {
-        return "Bishop";
-    }
-
-    @Override
-    public int getPieceValue() {
-        return PIECE_VALUE;
-    }
-
-    @Override
-    public Set<Integer> getAllMoves(TileUI[] chessBoard) {
+    public Set<Integer> getAllMoves(Tile[] chessBoard) {
         return getRepeatedMoves(chessBoard, BISHOP_MOVE_SET);
     }
 }
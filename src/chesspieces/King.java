@@ -1,6 +1,6 @@
 package chesspieces;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 import gamestate.GameState;
 import gamestate.MoveAlgorithm;
 
@@ -20,11 +20,10 @@ import java.util.Set;
 public class King extends Piece {
 
     private static final int[] KING_MOVE_SET = {-9, -8, -7, -1, 1, 7, 8, 9};
-    private static final int PIECE_VALUE = 10;
     private boolean isCheck;
 
     public King(boolean isWhitePiece, boolean isBotSide, int piecePosition) {
-        super(isWhitePiece, isBotSide, piecePosition);
+        super(KING, isWhitePiece, isBotSide, piecePosition);
         isCheck = false;
     }
 
@@ -32,19 +31,9 @@ public class King extends Piece {
         return isCheck;
     }
 
-    @Override
-    public String getPieceType() {
-        return "King";
-    }
-
-    @Override
-    public int getPieceValue() {
-        return PIECE_VALUE;
-    }
-
     @Override
     public Set<Integer> getAllLegalMoves(GameState gameState,
-                                         TileUI[] chessBoard,
+                                         Tile[] chessBoard,
                                          MoveAlgorithm moveAlg) {
         Set<Integer> allMoves = getAllMoves(chessBoard);
         addCastlingMoves(allMoves, gameState, chessBoard);
@@ -61,7 +50,7 @@ public class King extends Piece {
     }
 
     @Override
-    public Set<Integer> getAllMoves(TileUI[] chessBoard) {
+    public Set<Integer> getAllMoves(Tile[] chessBoard) {
         Set<Integer> allMoves = new HashSet<Integer>();
 
         for (int move : KING_MOVE_SET) {
@@ -72,7 +61,7 @@ public class King extends Piece {
     }
 
     private void addNormalMoves(Set<Integer> allMoves,
-                                TileUI[] chessBoard,
+                                Tile[] chessBoard,
                                 int finalPosition) {
         if (isWithinLegalColumns(finalPosition, piecePosition)
                 && (chessBoard[finalPosition].getAssignedPiece() == null
@@ -83,7 +72,7 @@ public class King extends Piece {
 
     private void addCastlingMoves(Set<Integer> allMoves,
                                   GameState gameState,
-                                  TileUI[] chessBoard) {
+                                  Tile[] chessBoard) {
         if (isFirstMove) {
             Rook leftRook = getRook(chessBoard, true);
             Rook rightRook = getRook(chessBoard, false);
@@ -101,11 +90,11 @@ public class King extends Piece {
         }
     }
 
-    private Rook getRook(TileUI[] chessBoard, boolean isLeftSide) {
+    private Rook getRook(Tile[] chessBoard, boolean isLeftSide) {
         int rookPosition = getRookPosition(isLeftSide);
         Piece chessPiece = chessBoard[rookPosition].getAssignedPiece();
         if (chessPiece != null 
-            && chessPiece.getPieceType() == "Rook"
+            && chessPiece.getPieceKind() == ROOK
             && chessPiece.getIsPieceWhite() == this.IS_WHITE_PIECE) {
             return (Rook) chessPiece;
         }
@@ -120,32 +109,43 @@ public class King extends Piece {
         }
     }
 
+    /**
+     * Returns whether castling to the left is barred: a piece stands between the
+     * king and the rook, or the king is in check or would pass through or land on
+     * an attacked tile. The rook itself may be attacked.
+     */
     private boolean getIsLeftCastlingThreatened(GameState gameState,
-                                             TileUI[] chessBoard,
+                                             Tile[] chessBoard,
                                              Rook leftRook) {
-        Set<Integer> enemyMoves = gameState.getAllEnemyMoves(this.IS_WHITE_PIECE);
-        if (enemyMoves.contains(leftRook.piecePosition) 
-            || enemyMoves.contains(this.piecePosition)) {
-            return true;
-        }
         for (int i = leftRook.piecePosition + 1; i < this.piecePosition; i++) {
-            if (chessBoard[i].getAssignedPiece() != null || enemyMoves.contains(i)) {
+            if (chessBoard[i].getAssignedPiece() != null) {
                 return true;
             }
         }
-        return false;
+        return isKingPathAttacked(gameState, -1);
     }
 
+    /**
+     * Returns whether castling to the right is barred, as for the left.
+     */
     private boolean getIsRightCastlingThreatened(GameState gameState,
-                                              TileUI[] chessBoard,
+                                              Tile[] chessBoard,
                                               Rook rightRook) {
-        Set<Integer> enemyMoves = gameState.getAllEnemyMoves(this.IS_WHITE_PIECE);
-        if (enemyMoves.contains(rightRook.piecePosition) 
-            || enemyMoves.contains(this.piecePosition)) {
-            return true;
-        }
         for (int i = rightRook.piecePosition - 1; i > this.piecePosition; i--) {
-            if (chessBoard[i].getAssignedPiece() != null || enemyMoves.contains(i)) {
+            if (chessBoard[i].getAssignedPiece() != null) {
+                return true;
+            }
+        }
+        return isKingPathAttacked(gameState, 1);
+    }
+
+    /**
+     * Returns whether the king's tile or either of the two tiles it crosses when
+     * castling in a direction is attacked.
+     */
+    private boolean isKingPathAttacked(GameState gameState, int direction) {
+        for (int i = 0; i <= 2; i++) {
+            if (gameState.isTileAttacked(piecePosition + i * direction, !IS_WHITE_PIECE)) {
                 return true;
             }
         }
@@ -1,6 +1,6 @@
 package chesspieces;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -18,24 +18,13 @@ import java.util.Set;
 public class Knight extends Piece {
 
     private static final int[] KNIGHT_MOVE_SET = {-17, -15, -10, -6, 6, 10, 15, 17};
-    private static final int PIECE_VALUE = 3;
 
     public Knight(boolean isWhitePiece, boolean isBotSide, int piecePosition) {
-        super(isWhitePiece, isBotSide, piecePosition);
+        super(KNIGHT, isWhitePiece, isBotSide, piecePosition);
     }
 
     @Override
-    public String getPieceType() {
-        return "Knight";
-    }
-
-    @Override
-    public int getPieceValue() {
-        return PIECE_VALUE;
-    }
-
-    @Override
-    public Set<Integer> getAllMoves(TileUI[] chessBoard) {
+    public Set<Integer> getAllMoves(Tile[] chessBoard) {
         Set<Integer> allMoves = new HashSet<Integer>();
 
         for (int move : KNIGHT_MOVE_SET) {
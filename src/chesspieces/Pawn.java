@@ -1,6 +1,6 @@
 package chesspieces;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 import gamestate.MoveHistory;
 
 import java.util.Set;
@@ -20,27 +20,17 @@ import java.util.Stack;
 public class Pawn extends Piece {
 
     private static final int[] PAWN_MOVE_SET = {8, 16, 7, 9};
-    private static final int PIECE_VALUE = 1;
     private Stack<MoveHistory> moveHistory;
+    private Piece[] promotedPieces;
 
     public Pawn(boolean isWhitePiece, boolean isBotSide, int piecePosition, 
                 Stack<MoveHistory> moveHistory) {
-        super(isWhitePiece, isBotSide, piecePosition);
+        super(PAWN, isWhitePiece, isBotSide, piecePosition);
         this.moveHistory = moveHistory;
     }
 
     @Override
-    public String getPieceType() {
-        return "Pawn";
-    }
-
-    @Override
-    public int getPieceValue() {
-        return PIECE_VALUE;
-    }
-
-    @Override
-    public Set<Integer> getAllMoves(TileUI[] chessBoard) {
+    public Set<Integer> getAllMoves(Tile[] chessBoard) {
         Set<Integer> allMoves = new HashSet<Integer>();
 
         for (int move : PAWN_MOVE_SET) {
@@ -54,6 +44,59 @@ public class Pawn extends Piece {
         return allMoves;
     }
 
+    /**
+     * Returns whether the pawn promotes when moving to the given tile.
+     * 
+     * @param finalPosition the tile ID the pawn moves to.
+     * @return true if the tile is on the far row.
+     */
+    public boolean isPromotionMove(int finalPosition) {
+        return IS_BOT_SIDE ? finalPosition < 8 : finalPosition >= 56;
+    }
+
+    /**
+     * Returns the piece this pawn turns into when promoting. The same piece object
+     * is handed out each time so simulated promotions do not create new pieces.
+     * 
+     * @param pieceKind the piece kind to promote to: QUEEN, ROOK, BISHOP or
+     * KNIGHT.
+     * @return the promoted piece.
+     */
+    public Piece getPromotedPiece(byte pieceKind) {
+        if (promotedPieces == null) {
+            promotedPieces = new Piece[4];
+        }
+        int index;
+        switch (pieceKind) {
+            case KNIGHT: index = 0; break;
+            case BISHOP: index = 1; break;
+            case ROOK: index = 2; break;
+            default: index = 3; break;
+        }
+        if (promotedPieces[index] == null) {
+            switch (index) {
+                case 0:
+                    promotedPieces[index] = new Knight(IS_WHITE_PIECE, IS_BOT_SIDE,
+                                                       piecePosition);
+                    break;
+                case 1:
+                    promotedPieces[index] = new Bishop(IS_WHITE_PIECE, IS_BOT_SIDE,
+                                                       piecePosition);
+                    break;
+                case 2:
+                    promotedPieces[index] = new Rook(IS_WHITE_PIECE, IS_BOT_SIDE,
+                                                     piecePosition);
+                    break;
+                default:
+                    promotedPieces[index] = new Queen(IS_WHITE_PIECE, IS_BOT_SIDE,
+                                                      piecePosition);
+                    break;
+            }
+        }
+        promotedPieces[index].setIsFirstMove(false);
+        return promotedPieces[index];
+    }
+
     private int getRespectiveMove(int move) {
         if (IS_BOT_SIDE) {
             return move * -1;
@@ -61,7 +104,7 @@ public class Pawn extends Piece {
         return move;
     }
 
-    private void addNormalMoves(Set<Integer> allMoves, TileUI[] chessBoard,
+    private void addNormalMoves(Set<Integer> allMoves, Tile[] chessBoard,
                                       int finalPosition, int move) {
         if (chessBoard[finalPosition].getAssignedPiece() == null) {
             if (move == 8) {
@@ -74,7 +117,7 @@ public class Pawn extends Piece {
         }
     }
 
-    private void addAttackMoves(Set<Integer> allMoves, TileUI[] chessBoard,
+    private void addAttackMoves(Set<Integer> allMoves, Tile[] chessBoard,
                                       int finalPosition, int move) {
         if ((move == 7 || move == 9)) {
             if (isEnemy(chessBoard[finalPosition])) {
@@ -92,12 +135,12 @@ public class Pawn extends Piece {
                 || !IS_BOT_SIDE && (piecePosition >= 32 && piecePosition <= 39);
     }
 
-    private boolean isEnpassantLegal(TileUI[] chessBoard, int move) {
+    private boolean isEnpassantLegal(Tile[] chessBoard, int move) {
         if (!moveHistory.isEmpty()) {
             MoveHistory recentMove = moveHistory.peek();
 
             if (recentMove.isFirstMove() && recentMove.getPieceMoved()
-                    .getPieceType().equals("Pawn")) {
+                    .getPieceKind() == PAWN) {
 
                 Piece recentPiece = recentMove.getPieceMoved();
                 Piece enpassantPiece = null;
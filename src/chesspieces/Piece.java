@@ -1,6 +1,6 @@
 package chesspieces;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 import gamestate.GameState;
 import gamestate.MoveAlgorithm;
 
@@ -16,16 +16,35 @@ import java.util.Set;
  */
 public abstract class Piece {
 
+    // Piece kinds, in the order of the piece tables.
+    public static final byte PAWN = 0;
+    public static final byte KNIGHT = 1;
+    public static final byte BISHOP = 2;
+    public static final byte ROOK = 3;
+    public static final byte QUEEN = 4;
+    public static final byte KING = 5;
+
+    // The piece code of a black piece is its kind plus this offset.
+    public static final byte BLACK_OFFSET = 6;
+
+    private static final String[] PIECE_TYPES = {"Pawn", "Knight", "Bishop", "Rook",
+                                                 "Queen", "King"};
+    private static final int[] PIECE_VALUES = {1, 3, 3, 5, 7, 10};
+
     protected final boolean IS_WHITE_PIECE;
     protected final boolean IS_BOT_SIDE;
+    protected final byte PIECE_KIND;
     protected int piecePosition;
     protected boolean isFirstMove;
+    protected int listOrder;
 
-    public Piece(boolean isWhite, boolean isBotSide, int piecePosition) {
+    public Piece(byte pieceKind, boolean isWhite, boolean isBotSide, int piecePosition) {
+        this.PIECE_KIND = pieceKind;
         this.IS_WHITE_PIECE = isWhite;
         this.IS_BOT_SIDE = isBotSide;
         this.piecePosition = piecePosition;
         isFirstMove = true;
+        listOrder = -1;
     }
 
     public boolean getIsPieceWhite() {
@@ -48,14 +67,88 @@ public abstract class Piece {
         this.isFirstMove = isFirstMove;
     }
 
-    public abstract String getPieceType();
+    /**
+     * Returns the rank of the piece among its side's pieces, given when it was first
+     * put in a PieceList: tile order for the pieces set up with the board, then the
+     * order of promotion. Moves are generated in this order.
+     * 
+     * @return the list order, or -1 if the piece was never listed.
+     */
+    public int getListOrder() {
+        return listOrder;
+    }
+
+    public void setListOrder(int listOrder) {
+        this.listOrder = listOrder;
+    }
+
+    /**
+     * Returns the kind of the piece, one of PAWN to KING.
+     * 
+     * @return the piece kind.
+     */
+    public byte getPieceKind() {
+        return PIECE_KIND;
+    }
+
+    /**
+     * Returns the kind and color of the piece in one number: the kind for white
+     * pieces, the kind plus BLACK_OFFSET for black ones.
+     * 
+     * @return the piece code, 0 to 11.
+     */
+    public byte getPieceCode() {
+        return (byte) (IS_WHITE_PIECE ? PIECE_KIND : PIECE_KIND + BLACK_OFFSET);
+    }
+
+    /**
+     * Returns the name of the piece kind, for example "Knight". Meant for display;
+     * compare piece kinds with getPieceKind.
+     * 
+     * @return the piece type.
+     */
+    public String getPieceType() {
+        return PIECE_TYPES[PIECE_KIND];
+    }
+
+    public int getPieceValue() {
+        return PIECE_VALUES[PIECE_KIND];
+    }
 
-    public abstract int getPieceValue();
+    /**
+     * Returns whether the piece attacks a tile, that is whether it could capture an
+     * enemy piece standing there. Same as asking whether getAllMoves holds the tile
+     * while an enemy piece stands on it, without generating any moves.
+     * 
+     * @param chessBoard the main chessboard that tracks board-state.
+     * @param tileID the tile ID of the tile.
+     * @return true if the piece attacks the tile.
+     */
+    public boolean isAttacking(Tile[] chessBoard, int tileID) {
+        switch (PIECE_KIND) {
+            case PAWN:
+                return AttackTables.isPawnAttack(IS_BOT_SIDE, piecePosition, tileID);
+            case KNIGHT:
+                return AttackTables.isKnightAttack(piecePosition, tileID);
+            case BISHOP:
+                return AttackTables.isDiagonal(piecePosition, tileID)
+                       && AttackTables.isPathClear(chessBoard, piecePosition, tileID);
+            case ROOK:
+                return AttackTables.isStraight(piecePosition, tileID)
+                       && AttackTables.isPathClear(chessBoard, piecePosition, tileID);
+            case QUEEN:
+                return (AttackTables.isDiagonal(piecePosition, tileID)
+                        || AttackTables.isStraight(piecePosition, tileID))
+                       && AttackTables.isPathClear(chessBoard, piecePosition, tileID);
+            default:
+                return AttackTables.isKingAttack(piecePosition, tileID);
+        }
+    }
 
-    public abstract Set<Integer> getAllMoves(TileUI[] chessBoard);
+    public abstract Set<Integer> getAllMoves(Tile[] chessBoard);
 
     public Set<Integer> getAllLegalMoves(GameState gameState,
-                                         TileUI[] chessBoard,
+                                         Tile[] chessBoard,
                                          MoveAlgorithm moveAlg) {
         Set<Integer> allMoves = getAllMoves(chessBoard);
         Set<Integer> prunedMoves = new HashSet<Integer>();
@@ -69,7 +162,7 @@ public abstract class Piece {
         return prunedMoves;
     }
 
-    protected boolean isEnemy(TileUI tile) {
+    protected boolean isEnemy(Tile tile) {
         Piece assignedPiece = tile.getAssignedPiece();
         if (assignedPiece != null) {
             return assignedPiece.IS_WHITE_PIECE != this.IS_WHITE_PIECE;
@@ -91,7 +184,7 @@ public abstract class Piece {
         return false;
     }
 
-    protected Set<Integer> getRepeatedMoves(TileUI[] chessBoard, int[] moveSet) {
+    protected Set<Integer> getRepeatedMoves(Tile[] chessBoard, int[] moveSet) {
         Set<Integer> allRepeatedMoves = new HashSet<Integer>();
 
         for (int move : moveSet) {
@@ -1,6 +1,6 @@
 package chesspieces;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 
 import java.util.Set;
 
@@ -17,24 +17,13 @@ import java.util.Set;
 public class Queen extends Piece {
 
     private static final int[] QUEEN_MOVE_SET = {-9, -8, -7, -1, 1, 7, 8, 9};
-    private static final int PIECE_VALUE = 7;
 
     public Queen(boolean isWhitePiece, boolean isBotSide, int piecePosition) {
-        super(isWhitePiece, isBotSide, piecePosition);
+        super(QUEEN, isWhitePiece, isBotSide, piecePosition);
     }
 
     @Override
-    public String getPieceType() {
-        return "Queen";
-    }
-
-    @Override
-    public int getPieceValue() {
-        return PIECE_VALUE;
-    }
-
-    @Override
-    public Set<Integer> getAllMoves(TileUI[] chessBoard) {
+    public Set<Integer> getAllMoves(Tile[] chessBoard) {
         return getRepeatedMoves(chessBoard, QUEEN_MOVE_SET);
     }
 }
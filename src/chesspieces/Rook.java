@@ -1,6 +1,6 @@
 package chesspieces;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 
 import java.util.Set;
 
@@ -17,24 +17,13 @@ import java.util.Set;
 public class Rook extends Piece {
 
     private static final int[] ROOK_MOVE_SET = {-8, -1, 1, 8};
-    private static final int PIECE_VALUE = 5;
 
     public Rook(boolean isWhitePiece, boolean isBotSide, int piecePosition) {
-        super(isWhitePiece, isBotSide, piecePosition);
+        super(ROOK, isWhitePiece, isBotSide, piecePosition);
     }
 
     @Override
-    public String getPieceType() {
-        return "Rook";
-    }
-
-    @Override
-    public int getPieceValue() {
-        return PIECE_VALUE;
-    }
-
-    @Override
-    public Set<Integer> getAllMoves(TileUI[] chessBoard) {
+    public Set<Integer> getAllMoves(Tile[] chessBoard) {
         return getRepeatedMoves(chessBoard, ROOK_MOVE_SET);
     }
 }
@@ -0,0 +1,290 @@
+package database;
+
+import engine.Move;
+import engine.MoveGenerator;
+import engine.Zobrist;
+import gamestate.GameState;
+import metrics.BookProbeEvent;
+import notation.FenPosition;
+import notation.PgnGame;
+import notation.SanNotation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A game database written by GameDatabaseBuilder, read through memory-mapped files
+ * so that looking up a position takes a few binary search steps and no game is
+ * replayed. A database is a directory of five files:
+ *
+ * <ul>
+ * <li>games.dat, the moves of every game packed into 16 bits each, one game after
+ * the other.</li>
+ * <li>headers.dat, a 32 byte record per game with the position of its moves and
+ * tags, its length and its result, after a 32 byte file header.</li>
+ * <li>tags.dat, the tag pairs of every game as UTF-8 lines of name, tab, value.</li>
+ * <li>positions.dat, a 16 byte record per position reached in a game: the Zobrist
+ * key, the game, the ply and the move played next, sorted by key.</li>
+ * <li>moves.dat, a 32 byte record per position and move played from it, with the
+ * number of games and their results, sorted by key and then most played first.</li>
+ * </ul>
+ *
+ * <p>Moves are stored with square indices (a8 = 0) in place of tile IDs, so they do
+ * not depend on the side shown at the bottom of a chessboard. Only the first plies
+ * of each game, set when the database is built, are in the position index.
+ *
+ * <p>A database can be read by several threads at once.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class GameDatabase {
+
+    static final String GAMES_FILE = "games.dat";
+    static final String HEADERS_FILE = "headers.dat";
+    static final String TAGS_FILE = "tags.dat";
+    static final String POSITIONS_FILE = "positions.dat";
+    static final String MOVES_FILE = "moves.dat";
+
+    // "CHESSDB1", the first eight bytes of headers.dat.
+    static final long MAGIC = 0x4348455353444231L;
+
+    static final int HEADER_SIZE = 32;
+    static final int POSITION_SIZE = 16;
+    static final int MOVE_STATS_SIZE = 32;
+
+    static final byte UNKNOWN_RESULT = 0;
+    static final byte WHITE_WINS = 1;
+    static final byte DRAW = 2;
+    static final byte BLACK_WINS = 3;
+
+    private final String name;
+    private final MappedFile games;
+    private final MappedFile headers;
+    private final MappedFile tags;
+    private final MappedFile positions;
+    private final MappedFile moves;
+    private final int gameCount;
+    private final int maxPly;
+
+    private GameDatabase(Path directory) throws IOException {
+        this.name = directory.getFileName() != null ? directory.getFileName().toString()
+                                                    : directory.toString();
+        this.headers = MappedFile.map(directory.resolve(HEADERS_FILE));
+        if (headers.size() < HEADER_SIZE || headers.getLong(0) != MAGIC) {
+            throw new IOException("Not a game database: " + directory);
+        }
+        this.gameCount = headers.getInt(8);
+        this.maxPly = headers.getInt(12);
+        this.games = MappedFile.map(directory.resolve(GAMES_FILE));
+        this.tags = MappedFile.map(directory.resolve(TAGS_FILE));
+        this.positions = MappedFile.map(directory.resolve(POSITIONS_FILE));
+        this.moves = MappedFile.map(directory.resolve(MOVES_FILE));
+    }
+
+    /**
+     * Opens a game database. The files are mapped and closed again, so the database
+     * needs no closing.
+     *
+     * @param directory the directory the database was built in.
+     * @return the database.
+     * @throws IOException if a file is missing or is not part of a game database.
+     */
+    public static GameDatabase open(Path directory) throws IOException {
+        return new GameDatabase(directory);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Returns how many plies of each game are in the position index.
+     *
+     * @return the number of plies.
+     */
+    public int getMaxPly() {
+        return maxPly;
+    }
+
+    /**
+     * Looks up what was played from a position, with moves given in square indices.
+     *
+     * @param positionKey the Zobrist key of the position.
+     * @return the statistics; a position no game reached has no games and no moves.
+     */
+    public PositionStats getPositionStats(long positionKey) {
+        BookProbeEvent probeEvent = new BookProbeEvent();
+        probeEvent.begin();
+        int totalGames = 0;
+        int whiteWins = 0;
+        int draws = 0;
+        int blackWins = 0;
+        List<MoveStats> moveStats = new ArrayList<MoveStats>();
+        long recordCount = moves.size() / MOVE_STATS_SIZE;
+        for (long i = findFirst(moves, MOVE_STATS_SIZE, positionKey); i < recordCount
+                && moves.getLong(i * MOVE_STATS_SIZE) == positionKey; i++) {
+            long record = i * MOVE_STATS_SIZE;
+            int move = moves.getShort(record + 8) & 0xFFFF;
+            MoveStats stats = new MoveStats(move, moves.getInt(record + 12),
+                                            moves.getInt(record + 16),
+                                            moves.getInt(record + 20),
+                                            moves.getInt(record + 24));
+            totalGames += stats.getGameCount();
+            whiteWins += stats.getWhiteWins();
+            draws += stats.getDraws();
+            blackWins += stats.getBlackWins();
+            // Games that ended in the position are stored with no move.
+            if (move != Move.NONE) {
+                moveStats.add(stats);
+            }
+        }
+        probeEvent.end();
+        if (probeEvent.shouldCommit()) {
+            probeEvent.source = name;
+            probeEvent.positionKey = positionKey;
+            probeEvent.isFound = totalGames > 0;
+            probeEvent.entryCount = moveStats.size();
+            probeEvent.commit();
+        }
+        return new PositionStats(positionKey, totalGames, whiteWins, draws, blackWins,
+                                 moveStats);
+    }
+
+    /**
+     * Looks up what was played from the current position of a game, with moves given
+     * in the tile IDs of its chessboard.
+     *
+     * @param gameState the position.
+     * @return the statistics; a position no game reached has no games and no moves.
+     */
+    public PositionStats getPositionStats(GameState gameState) {
+        PositionStats stats = getPositionStats(Zobrist.computeKey(gameState));
+        if (gameState.getIsWhiteSide()) {
+            return stats;
+        }
+        List<MoveStats> boardMoves = new ArrayList<MoveStats>(stats.getMoves().size());
+        for (MoveStats moveStats : stats.getMoves()) {
+            boardMoves.add(new MoveStats(toTileMove(moveStats.getMove(), false),
+                                         moveStats.getGameCount(),
+                                         moveStats.getWhiteWins(), moveStats.getDraws(),
+                                         moveStats.getBlackWins()));
+        }
+        return new PositionStats(stats.getPositionKey(), stats.getGameCount(),
+                                 stats.getWhiteWins(), stats.getDraws(),
+                                 stats.getBlackWins(), boardMoves);
+    }
+
+    /**
+     * Finds the games that reached a position, in the order they were added.
+     *
+     * @param positionKey the Zobrist key of the position.
+     * @param maxGames the most games to return.
+     * @return the game indices.
+     */
+    public int[] findGames(long positionKey, int maxGames) {
+        int[] gameIndices = new int[Math.max(0, Math.min(maxGames, 1024))];
+        int count = 0;
+        long recordCount = positions.size() / POSITION_SIZE;
+        for (long i = findFirst(positions, POSITION_SIZE, positionKey); i < recordCount
+                && count < maxGames
+                && positions.getLong(i * POSITION_SIZE) == positionKey; i++) {
+            int gameIndex = positions.getInt(i * POSITION_SIZE + 8);
+            // A game that repeats the position has a record for each time.
+            if (count > 0 && gameIndices[count - 1] == gameIndex) {
+                continue;
+            }
+            if (count == gameIndices.length) {
+                gameIndices = Arrays.copyOf(gameIndices, count * 2);
+            }
+            gameIndices[count++] = gameIndex;
+        }
+        return Arrays.copyOf(gameIndices, count);
+    }
+
+    /**
+     * Reads a game back from the database.
+     *
+     * @param gameIndex the index of the game, below getGameCount.
+     * @return the game with its tag pairs, moves and result.
+     * @throws IllegalArgumentException if there is no such game.
+     */
+    public PgnGame getGame(int gameIndex) {
+        if (gameIndex < 0 || gameIndex >= gameCount) {
+            throw new IllegalArgumentException("No game " + gameIndex + " in " + name);
+        }
+        long header = (long) (gameIndex + 1) * HEADER_SIZE;
+        long moveOffset = headers.getLong(header);
+        long tagOffset = headers.getLong(header + 8);
+        int tagLength = headers.getInt(header + 16);
+        int plyCount = headers.getInt(header + 20);
+        byte result = headers.getByte(header + 24);
+
+        PgnGame game = new PgnGame();
+        byte[] tagBytes = new byte[tagLength];
+        for (int i = 0; i < tagLength; i++) {
+            tagBytes[i] = tags.getByte(tagOffset + i);
+        }
+        for (String line : new String(tagBytes, StandardCharsets.UTF_8).split("\n")) {
+            int tabIndex = line.indexOf('\t');
+            if (tabIndex > 0) {
+                game.setTag(line.substring(0, tabIndex), line.substring(tabIndex + 1));
+            }
+        }
+
+        String startFen = game.getTag("FEN") != null ? game.getTag("FEN")
+                                                     : FenPosition.STANDARD_START_FEN;
+        GameState gameState = GameState.fromFen(startFen, true);
+        for (int ply = 0; ply < plyCount; ply++) {
+            int move = games.getShort((moveOffset + ply) * 2) & 0xFFFF;
+            game.addMove(SanNotation.toSan(gameState, move));
+            MoveGenerator.makeMove(gameState, move);
+        }
+        game.setResult(result == WHITE_WINS ? PgnGame.WHITE_WINS
+                       : result == DRAW ? PgnGame.DRAW
+                       : result == BLACK_WINS ? PgnGame.BLACK_WINS
+                       : PgnGame.UNKNOWN_RESULT);
+        return game;
+    }
+
+    /**
+     * Converts a move between square indices and the tile IDs of a chessboard. The
+     * conversion is its own inverse.
+     *
+     * @param move the encoded move.
+     * @param isWhiteSide true if white is on the bottom of the chessboard.
+     * @return the converted move.
+     */
+    static int toTileMove(int move, boolean isWhiteSide) {
+        return Move.create(FenPosition.toTileID(Move.getFromID(move), isWhiteSide),
+                           FenPosition.toTileID(Move.getToID(move), isWhiteSide),
+                           Move.getPromotion(move));
+    }
+
+    /**
+     * Returns the first record of a sorted file with a key, or the record count if
+     * no record has it.
+     */
+    private static long findFirst(MappedFile file, int recordSize, long key) {
+        long low = 0;
+        long high = file.size() / recordSize;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (file.getLong(middle * recordSize) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,502 @@
+package database;
+
+import engine.Move;
+import engine.Zobrist;
+import gamestate.GameState;
+import notation.PgnGame;
+import notation.PgnMoveResolver;
+import notation.PgnReader;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Builds a GameDatabase from a PGN file. The file is split into byte ranges at game
+ * boundaries and the ranges are read by a pool of threads, each playing the moves
+ * of its games on its own board and sorting the positions it reached by Zobrist key.
+ * The sorted ranges are then merged into the position index, adding up the results
+ * of each move as they pass.
+ *
+ * <p>Games with an illegal move or starting position are left out. A game that
+ * reaches a position more than once counts once in its statistics.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class GameDatabaseBuilder {
+
+    public static final int DEFAULT_MAX_PLY = 40;
+
+    // Ranges per thread, so that threads given quick ranges can take more.
+    private static final int RANGES_PER_THREAD = 4;
+
+    private final int threadCount;
+    private final int maxPly;
+    private int skippedGameCount;
+
+    /**
+     * Constructor for GameDatabaseBuilder.
+     *
+     * @param threadCount the number of threads reading games.
+     * @param maxPly how many plies of each game go into the position index.
+     * @throws IllegalArgumentException if maxPly is not between 0 and 65535.
+     */
+    public GameDatabaseBuilder(int threadCount, int maxPly) {
+        if (maxPly < 0 || maxPly > 0xFFFF) {
+            throw new IllegalArgumentException("Plies to index must be between 0 and"
+                                               + " 65535: " + maxPly);
+        }
+        this.threadCount = Math.max(1, threadCount);
+        this.maxPly = maxPly;
+    }
+
+    /**
+     * Returns how many games of the last build were left out for an illegal move or
+     * starting position.
+     *
+     * @return the number of games left out.
+     */
+    public int getSkippedGameCount() {
+        return skippedGameCount;
+    }
+
+    /**
+     * Builds a database from the games of a PGN file, replacing any database in the
+     * directory.
+     *
+     * @param pgnFile the PGN file.
+     * @param directory the directory of the database; created if missing.
+     * @return the number of games in the database.
+     * @throws IOException if a file cannot be read or written.
+     * @throws InterruptedException if interrupted while waiting for the threads.
+     */
+    public int build(Path pgnFile, Path directory) throws IOException, InterruptedException {
+        List<GameRange> ranges;
+        try (PgnReader reader = PgnReader.open(pgnFile)) {
+            ranges = readRanges(reader);
+        }
+
+        skippedGameCount = 0;
+        long gameCount = 0;
+        for (GameRange range : ranges) {
+            range.gameOffset = (int) gameCount;
+            gameCount += range.gameCount;
+            skippedGameCount += range.skippedGameCount;
+        }
+        if (gameCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many games for one database: "
+                                               + gameCount);
+        }
+
+        Files.createDirectories(directory);
+        writeGames(ranges, directory);
+        writePositions(ranges, directory);
+        return (int) gameCount;
+    }
+
+    /**
+     * Reads the file in ranges on a pool of threads, keeping the ranges in file order.
+     */
+    private List<GameRange> readRanges(PgnReader reader)
+            throws IOException, InterruptedException {
+        int rangeCount = threadCount * RANGES_PER_THREAD;
+        long[] starts = new long[rangeCount + 1];
+        for (int i = 0; i <= rangeCount; i++) {
+            starts[i] = i == rangeCount ? reader.getSize()
+                                        : reader.findGameStart(reader.getSize() * i
+                                                               / rangeCount);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("database-worker-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<GameRange>> futures = new ArrayList<Future<GameRange>>(rangeCount);
+        for (int i = 0; i < rangeCount; i++) {
+            long start = starts[i];
+            long end = starts[i + 1];
+            futures.add(executor.submit(() -> {
+                GameRange range = new GameRange(maxPly);
+                reader.read(start, end, range);
+                range.sortPositions();
+                return range;
+            }));
+        }
+        executor.shutdown();
+        List<GameRange> ranges = new ArrayList<GameRange>(rangeCount);
+        try {
+            for (Future<GameRange> future : futures) {
+                ranges.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            executor.shutdownNow();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IllegalStateException("Reading games failed", cause);
+        }
+        return ranges;
+    }
+
+    /**
+     * Writes the moves, headers and tags of the games, one range after the other.
+     */
+    private void writeGames(List<GameRange> ranges, Path directory) throws IOException {
+        long gameCount = 0;
+        for (GameRange range : ranges) {
+            gameCount += range.gameCount;
+        }
+        try (DataOutputStream games = openOutput(directory.resolve(
+                     GameDatabase.GAMES_FILE));
+             DataOutputStream headers = openOutput(directory.resolve(
+                     GameDatabase.HEADERS_FILE));
+             DataOutputStream tags = openOutput(directory.resolve(
+                     GameDatabase.TAGS_FILE))) {
+            headers.writeLong(GameDatabase.MAGIC);
+            headers.writeInt((int) gameCount);
+            headers.writeInt(maxPly);
+            headers.write(new byte[GameDatabase.HEADER_SIZE - 16]);
+
+            long moveOffset = 0;
+            long tagOffset = 0;
+            for (GameRange range : ranges) {
+                for (int i = 0; i < range.moveCount; i++) {
+                    games.writeShort(range.moves[i]);
+                }
+                range.tags.writeTo(tags);
+                for (int game = 0; game < range.gameCount; game++) {
+                    int tagLength = range.tagEnds[game]
+                                    - (game > 0 ? range.tagEnds[game - 1] : 0);
+                    headers.writeLong(moveOffset);
+                    headers.writeLong(tagOffset);
+                    headers.writeInt(tagLength);
+                    headers.writeInt(range.plyCounts[game]);
+                    headers.writeByte(range.results[game]);
+                    headers.write(new byte[GameDatabase.HEADER_SIZE - 25]);
+                    moveOffset += range.plyCounts[game];
+                    tagOffset += tagLength;
+                }
+                // The games are written; only the positions are still needed.
+                range.moves = null;
+                range.tags = null;
+            }
+        }
+    }
+
+    /**
+     * Merges the sorted positions of the ranges into the position index, and writes
+     * the statistics of each position and move as the merge passes its key.
+     */
+    private void writePositions(List<GameRange> ranges, Path directory)
+            throws IOException {
+        byte[] results = new byte[ranges.isEmpty() ? 0
+                                  : ranges.get(ranges.size() - 1).gameOffset
+                                    + ranges.get(ranges.size() - 1).gameCount];
+        PriorityQueue<GameRange> queue = new PriorityQueue<GameRange>(
+                Math.max(1, ranges.size()), (range1, range2) -> {
+                    int comparison = Long.compare(range1.keys[range1.mergeIndex],
+                                                  range2.keys[range2.mergeIndex]);
+                    return comparison != 0 ? comparison
+                                           : Integer.compare(range1.gameOffset,
+                                                             range2.gameOffset);
+                });
+        for (GameRange range : ranges) {
+            System.arraycopy(range.results, 0, results, range.gameOffset,
+                             range.gameCount);
+            if (range.positionCount > 0) {
+                queue.add(range);
+            }
+        }
+
+        MoveCounter moveCounter = new MoveCounter();
+        try (DataOutputStream positions = openOutput(directory.resolve(
+                     GameDatabase.POSITIONS_FILE));
+             DataOutputStream moves = openOutput(directory.resolve(
+                     GameDatabase.MOVES_FILE))) {
+            long currentKey = 0;
+            int lastGame = -1;
+            while (!queue.isEmpty()) {
+                GameRange range = queue.poll();
+                long key = range.keys[range.mergeIndex];
+                long value = range.values[range.mergeIndex];
+                if (++range.mergeIndex < range.positionCount) {
+                    queue.add(range);
+                } else {
+                    range.keys = null;
+                    range.values = null;
+                }
+
+                int game = range.gameOffset + (int) (value >>> 32);
+                int move = (int) value & 0xFFFF;
+                positions.writeLong(key);
+                positions.writeInt(game);
+                positions.writeInt((int) value);
+
+                if (key != currentKey || lastGame < 0) {
+                    moveCounter.write(currentKey, moves);
+                    currentKey = key;
+                    lastGame = -1;
+                }
+                if (game != lastGame) {
+                    moveCounter.add(move, results[game]);
+                    lastGame = game;
+                }
+            }
+            moveCounter.write(currentKey, moves);
+        }
+    }
+
+    private static DataOutputStream openOutput(Path file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file),
+                                                             1 << 16));
+    }
+
+    /**
+     * The games of one byte range of the PGN file, read by one thread. Positions are
+     * kept as a key and a value of game, ply and next move, game being the index
+     * within the range.
+     */
+    private static class GameRange extends PgnMoveResolver {
+
+        private final int maxPly;
+        private final StringBuilder gameTags;
+        private ByteArrayOutputStream tags;
+        private short[] moves;
+        private int moveCount;
+        private int[] plyCounts;
+        private int[] tagEnds;
+        private byte[] results;
+        private int gameCount;
+        private int skippedGameCount;
+        private long[] keys;
+        private long[] values;
+        private int positionCount;
+
+        // The first move and position of the game being read.
+        private int gameMoveStart;
+        private int gamePositionStart;
+
+        private int gameOffset;
+        private int mergeIndex;
+
+        GameRange(int maxPly) {
+            this.maxPly = maxPly;
+            this.gameTags = new StringBuilder(256);
+            this.tags = new ByteArrayOutputStream(1 << 16);
+            this.moves = new short[1 << 12];
+            this.plyCounts = new int[64];
+            this.tagEnds = new int[64];
+            this.results = new byte[64];
+            this.keys = new long[1 << 12];
+            this.values = new long[1 << 12];
+        }
+
+        @Override
+        public void startGame() {
+            super.startGame();
+            gameTags.setLength(0);
+            gameMoveStart = moveCount;
+            gamePositionStart = positionCount;
+        }
+
+        @Override
+        public void tag(CharSequence name, CharSequence value) {
+            super.tag(name, value);
+            gameTags.append(name).append('\t');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                gameTags.append(c == '\t' || c == '\n' ? ' ' : c);
+            }
+            gameTags.append('\n');
+        }
+
+        @Override
+        protected void moveResolved(GameState gameState, int move) {
+            // Boards set up by PgnMoveResolver have white on the bottom, where tile
+            // IDs equal square indices.
+            int ply = getPlyCount();
+            if (ply < maxPly) {
+                addPosition(Zobrist.computeKey(gameState), ply, move);
+            }
+            if (moveCount == moves.length) {
+                moves = Arrays.copyOf(moves, moveCount * 2);
+            }
+            moves[moveCount++] = (short) move;
+        }
+
+        @Override
+        public void endGame(CharSequence result) {
+            GameState gameState = getGameState();
+            if (isIllegal()) {
+                moveCount = gameMoveStart;
+                positionCount = gamePositionStart;
+                skippedGameCount++;
+                return;
+            }
+            if (getPlyCount() < maxPly) {
+                addPosition(Zobrist.computeKey(gameState), getPlyCount(), Move.NONE);
+            }
+
+            if (gameCount == plyCounts.length) {
+                plyCounts = Arrays.copyOf(plyCounts, gameCount * 2);
+                tagEnds = Arrays.copyOf(tagEnds, gameCount * 2);
+                results = Arrays.copyOf(results, gameCount * 2);
+            }
+            byte[] tagBytes = gameTags.toString().getBytes(StandardCharsets.UTF_8);
+            tags.write(tagBytes, 0, tagBytes.length);
+            plyCounts[gameCount] = getPlyCount();
+            tagEnds[gameCount] = tags.size();
+            results[gameCount] = toResultCode(result);
+            gameCount++;
+        }
+
+        private void addPosition(long key, int ply, int move) {
+            if (positionCount == keys.length) {
+                keys = Arrays.copyOf(keys, positionCount * 2);
+                values = Arrays.copyOf(values, positionCount * 2);
+            }
+            keys[positionCount] = key;
+            values[positionCount] = (long) gameCount << 32 | (long) ply << 16 | move;
+            positionCount++;
+        }
+
+        private static byte toResultCode(CharSequence result) {
+            if (result == null) {
+                return GameDatabase.UNKNOWN_RESULT;
+            } else if (PgnGame.WHITE_WINS.contentEquals(result)) {
+                return GameDatabase.WHITE_WINS;
+            } else if (PgnGame.DRAW.contentEquals(result)) {
+                return GameDatabase.DRAW;
+            } else if (PgnGame.BLACK_WINS.contentEquals(result)) {
+                return GameDatabase.BLACK_WINS;
+            }
+            return GameDatabase.UNKNOWN_RESULT;
+        }
+
+        /**
+         * Sorts the positions by key with a least significant digit radix sort. The
+         * sort is stable and positions were added in game and ply order, so positions
+         * with the same key stay in that order.
+         */
+        void sortPositions() {
+            long[] keyBuffer = new long[positionCount];
+            long[] valueBuffer = new long[positionCount];
+            int[] digitStarts = new int[1 << 16];
+            long[] sourceKeys = keys;
+            long[] sourceValues = values;
+            for (int shift = 0; shift < 64; shift += 16) {
+                Arrays.fill(digitStarts, 0);
+                for (int i = 0; i < positionCount; i++) {
+                    digitStarts[getDigit(sourceKeys[i], shift)]++;
+                }
+                int start = 0;
+                for (int digit = 0; digit < digitStarts.length; digit++) {
+                    int count = digitStarts[digit];
+                    digitStarts[digit] = start;
+                    start += count;
+                }
+                for (int i = 0; i < positionCount; i++) {
+                    int target = digitStarts[getDigit(sourceKeys[i], shift)]++;
+                    keyBuffer[target] = sourceKeys[i];
+                    valueBuffer[target] = sourceValues[i];
+                }
+                long[] swap = sourceKeys;
+                sourceKeys = keyBuffer;
+                keyBuffer = swap;
+                swap = sourceValues;
+                sourceValues = valueBuffer;
+                valueBuffer = swap;
+            }
+            // Four passes leave the sorted positions back in the original arrays.
+        }
+
+        /**
+         * Returns 16 bits of a key, with the sign bit flipped so that keys sort in
+         * signed order.
+         */
+        private static int getDigit(long key, int shift) {
+            return (int) ((key ^ Long.MIN_VALUE) >>> shift) & 0xFFFF;
+        }
+    }
+
+    /**
+     * Counts the games and results of the moves played from one position.
+     */
+    private static class MoveCounter {
+
+        private int[] moves = new int[64];
+        // Games, white wins, draws and black wins of each move.
+        private int[][] counts = new int[64][4];
+        private int moveCount;
+
+        void add(int move, byte result) {
+            int index = 0;
+            while (index < moveCount && moves[index] != move) {
+                index++;
+            }
+            if (index == moveCount) {
+                if (moveCount == moves.length) {
+                    moves = Arrays.copyOf(moves, moveCount * 2);
+                    counts = Arrays.copyOf(counts, moveCount * 2);
+                    for (int i = moveCount; i < counts.length; i++) {
+                        counts[i] = new int[4];
+                    }
+                }
+                moves[moveCount] = move;
+                Arrays.fill(counts[moveCount], 0);
+                moveCount++;
+            }
+            counts[index][0]++;
+            if (result != GameDatabase.UNKNOWN_RESULT) {
+                counts[index][result]++;
+            }
+        }
+
+        /**
+         * Writes the moves counted so far, most played first, and starts counting
+         * again.
+         */
+        void write(long key, DataOutputStream output) throws IOException {
+            for (int i = 1; i < moveCount; i++) {
+                int move = moves[i];
+                int[] moveCounts = counts[i];
+                int j = i - 1;
+                while (j >= 0 && (counts[j][0] < moveCounts[0]
+                                  || (counts[j][0] == moveCounts[0] && moves[j] > move))) {
+                    moves[j + 1] = moves[j];
+                    counts[j + 1] = counts[j];
+                    j--;
+                }
+                moves[j + 1] = move;
+                counts[j + 1] = moveCounts;
+            }
+            for (int i = 0; i < moveCount; i++) {
+                output.writeLong(key);
+                output.writeShort(moves[i]);
+                output.writeShort(0);
+                for (int count : counts[i]) {
+                    output.writeInt(count);
+                }
+                output.writeInt(0);
+            }
+            moveCount = 0;
+        }
+    }
+}
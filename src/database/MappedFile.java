@@ -0,0 +1,66 @@
+package database;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only file mapped into memory in regions of 1 GB, since one mapping holds at
+ * most 2 GB. Records of the database files are 2, 16 or 32 bytes long, so none
+ * crosses a region boundary. The mapping stays valid after the file is closed.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+final class MappedFile {
+
+    private static final int REGION_SHIFT = 30;
+    private static final long REGION_MASK = (1L << REGION_SHIFT) - 1;
+
+    private final MappedByteBuffer[] regions;
+    private final long size;
+
+    private MappedFile(FileChannel channel) throws IOException {
+        this.size = channel.size();
+        this.regions = new MappedByteBuffer[(int) ((size + REGION_MASK)
+                                                   >>> REGION_SHIFT)];
+        for (int i = 0; i < regions.length; i++) {
+            long start = (long) i << REGION_SHIFT;
+            regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                                     Math.min(REGION_MASK + 1, size - start));
+        }
+    }
+
+    static MappedFile map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedFile(channel);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    byte getByte(long position) {
+        return regions[(int) (position >>> REGION_SHIFT)]
+                .get((int) (position & REGION_MASK));
+    }
+
+    short getShort(long position) {
+        return regions[(int) (position >>> REGION_SHIFT)]
+                .getShort((int) (position & REGION_MASK));
+    }
+
+    int getInt(long position) {
+        return regions[(int) (position >>> REGION_SHIFT)]
+                .getInt((int) (position & REGION_MASK));
+    }
+
+    long getLong(long position) {
+        return regions[(int) (position >>> REGION_SHIFT)]
+                .getLong((int) (position & REGION_MASK));
+    }
+}
@@ -0,0 +1,32 @@
+package database;
+
+/**
+ * How often a move was played from a position of a game database, and the results
+ * of the games it was played in.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class MoveStats extends ResultCounts {
+
+    private final int move;
+
+    /**
+     * Constructor for MoveStats.
+     *
+     * @param move the encoded move.
+     * @param gameCount the number of games the move was played in.
+     * @param whiteWins the number of those games white won.
+     * @param draws the number of those games drawn.
+     * @param blackWins the number of those games black won.
+     */
+    public MoveStats(int move, int gameCount, int whiteWins, int draws, int blackWins) {
+        super(gameCount, whiteWins, draws, blackWins);
+        this.move = move;
+    }
+
+    public int getMove() {
+        return move;
+    }
+}
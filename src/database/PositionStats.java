@@ -0,0 +1,56 @@
+package database;
+
+import java.util.List;
+
+/**
+ * The games of a game database that reached a position: their results, and the
+ * moves played next, most played first. The totals also count games that ended in
+ * the position, so they can exceed the sum over the moves.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class PositionStats extends ResultCounts {
+
+    private final long positionKey;
+    private final List<MoveStats> moves;
+
+    /**
+     * Constructor for PositionStats.
+     *
+     * @param positionKey the Zobrist key of the position.
+     * @param gameCount the number of games that reached the position.
+     * @param whiteWins the number of those games white won.
+     * @param draws the number of those games drawn.
+     * @param blackWins the number of those games black won.
+     * @param moves the moves played from the position, most played first.
+     */
+    public PositionStats(long positionKey, int gameCount, int whiteWins, int draws,
+                         int blackWins, List<MoveStats> moves) {
+        super(gameCount, whiteWins, draws, blackWins);
+        this.positionKey = positionKey;
+        this.moves = moves;
+    }
+
+    public long getPositionKey() {
+        return positionKey;
+    }
+
+    public List<MoveStats> getMoves() {
+        return moves;
+    }
+
+    /**
+     * Returns the move played most often from the position.
+     *
+     * @param minGameCount the fewest games the move must have been played in.
+     * @return the move statistics, or null if no move was played that often.
+     */
+    public MoveStats getMostPlayedMove(int minGameCount) {
+        if (moves.isEmpty() || moves.get(0).getGameCount() < minGameCount) {
+            return null;
+        }
+        return moves.get(0);
+    }
+}
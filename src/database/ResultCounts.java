@@ -0,0 +1,63 @@
+package database;
+
+/**
+ * How many games of a game database ended in each result. Games without a result
+ * count towards the total only.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public abstract class ResultCounts {
+
+    private final int gameCount;
+    private final int whiteWins;
+    private final int draws;
+    private final int blackWins;
+
+    /**
+     * Constructor for ResultCounts.
+     *
+     * @param gameCount the number of games.
+     * @param whiteWins the number of games white won.
+     * @param draws the number of drawn games.
+     * @param blackWins the number of games black won.
+     */
+    protected ResultCounts(int gameCount, int whiteWins, int draws, int blackWins) {
+        this.gameCount = gameCount;
+        this.whiteWins = whiteWins;
+        this.draws = draws;
+        this.blackWins = blackWins;
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public int getWhiteWins() {
+        return whiteWins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public int getBlackWins() {
+        return blackWins;
+    }
+
+    /**
+     * Returns the average score of one side over the games with a result, counting
+     * a win as 1 and a draw as 0.5.
+     *
+     * @param isWhite true for the score of white, false for black.
+     * @return the score from 0 to 1, or 0.5 if no game has a result.
+     */
+    public double getScore(boolean isWhite) {
+        int decidedCount = whiteWins + draws + blackWins;
+        if (decidedCount == 0) {
+            return 0.5;
+        }
+        return ((isWhite ? whiteWins : blackWins) + draws * 0.5) / decidedCount;
+    }
+}
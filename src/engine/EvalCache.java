@@ -0,0 +1,57 @@
+package engine;
+
+import java.util.Arrays;
+
+/**
+ * A small direct-mapped cache of static evaluations, so positions reached again
+ * through transpositions or repeated quiescence searches are not evaluated twice.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class EvalCache {
+
+    public static final int NO_SCORE = Integer.MIN_VALUE;
+
+    public static final int DEFAULT_SIZE = 1 << 16;
+
+    private final long[] keys;
+    private final int[] scores;
+    private final int mask;
+
+    /**
+     * Constructor for EvalCache.
+     * 
+     * @param size the number of entries, rounded down to a power of two.
+     */
+    public EvalCache(int size) {
+        int entryCount = Integer.highestOneBit(Math.max(1024, size));
+        keys = new long[entryCount];
+        scores = new int[entryCount];
+        mask = entryCount - 1;
+        clear();
+    }
+
+    /**
+     * Returns the cached evaluation of a position.
+     * 
+     * @param key the Zobrist key of the position.
+     * @return the score, or NO_SCORE.
+     */
+    public int probe(long key) {
+        int index = (int) key & mask;
+        return keys[index] == key ? scores[index] : NO_SCORE;
+    }
+
+    public void store(long key, int score) {
+        int index = (int) key & mask;
+        keys[index] = key;
+        scores[index] = score;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(scores, NO_SCORE);
+    }
+}
@@ -0,0 +1,253 @@
+package engine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.StringTokenizer;
+
+/**
+ * The weights of the evaluation: a centipawn value per piece type and a piece-square
+ * table per piece type, written from white's point of view with a8 as square 0.
+ * Black pieces use the vertically mirrored square. Parameters are stored in one
+ * flat array so the tuner can treat them as a vector:
+ *
+ * <pre>
+ *   0-5     the values of the pawn, knight, bishop, rook, queen and king.
+ *   6-389   the piece-square tables, 64 entries per piece type in the same order.
+ * </pre>
+ *
+ * The engine loads its parameters once at startup from the file named by the
+ * "chess.evalfile" system property, or "eval.params" in the working directory, and
+ * falls back to the built-in defaults when there is no such file.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class EvalParameters {
+
+    public static final int PIECE_TYPE_COUNT = 6;
+    public static final int PIECE_SQUARE_OFFSET = PIECE_TYPE_COUNT;
+    public static final int PARAMETER_COUNT = PIECE_SQUARE_OFFSET + PIECE_TYPE_COUNT * 64;
+
+    public static final String DEFAULT_FILE_NAME = "eval.params";
+
+    private static final String[] PIECE_TYPES = {"Pawn", "Knight", "Bishop", "Rook",
+                                                 "Queen", "King"};
+    private static final int[] DEFAULT_PIECE_VALUES = {100, 300, 300, 500, 700, 0};
+
+    private static volatile EvalParameters startupParameters;
+
+    private final int[] parameters;
+
+    /**
+     * Constructor for EvalParameters.
+     * 
+     * @param parameters the PARAMETER_COUNT parameter values, copied.
+     */
+    public EvalParameters(int[] parameters) {
+        if (parameters.length != PARAMETER_COUNT) {
+            throw new IllegalArgumentException("Expected " + PARAMETER_COUNT
+                                               + " parameters, got " + parameters.length);
+        }
+        this.parameters = parameters.clone();
+    }
+
+    /**
+     * Returns the built-in parameters: the classic piece values and empty tables.
+     * 
+     * @return the default parameters.
+     */
+    public static EvalParameters defaults() {
+        int[] parameters = new int[PARAMETER_COUNT];
+        System.arraycopy(DEFAULT_PIECE_VALUES, 0, parameters, 0, PIECE_TYPE_COUNT);
+        return new EvalParameters(parameters);
+    }
+
+    /**
+     * Returns the parameters the engine was started with, loading them on first use.
+     * 
+     * @return the startup parameters.
+     */
+    public static EvalParameters getStartupParameters() {
+        EvalParameters result = startupParameters;
+        if (result == null) {
+            synchronized (EvalParameters.class) {
+                result = startupParameters;
+                if (result == null) {
+                    startupParameters = result = loadStartupParameters();
+                }
+            }
+        }
+        return result;
+    }
+
+    private static EvalParameters loadStartupParameters() {
+        String fileName = System.getProperty("chess.evalfile");
+        Path path = Paths.get(fileName != null ? fileName : DEFAULT_FILE_NAME);
+        if (!Files.isRegularFile(path)) {
+            if (fileName != null) {
+                System.err.println("Evaluation file " + path + " not found, using defaults");
+            }
+            return defaults();
+        }
+        try {
+            return load(path);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Cannot load " + path + ", using defaults: "
+                               + e.getMessage());
+            return defaults();
+        }
+    }
+
+    /**
+     * Returns the index of a piece value in the parameter vector.
+     * 
+     * @param pieceType the piece type index, 0 for pawns to 5 for kings.
+     * @return the parameter index.
+     */
+    public static int getPieceValueIndex(int pieceType) {
+        return pieceType;
+    }
+
+    /**
+     * Returns the index of a piece-square entry in the parameter vector.
+     * 
+     * @param pieceType the piece type index, 0 for pawns to 5 for kings.
+     * @param square the square from white's point of view, a8 = 0 to h1 = 63.
+     * @return the parameter index.
+     */
+    public static int getPieceSquareIndex(int pieceType, int square) {
+        return PIECE_SQUARE_OFFSET + pieceType * 64 + square;
+    }
+
+    public int get(int index) {
+        return parameters[index];
+    }
+
+    public int getPieceValue(int pieceType) {
+        return parameters[pieceType];
+    }
+
+    public int getPieceSquare(int pieceType, int square) {
+        return parameters[PIECE_SQUARE_OFFSET + pieceType * 64 + square];
+    }
+
+    /**
+     * Returns a copy of the parameter vector.
+     * 
+     * @return the parameter values.
+     */
+    public int[] toArray() {
+        return parameters.clone();
+    }
+
+    /**
+     * Reads parameters from a file written by save.
+     * 
+     * @param path the parameter file.
+     * @return the parameters.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is malformed.
+     */
+    public static EvalParameters load(Path path) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * Parses parameters: a "values" line with the six piece values, then for each
+     * piece type a "table" line with its name followed by 64 numbers. Lines starting
+     * with '#' are comments, and anything left out keeps its default.
+     * 
+     * @param reader the parameter text.
+     * @return the parameters.
+     * @throws IOException if reading fails.
+     * @throws IllegalArgumentException if the text is malformed.
+     */
+    public static EvalParameters parse(Reader reader) throws IOException {
+        int[] parameters = defaults().parameters;
+        StringBuilder text = new StringBuilder();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (!line.startsWith("#")) {
+                text.append(line).append('\n');
+            }
+        }
+
+        StringTokenizer tokens = new StringTokenizer(text.toString());
+        while (tokens.hasMoreTokens()) {
+            String section = tokens.nextToken();
+            if (section.equals("values")) {
+                readNumbers(tokens, parameters, 0, PIECE_TYPE_COUNT);
+            } else if (section.equals("table")) {
+                String pieceType = tokens.hasMoreTokens() ? tokens.nextToken() : "";
+                int index = Arrays.asList(PIECE_TYPES).indexOf(pieceType);
+                if (index < 0) {
+                    throw new IllegalArgumentException("Unknown piece type: " + pieceType);
+                }
+                readNumbers(tokens, parameters, getPieceSquareIndex(index, 0), 64);
+            } else {
+                throw new IllegalArgumentException("Unknown section: " + section);
+            }
+        }
+        return new EvalParameters(parameters);
+    }
+
+    private static void readNumbers(StringTokenizer tokens, int[] parameters, int offset,
+                                    int count) {
+        for (int i = 0; i < count; i++) {
+            if (!tokens.hasMoreTokens()) {
+                throw new IllegalArgumentException("Expected " + count + " numbers");
+            }
+            String token = tokens.nextToken();
+            try {
+                parameters[offset + i] = Integer.parseInt(token);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Expected a number: " + token);
+            }
+        }
+    }
+
+    /**
+     * Writes the parameters to a file in the format read by load.
+     * 
+     * @param path the parameter file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(toString());
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("# Piece values: pawn, knight, bishop, rook, queen, king\n");
+        text.append("values");
+        for (int pieceType = 0; pieceType < PIECE_TYPE_COUNT; pieceType++) {
+            text.append(' ').append(getPieceValue(pieceType));
+        }
+        text.append('\n');
+        for (int pieceType = 0; pieceType < PIECE_TYPE_COUNT; pieceType++) {
+            text.append("\n# Rank 8 first, from white's point of view\n");
+            text.append("table ").append(PIECE_TYPES[pieceType]).append('\n');
+            for (int square = 0; square < 64; square++) {
+                text.append(String.format("%5d", getPieceSquare(pieceType, square)));
+                if ((square & 7) == 7) {
+                    text.append('\n');
+                }
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package engine;
+
+import gamestate.GameState;
+
+/**
+ * An evaluation the search can use. Evaluations that keep incremental state are told
+ * about every move the search makes and takes back; the others ignore those calls.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public interface EvaluationFunction {
+
+    /**
+     * Prepares for a new position, for example the root of a search.
+     * 
+     * @param gameState the position.
+     */
+    void setPosition(GameState gameState);
+
+    /**
+     * Called just before a move is played on the position.
+     * 
+     * @param gameState the position before the move.
+     * @param move the encoded move.
+     */
+    void makeMove(GameState gameState, int move);
+
+    /**
+     * Called just after the last move was taken back.
+     */
+    void undoMove();
+
+    /**
+     * Evaluates the position, which must be the one reached through the moves
+     * reported since setPosition.
+     * 
+     * @param gameState the position.
+     * @return the score in centipawns, positive if the side to move is ahead.
+     */
+    int evaluate(GameState gameState);
+}
@@ -0,0 +1,77 @@
+package engine;
+
+import gamestate.GameState;
+import gamestate.PieceList;
+import notation.FenPosition;
+
+/**
+ * Evaluates positions for the search with piece values and piece-square tables.
+ * The score is in centipawns and relative to the side to move.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class Evaluator implements EvaluationFunction {
+
+    private final EvalParameters parameters;
+
+    /**
+     * Constructor for Evaluator with the parameters loaded at startup.
+     */
+    public Evaluator() {
+        this(EvalParameters.getStartupParameters());
+    }
+
+    /**
+     * Constructor for Evaluator.
+     * 
+     * @param parameters the evaluation weights.
+     */
+    public Evaluator(EvalParameters parameters) {
+        this.parameters = parameters;
+    }
+
+    @Override
+    public void setPosition(GameState gameState) {}
+
+    @Override
+    public void makeMove(GameState gameState, int move) {}
+
+    @Override
+    public void undoMove() {}
+
+    /**
+     * Evaluates the material and piece placement of a position.
+     * 
+     * @param gameState the position.
+     * @return the score in centipawns, positive if the side to move is ahead.
+     */
+    @Override
+    public int evaluate(GameState gameState) {
+        PieceList pieceList = gameState.getPieceList();
+        boolean isWhiteSide = gameState.getIsWhiteSide();
+        int score = 0;
+        for (int pieceIndex = 0; pieceIndex < EvalParameters.PIECE_TYPE_COUNT;
+                pieceIndex++) {
+            for (int i = 0; i < pieceList.getCount(pieceIndex); i++) {
+                int square = FenPosition.toTileID(
+                        pieceList.getPiece(pieceIndex, i).getPiecePosition(), isWhiteSide);
+                score += parameters.getPieceValue(pieceIndex)
+                         + parameters.getPieceSquare(pieceIndex, square);
+            }
+            int blackCode = pieceIndex + EvalParameters.PIECE_TYPE_COUNT;
+            for (int i = 0; i < pieceList.getCount(blackCode); i++) {
+                int square = FenPosition.toTileID(
+                        pieceList.getPiece(blackCode, i).getPiecePosition(), isWhiteSide);
+                score -= parameters.getPieceValue(pieceIndex)
+                         + parameters.getPieceSquare(pieceIndex, square ^ 56);
+            }
+        }
+        return gameState.getIsWhiteToMove() ? score : -score;
+    }
+
+    public EvalParameters getParameters() {
+        return parameters;
+    }
+}
@@ -0,0 +1,131 @@
+package engine;
+
+import chesspieces.Piece;
+import gamestate.GameState;
+import gamestate.MoveHistory;
+import notation.FenPosition;
+
+/**
+ * Encodes a move as a single integer so the search can keep moves in primitive
+ * arrays. Bits 0-5 hold the tile ID the piece moves from, bits 6-11 the tile ID it
+ * moves to and bits 12-14 the promotion piece.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class Move {
+
+    public static final int NONE = 0;
+
+    // Promotion codes
+    public static final int NO_PROMOTION = 0;
+    public static final int KNIGHT_PROMOTION = 1;
+    public static final int BISHOP_PROMOTION = 2;
+    public static final int ROOK_PROMOTION = 3;
+    public static final int QUEEN_PROMOTION = 4;
+
+    private static final byte[] PROMOTION_KINDS = {Piece.QUEEN, Piece.KNIGHT,
+                                                   Piece.BISHOP, Piece.ROOK,
+                                                   Piece.QUEEN};
+    private static final String PROMOTION_CHARS = " nbrq";
+
+    private Move() {}
+
+    /**
+     * Creates a move without promotion.
+     * 
+     * @param fromID the tile ID the piece moves from.
+     * @param toID the tile ID the piece moves to.
+     * @return the encoded move.
+     */
+    public static int create(int fromID, int toID) {
+        return fromID | (toID << 6);
+    }
+
+    /**
+     * Creates a move with a promotion.
+     * 
+     * @param fromID the tile ID the piece moves from.
+     * @param toID the tile ID the piece moves to.
+     * @param promotion the promotion code.
+     * @return the encoded move.
+     */
+    public static int create(int fromID, int toID, int promotion) {
+        return fromID | (toID << 6) | (promotion << 12);
+    }
+
+    public static int getFromID(int move) {
+        return move & 63;
+    }
+
+    public static int getToID(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    public static int getPromotion(int move) {
+        return (move >>> 12) & 7;
+    }
+
+    /**
+     * Returns the piece kind a promoting pawn becomes, as used by MoveAlgorithm.
+     * Moves without a promotion return QUEEN, which MoveAlgorithm ignores for
+     * pieces that do not promote.
+     * 
+     * @param move the encoded move.
+     * @return the promotion piece kind.
+     */
+    public static byte getPromotionKind(int move) {
+        return PROMOTION_KINDS[getPromotion(move)];
+    }
+
+    /**
+     * Returns the move in UCI long algebraic notation, for example "e7e8q".
+     * 
+     * @param move the encoded move.
+     * @param isWhiteSide true if white is on the bottom of the chessboard.
+     * @return the move text.
+     */
+    public static String toUci(int move, boolean isWhiteSide) {
+        if (move == NONE) {
+            return "0000";
+        }
+        String uci = FenPosition.getSquareName(FenPosition.toTileID(getFromID(move),
+                                                                    isWhiteSide))
+                     + FenPosition.getSquareName(FenPosition.toTileID(getToID(move),
+                                                                      isWhiteSide));
+        int promotion = getPromotion(move);
+        return promotion == NO_PROMOTION ? uci : uci + PROMOTION_CHARS.charAt(promotion);
+    }
+
+    /**
+     * Returns the encoded form of a move recorded in the move history.
+     * 
+     * @param entry the recorded move.
+     * @return the encoded move.
+     */
+    public static int fromHistory(MoveHistory entry) {
+        Piece promotedPiece = entry.getPromotedPiece();
+        // The promotion codes equal the piece kinds promoted to.
+        return promotedPiece != null
+               ? create(entry.getOldPieceMovedID(), entry.getNewPieceMovedID(),
+                        promotedPiece.getPieceKind())
+               : create(entry.getOldPieceMovedID(), entry.getNewPieceMovedID());
+    }
+
+    /**
+     * Finds the legal move matching a UCI move text in the given position.
+     * 
+     * @param uci the move text, for example "e2e4" or "a7a8q".
+     * @param gameState the position.
+     * @return the encoded move, or NONE if it is not legal.
+     */
+    public static int fromUci(String uci, GameState gameState) {
+        for (int move : MoveGenerator.generateLegalMoves(gameState)) {
+            if (toUci(move, gameState.getIsWhiteSide()).equals(uci)) {
+                return move;
+            }
+        }
+        return NONE;
+    }
+}
@@ -0,0 +1,114 @@
+package engine;
+
+import chessboard.Tile;
+import chesspieces.Pawn;
+import chesspieces.Piece;
+import gamestate.GameState;
+import gamestate.PieceList;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Generates the legal moves of the side to move as encoded moves, built on top of
+ * Piece.getAllLegalMoves.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class MoveGenerator {
+
+    private MoveGenerator() {}
+
+    /**
+     * Returns all legal moves of the side to move. Promotions are expanded into one
+     * move per promotion piece.
+     * 
+     * @param gameState the position.
+     * @return the encoded legal moves.
+     */
+    public static int[] generateLegalMoves(GameState gameState) {
+        Tile[] chessBoard = gameState.getChessBoard();
+        PieceList pieceList = gameState.getPieceList();
+        boolean isWhiteToMove = gameState.getIsWhiteToMove();
+        int[] moves = new int[64];
+        int count = 0;
+
+        // Each move tried is undone, so the side list can be walked in place.
+        for (int i = 0; i < pieceList.getSideCount(isWhiteToMove); i++) {
+            Piece piece = pieceList.getSidePiece(isWhiteToMove, i);
+            int fromID = piece.getPiecePosition();
+            Set<Integer> legalMoves = piece.getAllLegalMoves(gameState, chessBoard,
+                                                             gameState.getMoveAlgorithm());
+            boolean isPawn = piece.getPieceKind() == Piece.PAWN;
+            for (int toID : legalMoves) {
+                if (count + 4 > moves.length) {
+                    moves = Arrays.copyOf(moves, moves.length * 2);
+                }
+                if (isPawn && ((Pawn) piece).isPromotionMove(toID)) {
+                    moves[count++] = Move.create(fromID, toID, Move.QUEEN_PROMOTION);
+                    moves[count++] = Move.create(fromID, toID, Move.KNIGHT_PROMOTION);
+                    moves[count++] = Move.create(fromID, toID, Move.ROOK_PROMOTION);
+                    moves[count++] = Move.create(fromID, toID, Move.BISHOP_PROMOTION);
+                } else {
+                    moves[count++] = Move.create(fromID, toID);
+                }
+            }
+        }
+        return Arrays.copyOf(moves, count);
+    }
+
+    /**
+     * Returns the piece a move captures, including pawns taken en passant.
+     * 
+     * @param chessBoard the chessboard before the move.
+     * @param move the encoded move.
+     * @return the captured piece, or null for quiet moves.
+     */
+    public static Piece getCapturedPiece(Tile[] chessBoard, int move) {
+        int fromID = Move.getFromID(move);
+        int toID = Move.getToID(move);
+        Piece pieceMoved = chessBoard[fromID].getAssignedPiece();
+        Piece target = chessBoard[toID].getAssignedPiece();
+        if (target != null) {
+            return target.getIsPieceWhite() != pieceMoved.getIsPieceWhite() ? target : null;
+        }
+        if (pieceMoved.getPieceKind() == Piece.PAWN && fromID % 8 != toID % 8) {
+            return chessBoard[fromID - fromID % 8 + toID % 8].getAssignedPiece();
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether a move captures or promotes, the moves quiescence search tries.
+     * 
+     * @param chessBoard the chessboard before the move.
+     * @param move the encoded move.
+     * @return true if the move is tactical.
+     */
+    public static boolean isTactical(Tile[] chessBoard, int move) {
+        return Move.getPromotion(move) != Move.NO_PROMOTION
+                || getCapturedPiece(chessBoard, move) != null;
+    }
+
+    /**
+     * Plays a move on the position without repainting the chessboard.
+     * 
+     * @param gameState the position.
+     * @param move the encoded move.
+     */
+    public static void makeMove(GameState gameState, int move) {
+        gameState.getMoveAlgorithm().simulateMovePieceToSquare(gameState.getChessBoard(),
+                Move.getFromID(move), Move.getToID(move), Move.getPromotionKind(move));
+    }
+
+    /**
+     * Takes back the last move played on the position.
+     * 
+     * @param gameState the position.
+     */
+    public static void undoMove(GameState gameState) {
+        gameState.getMoveAlgorithm().simulateUndoMove(gameState.getChessBoard());
+    }
+}
@@ -0,0 +1,217 @@
+package engine;
+
+import chessboard.Tile;
+import chesspieces.Piece;
+import gamestate.GameState;
+import notation.FenPosition;
+
+/**
+ * Evaluates positions with a neural network whose accumulators are updated
+ * incrementally. Each move only records which pieces it removed and added; the
+ * accumulators of a ply are built lazily from the closest computed ply when a
+ * position is actually evaluated, and taking a move back just drops a ply. Only a
+ * king move forces that side's accumulator to be rebuilt from the board, since every
+ * feature depends on the own king square.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class NnueEvaluator implements EvaluationFunction {
+
+    private static final int WHITE = 0;
+    private static final int BLACK = 1;
+
+    private final NnueNetwork network;
+    private final NnueKernel kernel;
+
+    // Per ply and side: the accumulator, whether it is up to date, and whether the
+    // move into that ply moved that side's king.
+    private final short[][][] accumulators;
+    private final boolean[][] isComputed;
+    private final boolean[][] isRefreshNeeded;
+
+    // Per ply: the pieces (Zobrist piece index) and squares the move into it changed.
+    private final int[][] removedPieces;
+    private final int[][] removedSquares;
+    private final int[] removedCounts;
+    private final int[][] addedPieces;
+    private final int[][] addedSquares;
+    private final int[] addedCounts;
+
+    private int ply;
+
+    /**
+     * Constructor for NnueEvaluator.
+     * 
+     * @param network the network weights, which can be shared between evaluators.
+     */
+    public NnueEvaluator(NnueNetwork network) {
+        this.network = network;
+        this.kernel = NnueKernel.getInstance();
+        int plies = SearchEngine.MAX_PLY + 1;
+        this.accumulators = new short[plies][2][network.getHiddenSize()];
+        this.isComputed = new boolean[plies][2];
+        this.isRefreshNeeded = new boolean[plies][2];
+        this.removedPieces = new int[plies][2];
+        this.removedSquares = new int[plies][2];
+        this.removedCounts = new int[plies];
+        this.addedPieces = new int[plies][2];
+        this.addedSquares = new int[plies][2];
+        this.addedCounts = new int[plies];
+    }
+
+    @Override
+    public void setPosition(GameState gameState) {
+        ply = 0;
+        for (int side = WHITE; side <= BLACK; side++) {
+            isComputed[0][side] = false;
+            isRefreshNeeded[0][side] = true;
+        }
+    }
+
+    @Override
+    public void makeMove(GameState gameState, int move) {
+        if (ply + 1 >= accumulators.length) {
+            throw new IllegalStateException("Search deeper than " + SearchEngine.MAX_PLY);
+        }
+        Tile[] chessBoard = gameState.getChessBoard();
+        boolean isWhiteSide = gameState.getIsWhiteSide();
+        int fromID = Move.getFromID(move);
+        Piece pieceMoved = chessBoard[fromID].getAssignedPiece();
+        int pieceIndex = Zobrist.getPieceIndex(pieceMoved);
+        int fromSquare = FenPosition.toTileID(fromID, isWhiteSide);
+        int toSquare = FenPosition.toTileID(Move.getToID(move), isWhiteSide);
+
+        int next = ply + 1;
+        removedCounts[next] = 0;
+        addedCounts[next] = 0;
+        for (int side = WHITE; side <= BLACK; side++) {
+            isComputed[next][side] = false;
+            isRefreshNeeded[next][side] = false;
+        }
+
+        Piece capturedPiece = MoveGenerator.getCapturedPiece(chessBoard, move);
+        if (capturedPiece != null) {
+            recordRemoved(next, Zobrist.getPieceIndex(capturedPiece),
+                          FenPosition.toTileID(capturedPiece.getPiecePosition(),
+                                               isWhiteSide));
+        }
+
+        if (pieceMoved.getPieceKind() == Piece.KING) {
+            isRefreshNeeded[next][pieceMoved.getIsPieceWhite() ? WHITE : BLACK] = true;
+            if (Math.abs(toSquare - fromSquare) == 2) {
+                boolean isKingSide = toSquare > fromSquare;
+                int rookIndex = pieceIndex - 2;
+                recordRemoved(next, rookIndex, isKingSide ? (fromSquare | 7)
+                                                          : (fromSquare & 56));
+                recordAdded(next, rookIndex, isKingSide ? fromSquare + 1 : fromSquare - 1);
+            }
+        } else {
+            recordRemoved(next, pieceIndex, fromSquare);
+            int promotion = Move.getPromotion(move);
+            if (promotion != Move.NO_PROMOTION) {
+                // Promotion codes follow the piece index order of knight to queen.
+                pieceIndex = pieceMoved.getIsPieceWhite() ? promotion : promotion + 6;
+            }
+            recordAdded(next, pieceIndex, toSquare);
+        }
+        ply = next;
+    }
+
+    @Override
+    public void undoMove() {
+        ply--;
+    }
+
+    @Override
+    public int evaluate(GameState gameState) {
+        int whiteKingSquare = getKingSquare(gameState, true);
+        int blackKingSquare = getKingSquare(gameState, false);
+        updateAccumulator(gameState, WHITE, whiteKingSquare);
+        updateAccumulator(gameState, BLACK, blackKingSquare);
+        short[][] current = accumulators[ply];
+        return gameState.getIsWhiteToMove()
+               ? network.evaluate(kernel, current[WHITE], current[BLACK])
+               : network.evaluate(kernel, current[BLACK], current[WHITE]);
+    }
+
+    /**
+     * Brings one side's accumulator of the current ply up to date, replaying the
+     * moves since the last computed ply or rebuilding it from the board if that side's
+     * king moved in between.
+     */
+    private void updateAccumulator(GameState gameState, int side, int kingSquare) {
+        if (isComputed[ply][side]) {
+            return;
+        }
+        int start = ply;
+        while (start > 0 && !isComputed[start][side] && !isRefreshNeeded[start][side]) {
+            start--;
+        }
+        if (!isComputed[start][side]) {
+            refreshAccumulator(gameState, side, kingSquare);
+            return;
+        }
+
+        boolean isWhitePerspective = side == WHITE;
+        short[] featureWeights = network.getFeatureWeights();
+        int hiddenSize = network.getHiddenSize();
+        for (int i = start + 1; i <= ply; i++) {
+            short[] accumulator = accumulators[i][side];
+            System.arraycopy(accumulators[i - 1][side], 0, accumulator, 0, hiddenSize);
+            for (int j = 0; j < removedCounts[i]; j++) {
+                kernel.subtract(accumulator, featureWeights, hiddenSize
+                        * NnueNetwork.getFeatureIndex(isWhitePerspective, kingSquare,
+                                                      removedPieces[i][j],
+                                                      removedSquares[i][j]));
+            }
+            for (int j = 0; j < addedCounts[i]; j++) {
+                kernel.add(accumulator, featureWeights, hiddenSize
+                        * NnueNetwork.getFeatureIndex(isWhitePerspective, kingSquare,
+                                                      addedPieces[i][j],
+                                                      addedSquares[i][j]));
+            }
+            isComputed[i][side] = true;
+        }
+    }
+
+    private void refreshAccumulator(GameState gameState, int side, int kingSquare) {
+        Tile[] chessBoard = gameState.getChessBoard();
+        boolean isWhiteSide = gameState.getIsWhiteSide();
+        short[] accumulator = accumulators[ply][side];
+        short[] featureWeights = network.getFeatureWeights();
+        int hiddenSize = network.getHiddenSize();
+        System.arraycopy(network.getFeatureBiases(), 0, accumulator, 0, hiddenSize);
+        for (int tileID = 0; tileID < chessBoard.length; tileID++) {
+            Piece piece = chessBoard[tileID].getAssignedPiece();
+            if (piece != null && piece.getPieceKind() != Piece.KING) {
+                kernel.add(accumulator, featureWeights, hiddenSize
+                        * NnueNetwork.getFeatureIndex(side == WHITE, kingSquare,
+                                                      Zobrist.getPieceIndex(piece),
+                                                      FenPosition.toTileID(tileID,
+                                                                           isWhiteSide)));
+            }
+        }
+        isComputed[ply][side] = true;
+    }
+
+    private void recordRemoved(int ply, int pieceIndex, int square) {
+        removedPieces[ply][removedCounts[ply]] = pieceIndex;
+        removedSquares[ply][removedCounts[ply]++] = square;
+    }
+
+    private void recordAdded(int ply, int pieceIndex, int square) {
+        addedPieces[ply][addedCounts[ply]] = pieceIndex;
+        addedSquares[ply][addedCounts[ply]++] = square;
+    }
+
+    private static int getKingSquare(GameState gameState, boolean isWhite) {
+        return FenPosition.toTileID(gameState.getKing(isWhite).getPiecePosition(),
+                                    gameState.getIsWhiteSide());
+    }
+
+    public NnueNetwork getNetwork() {
+        return network;
+    }
+}
@@ -0,0 +1,88 @@
+package engine;
+
+/**
+ * The arithmetic of the neural evaluation on 16-bit weights. The plain Java version
+ * below is always available; VectorNnueKernel does the same with SIMD instructions
+ * when the jdk.incubator.vector module is present.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class NnueKernel {
+
+    private static final NnueKernel INSTANCE = createKernel();
+
+    /**
+     * Returns the fastest kernel this JVM supports.
+     * 
+     * @return the kernel.
+     */
+    public static NnueKernel getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The vector kernel is loaded by name so the engine still runs on JVMs started
+     * without --add-modules jdk.incubator.vector.
+     */
+    private static NnueKernel createKernel() {
+        if (!Boolean.getBoolean("chess.nnue.scalar")) {
+            try {
+                return (NnueKernel) Class.forName("engine.VectorNnueKernel")
+                                         .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Fall back to plain Java.
+            }
+        }
+        return new NnueKernel();
+    }
+
+    /**
+     * Adds a weight row to an accumulator.
+     * 
+     * @param accumulator the accumulator.
+     * @param weights the weight matrix.
+     * @param offset the start of the row, which is as long as the accumulator.
+     */
+    public void add(short[] accumulator, short[] weights, int offset) {
+        for (int i = 0; i < accumulator.length; i++) {
+            accumulator[i] += weights[offset + i];
+        }
+    }
+
+    /**
+     * Subtracts a weight row from an accumulator.
+     * 
+     * @param accumulator the accumulator.
+     * @param weights the weight matrix.
+     * @param offset the start of the row, which is as long as the accumulator.
+     */
+    public void subtract(short[] accumulator, short[] weights, int offset) {
+        for (int i = 0; i < accumulator.length; i++) {
+            accumulator[i] -= weights[offset + i];
+        }
+    }
+
+    /**
+     * Returns the dot product of the clipped accumulator with a weight row.
+     * 
+     * @param accumulator the accumulator.
+     * @param weights the weight matrix.
+     * @param offset the start of the row.
+     * @param clip the upper bound of the clipped ReLU.
+     * @return the dot product.
+     */
+    public int dotClipped(short[] accumulator, short[] weights, int offset, int clip) {
+        int sum = 0;
+        for (int i = 0; i < accumulator.length; i++) {
+            sum += Math.max(0, Math.min(clip, accumulator[i])) * weights[offset + i];
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return "scalar";
+    }
+}
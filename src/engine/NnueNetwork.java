@@ -0,0 +1,225 @@
+package engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The weights of a neural evaluation network. Each side has its own accumulator of
+ * hiddenSize 16-bit values, the sum of the feature transformer rows of all
+ * (own king square, piece, square) features of that side, mirrored for black so
+ * both sides see the board from their own end. The two accumulators, side to move
+ * first, go through a clipped ReLU into one output neuron.
+ *
+ * <p>The network file is little-endian: the magic "NNUE", the format version 1 and
+ * the hidden size as ints, then INPUT_SIZE * hiddenSize feature weights, hiddenSize
+ * feature biases and 2 * hiddenSize output weights as shorts, and finally the output
+ * bias as an int. Feature weights are scaled by QA and output weights by QB.
+ *
+ * <p>The engine loads its network once at startup from the file named by the
+ * "chess.nnuefile" system property, or "network.nnue" in the working directory, and
+ * uses the hand-written evaluation when there is no such file.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class NnueNetwork {
+
+    public static final int MAGIC = 0x45554E4E;
+    public static final int VERSION = 1;
+    public static final String DEFAULT_FILE_NAME = "network.nnue";
+
+    // Five piece types of either colour on 64 squares, for each own king square.
+    public static final int FEATURES_PER_KING_SQUARE = 10 * 64;
+    public static final int INPUT_SIZE = 64 * FEATURES_PER_KING_SQUARE;
+
+    public static final int QA = 255;
+    public static final int QB = 64;
+    public static final int OUTPUT_SCALE = 400;
+
+    private static volatile NnueNetwork startupNetwork;
+    private static volatile boolean isStartupNetworkLoaded;
+
+    private final int hiddenSize;
+    private final short[] featureWeights;
+    private final short[] featureBiases;
+    private final short[] outputWeights;
+    private final int outputBias;
+
+    /**
+     * Constructor for NnueNetwork.
+     * 
+     * @param hiddenSize the accumulator size of each side.
+     * @param featureWeights INPUT_SIZE rows of hiddenSize weights.
+     * @param featureBiases hiddenSize biases.
+     * @param outputWeights 2 * hiddenSize weights, side to move first.
+     * @param outputBias the output bias.
+     */
+    public NnueNetwork(int hiddenSize, short[] featureWeights, short[] featureBiases,
+                       short[] outputWeights, int outputBias) {
+        if (hiddenSize <= 0 || featureWeights.length != (long) INPUT_SIZE * hiddenSize
+                || featureBiases.length != hiddenSize
+                || outputWeights.length != 2 * hiddenSize) {
+            throw new IllegalArgumentException("Network layers do not match hidden size "
+                                               + hiddenSize);
+        }
+        this.hiddenSize = hiddenSize;
+        this.featureWeights = featureWeights;
+        this.featureBiases = featureBiases;
+        this.outputWeights = outputWeights;
+        this.outputBias = outputBias;
+    }
+
+    /**
+     * Returns the network the engine was started with, loading it on first use.
+     * 
+     * @return the network, or null if none is configured.
+     */
+    public static NnueNetwork getStartupNetwork() {
+        if (!isStartupNetworkLoaded) {
+            synchronized (NnueNetwork.class) {
+                if (!isStartupNetworkLoaded) {
+                    startupNetwork = loadStartupNetwork();
+                    isStartupNetworkLoaded = true;
+                }
+            }
+        }
+        return startupNetwork;
+    }
+
+    private static NnueNetwork loadStartupNetwork() {
+        String fileName = System.getProperty("chess.nnuefile");
+        Path path = Paths.get(fileName != null ? fileName : DEFAULT_FILE_NAME);
+        if (!Files.isRegularFile(path)) {
+            if (fileName != null) {
+                System.err.println("Network file " + path + " not found,"
+                                   + " using the hand-written evaluation");
+            }
+            return null;
+        }
+        try {
+            return load(path);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Cannot load " + path + ", using the hand-written"
+                               + " evaluation: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Reads a network file.
+     * 
+     * @param path the network file.
+     * @return the network.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a network of this format.
+     */
+    public static NnueNetwork load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                                            channel.size())
+                                       .order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.remaining() < 12 || buffer.getInt() != MAGIC
+                    || buffer.getInt() != VERSION) {
+                throw new IllegalArgumentException("Not a version " + VERSION
+                                                   + " network file");
+            }
+            int hiddenSize = buffer.getInt();
+            long expectedSize = 12 + 2L * ((long) INPUT_SIZE * hiddenSize
+                                           + 3L * hiddenSize) + 4;
+            if (hiddenSize <= 0 || channel.size() != expectedSize) {
+                throw new IllegalArgumentException("Bad network size for hidden size "
+                                                   + hiddenSize);
+            }
+            short[] featureWeights = readShorts(buffer, INPUT_SIZE * hiddenSize);
+            short[] featureBiases = readShorts(buffer, hiddenSize);
+            short[] outputWeights = readShorts(buffer, 2 * hiddenSize);
+            return new NnueNetwork(hiddenSize, featureWeights, featureBiases,
+                                   outputWeights, buffer.getInt());
+        }
+    }
+
+    private static short[] readShorts(ByteBuffer buffer, int count) {
+        short[] values = new short[count];
+        buffer.asShortBuffer().get(values);
+        buffer.position(buffer.position() + 2 * count);
+        return values;
+    }
+
+    /**
+     * Writes the network in the format read by load.
+     * 
+     * @param path the network file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        int size = 12 + 2 * (featureWeights.length + 3 * hiddenSize) + 4;
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(hiddenSize);
+        buffer.asShortBuffer().put(featureWeights);
+        buffer.position(buffer.position() + 2 * featureWeights.length);
+        buffer.asShortBuffer().put(featureBiases).put(outputWeights);
+        buffer.position(buffer.position() + 6 * hiddenSize);
+        buffer.putInt(outputBias).flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                                                    StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Returns the input feature of a piece as seen by one side.
+     * 
+     * @param isWhitePerspective whether the feature belongs to white's accumulator.
+     * @param kingSquare the square of that side's king, a8 = 0 to h1 = 63.
+     * @param pieceIndex the piece index of Zobrist.getPieceIndex, never a king.
+     * @param square the square of the piece.
+     * @return the feature index.
+     */
+    public static int getFeatureIndex(boolean isWhitePerspective, int kingSquare,
+                                      int pieceIndex, int square) {
+        if (!isWhitePerspective) {
+            kingSquare ^= 56;
+            square ^= 56;
+        }
+        boolean isOwnPiece = (pieceIndex < 6) == isWhitePerspective;
+        int pieceFeature = (pieceIndex % 6) * 2 + (isOwnPiece ? 0 : 1);
+        return kingSquare * FEATURES_PER_KING_SQUARE + pieceFeature * 64 + square;
+    }
+
+    /**
+     * Returns the evaluation of a pair of accumulators.
+     * 
+     * @param kernel the arithmetic to use.
+     * @param sideToMove the accumulator of the side to move.
+     * @param otherSide the accumulator of the other side.
+     * @return the score in centipawns relative to the side to move.
+     */
+    public int evaluate(NnueKernel kernel, short[] sideToMove, short[] otherSide) {
+        long output = (long) kernel.dotClipped(sideToMove, outputWeights, 0, QA)
+                      + kernel.dotClipped(otherSide, outputWeights, hiddenSize, QA)
+                      + outputBias;
+        return (int) (output * OUTPUT_SCALE / (QA * QB));
+    }
+
+    public int getHiddenSize() {
+        return hiddenSize;
+    }
+
+    public short[] getFeatureWeights() {
+        return featureWeights;
+    }
+
+    public short[] getFeatureBiases() {
+        return featureBiases;
+    }
+}
@@ -0,0 +1,693 @@
+package engine;
+
+import chessboard.Tile;
+import chesspieces.Piece;
+import gamestate.GameResult;
+import gamestate.GameState;
+import metrics.EngineMetrics;
+import metrics.SearchCounts;
+import metrics.SearchIterationEvent;
+import metrics.SearchTraceRecorder;
+
+import java.util.Arrays;
+
+/**
+ * The Minimax search of the AI: an iterative deepening alpha-beta search with a
+ * transposition table, quiescence search on captures and simple move ordering.
+ * An engine is single threaded; create one engine per thread.
+ *
+ * <p>In multi-PV mode each iteration searches the root once per line, leaving out
+ * the first moves of the lines already found, so every pass after the first finds
+ * the best of the remaining moves. The passes share the transposition table, which
+ * makes the later passes much cheaper than separate searches.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class SearchEngine {
+
+    public static final int INFINITE_SCORE = 32000;
+    public static final int MATE_SCORE = 31000;
+    public static final int MAX_PLY = 128;
+
+    public static final int DEFAULT_HASH_SIZE_MB = 16;
+
+    private final TranspositionTable transpositionTable;
+    private final EvaluationFunction evaluator;
+    private final EvalCache evalCache;
+    private final SearchCounts counts;
+    private volatile boolean isStopped;
+    private SearchListener searchListener;
+    private SearchTraceRecorder traceRecorder;
+
+    private GameState gameState;
+    private Tile[] chessBoard;
+    private SearchLimits limits;
+    private long startTime;
+    private long nodes;
+    // First moves of the lines found in this iteration, left out at the root.
+    private int[] excludedRootMoves;
+    private int excludedRootMoveCount;
+
+    private final int[][] principalVariations;
+    private final int[] principalVariationLengths;
+    private final int[][] killerMoves;
+
+    // Keys of the game positions before the root, oldest first, followed by the keys
+    // of the positions on the current search path, one per ply.
+    private long[] keyHistory;
+    private int gameKeyCount;
+
+    /**
+     * Constructor for SearchEngine with the default hash table size.
+     */
+    public SearchEngine() {
+        this(DEFAULT_HASH_SIZE_MB);
+    }
+
+    /**
+     * Constructor for SearchEngine with the startup evaluation: the neural network if
+     * one is configured, the hand-written evaluation otherwise.
+     *
+     * @param hashSizeMB the size of the transposition table in megabytes.
+     */
+    public SearchEngine(int hashSizeMB) {
+        this(hashSizeMB, createStartupEvaluator());
+    }
+
+    /**
+     * Constructor for SearchEngine.
+     *
+     * @param hashSizeMB the size of the transposition table in megabytes.
+     * @param evaluator the evaluation, used by this engine only.
+     */
+    public SearchEngine(int hashSizeMB, EvaluationFunction evaluator) {
+        this.transpositionTable = new TranspositionTable(hashSizeMB);
+        this.evaluator = evaluator;
+        this.evalCache = new EvalCache(EvalCache.DEFAULT_SIZE);
+        this.counts = new SearchCounts();
+        this.principalVariations = new int[MAX_PLY + 1][MAX_PLY + 1];
+        this.principalVariationLengths = new int[MAX_PLY + 1];
+        this.killerMoves = new int[MAX_PLY + 1][2];
+        this.keyHistory = new long[MAX_PLY + 1];
+        this.excludedRootMoves = new int[1];
+        this.traceRecorder = SearchTraceRecorder.fromSystemProperties();
+    }
+
+    /**
+     * Searches the position for the best move of the side to move. The position is
+     * left unchanged.
+     *
+     * @param gameState the position to search.
+     * @param limits when to stop searching.
+     * @return the result of the deepest completed iteration.
+     */
+    public SearchResult search(GameState gameState, SearchLimits limits) {
+        return search(gameState, limits, 1);
+    }
+
+    /**
+     * Searches the position for the best lineCount moves of the side to move, each
+     * with its score and principal variation. The position is left unchanged.
+     *
+     * @param gameState the position to search.
+     * @param limits when to stop searching.
+     * @param lineCount the number of lines wanted; fewer are found if there are
+     * fewer legal moves.
+     * @return the best line of the deepest iteration that completed every line,
+     * with all its lines; if the first iteration was stopped, the lines it did
+     * complete.
+     * @throws IllegalArgumentException if lineCount is less than 1.
+     */
+    public SearchResult search(GameState gameState, SearchLimits limits, int lineCount) {
+        if (lineCount < 1) {
+            throw new IllegalArgumentException("Invalid line count: " + lineCount);
+        }
+        this.gameState = gameState;
+        this.chessBoard = gameState.getChessBoard();
+        this.limits = limits;
+        this.startTime = System.currentTimeMillis();
+        this.nodes = 0;
+        this.isStopped = false;
+        for (int[] killers : killerMoves) {
+            Arrays.fill(killers, Move.NONE);
+        }
+        evaluator.setPosition(gameState);
+
+        int[] rootMoves = MoveGenerator.generateLegalMoves(gameState);
+        SearchResult result = new SearchResult(rootMoves.length > 0 ? rootMoves[0]
+                                                                    : Move.NONE,
+                                               0, 0, 0, 0, new int[0]);
+        if (rootMoves.length == 0) {
+            int score = isSideToMoveInCheck() ? -MATE_SCORE : 0;
+            EngineMetrics.getInstance().recordSearch(getElapsedMillis());
+            return new SearchResult(Move.NONE, score, 0, 0, 0, new int[0]);
+        }
+        lineCount = Math.min(lineCount, rootMoves.length);
+        if (excludedRootMoves.length < lineCount) {
+            excludedRootMoves = new int[lineCount];
+        }
+
+        for (int depth = 1; depth <= limits.getMaxDepth(); depth++) {
+            SearchIterationEvent iterationEvent = new SearchIterationEvent();
+            iterationEvent.begin();
+            if (traceRecorder != null) {
+                traceRecorder.recordIteration(depth);
+            }
+            SearchResult[] lines = searchLines(depth, lineCount);
+            if (isStopped && depth > 1) {
+                break;
+            }
+            if (lines.length > 0) {
+                SearchResult bestLine = lines[0];
+                result = new SearchResult(bestLine.getBestMove(), bestLine.getScore(),
+                                          depth, nodes, getElapsedMillis(),
+                                          bestLine.getPrincipalVariation(),
+                                          lineCount > 1 ? lines : null);
+                if (searchListener != null) {
+                    searchListener.iterationCompleted(result);
+                }
+            }
+            commitIterationEvent(iterationEvent, result, depth);
+            if (isStopped || isEveryLineMated(lines, depth)) {
+                break;
+            }
+        }
+        counts.flush();
+        if (traceRecorder != null) {
+            traceRecorder.flush();
+        }
+        EngineMetrics.getInstance().recordSearch(getElapsedMillis());
+        return new SearchResult(result.getBestMove(), result.getScore(),
+                                result.getDepth(), nodes, getElapsedMillis(),
+                                result.getPrincipalVariation(),
+                                lineCount > 1 ? result.getLines() : null);
+    }
+
+    /**
+     * Searches the root once per line at a depth, each pass leaving out the first
+     * moves of the lines before it.
+     *
+     * @return the lines found, best first; fewer than lineCount if the search was
+     * stopped, since a pass cut short has neither a true score nor a whole line.
+     */
+    private SearchResult[] searchLines(int depth, int lineCount) {
+        SearchResult[] lines = new SearchResult[lineCount];
+        int foundCount = 0;
+        excludedRootMoveCount = 0;
+        while (foundCount < lineCount) {
+            int score = negamax(depth, 0, -INFINITE_SCORE, INFINITE_SCORE);
+            if (isStopped || principalVariationLengths[0] == 0) {
+                break;
+            }
+            int[] principalVariation = Arrays.copyOf(principalVariations[0],
+                                                     principalVariationLengths[0]);
+            lines[foundCount++] = new SearchResult(principalVariation[0], score, depth,
+                                                   nodes, getElapsedMillis(),
+                                                   principalVariation);
+            excludedRootMoves[excludedRootMoveCount++] = principalVariation[0];
+        }
+        excludedRootMoveCount = 0;
+        lines = Arrays.copyOf(lines, foundCount);
+        // A later pass can score higher than an earlier one when the transposition
+        // table gives it a deeper look at a shared position.
+        Arrays.sort(lines, (line1, line2) -> Integer.compare(line2.getScore(),
+                                                             line1.getScore()));
+        return lines;
+    }
+
+    /**
+     * Returns whether every line ends in a mate the search has seen to the end, so
+     * that searching deeper cannot change them.
+     */
+    private static boolean isEveryLineMated(SearchResult[] lines, int depth) {
+        for (SearchResult line : lines) {
+            if (!line.isMateScore() || MATE_SCORE - Math.abs(line.getScore()) > depth) {
+                return false;
+            }
+        }
+        return lines.length > 0;
+    }
+
+    private int[] removeExcludedRootMoves(int[] moves) {
+        int keptCount = 0;
+        for (int move : moves) {
+            boolean isExcluded = false;
+            for (int i = 0; i < excludedRootMoveCount; i++) {
+                isExcluded |= excludedRootMoves[i] == move;
+            }
+            if (!isExcluded) {
+                moves[keptCount++] = move;
+            }
+        }
+        return Arrays.copyOf(moves, keptCount);
+    }
+
+    /**
+     * Records a completed iteration with the flight recorder if it is recording search
+     * iterations and the iteration took longer than the threshold.
+     */
+    private void commitIterationEvent(SearchIterationEvent iterationEvent,
+                                      SearchResult result, int depth) {
+        iterationEvent.end();
+        if (iterationEvent.shouldCommit()) {
+            iterationEvent.depth = depth;
+            iterationEvent.score = result.getScore();
+            iterationEvent.nodes = nodes;
+            iterationEvent.searchTime = getElapsedMillis();
+            iterationEvent.principalVariationLength =
+                    result.getPrincipalVariation().length;
+            iterationEvent.bestMove = Move.toUci(result.getBestMove(),
+                                                 gameState.getIsWhiteSide());
+            iterationEvent.commit();
+        }
+    }
+
+    /**
+     * Sets the listener told about every completed iteration.
+     *
+     * @param searchListener the listener, or null for none.
+     */
+    public void setSearchListener(SearchListener searchListener) {
+        this.searchListener = searchListener;
+    }
+
+    /**
+     * Sets the recorder every finished node of later searches is written to, in place
+     * of the one the system properties configured.
+     *
+     * @param traceRecorder the recorder, or null to stop tracing.
+     */
+    public void setTraceRecorder(SearchTraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+    }
+
+    /**
+     * Sets the positions the game went through before the position of the next
+     * searches, so that the search can see repetitions of them. The keys are kept
+     * until they are set again or a new game starts.
+     *
+     * @param positionKeys the Zobrist keys of the earlier positions, oldest first,
+     * without the position to be searched.
+     * @param count the number of keys to use from the start of the array.
+     */
+    public void setGameHistory(long[] positionKeys, int count) {
+        if (count < 0 || count > positionKeys.length) {
+            throw new IllegalArgumentException("Invalid history length: " + count);
+        }
+        if (keyHistory.length < count + MAX_PLY + 1) {
+            keyHistory = new long[count + MAX_PLY + 1];
+        }
+        System.arraycopy(positionKeys, 0, keyHistory, 0, count);
+        gameKeyCount = count;
+    }
+
+    /**
+     * Stops a running search as soon as possible. Safe to call from any thread.
+     */
+    public void stop() {
+        isStopped = true;
+    }
+
+    /**
+     * Forgets everything learned in earlier searches, for example when a new game
+     * starts.
+     */
+    public void newGame() {
+        transpositionTable.clear();
+        evalCache.clear();
+        gameKeyCount = 0;
+    }
+
+    /**
+     * Returns the evaluation of a position without searching.
+     *
+     * @param gameState the position.
+     * @return the static score relative to the side to move.
+     */
+    public int evaluate(GameState gameState) {
+        evaluator.setPosition(gameState);
+        return evaluator.evaluate(gameState);
+    }
+
+    private static EvaluationFunction createStartupEvaluator() {
+        NnueNetwork network = NnueNetwork.getStartupNetwork();
+        return network != null ? new NnueEvaluator(network) : new Evaluator();
+    }
+
+    /**
+     * Returns whether the position at a ply repeats an earlier one and so scores as a
+     * draw. A position seen once before on the search path, or at the root, counts
+     * since the side that repeated it can keep repeating it; a position from before
+     * the root has to have occurred twice, making this the third time. Only the
+     * positions since the last capture or pawn move are looked at, as no earlier one
+     * can come back, and only those with the same side to move.
+     */
+    private boolean isRepetition(long key, int ply) {
+        int index = gameKeyCount + ply;
+        int oldestIndex = Math.max(0, index - gameState.getHalfMoveClock());
+        int gameRepetitions = 0;
+        for (int i = index - 4; i >= oldestIndex; i -= 2) {
+            if (keyHistory[i] == key) {
+                if (i >= gameKeyCount || ++gameRepetitions == 2) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int negamax(int depth, int ply, int alpha, int beta) {
+        principalVariationLengths[ply] = ply;
+        if (depth <= 0) {
+            return quiescence(ply, alpha, beta);
+        }
+        countNode(false);
+        if (isStopped) {
+            return 0;
+        }
+        long key = Zobrist.computeKey(gameState);
+        if (ply >= MAX_PLY) {
+            int score = evaluate(key);
+            traceNode(key, ply, depth, alpha, beta, score,
+                      SearchTraceRecorder.NODE_MAX_PLY, -1, 0, 0);
+            return score;
+        }
+        // Dead draws end the line without a search. A fifty-move draw only counts
+        // if the side to move is not checkmated.
+        if (ply > 0 && (GameResult.isInsufficientMaterial(gameState)
+                        || (gameState.getHalfMoveClock() >= 100
+                            && (!isSideToMoveInCheck()
+                                || GameResult.hasLegalMove(gameState))))) {
+            traceNode(key, ply, depth, alpha, beta, 0,
+                      SearchTraceRecorder.NODE_TERMINAL, -1, 0, 0);
+            return 0;
+        }
+        keyHistory[gameKeyCount + ply] = key;
+        if (ply > 0 && isRepetition(key, ply)) {
+            traceNode(key, ply, depth, alpha, beta, 0,
+                      SearchTraceRecorder.NODE_TERMINAL, -1, 0, 0);
+            return 0;
+        }
+
+        counts.increment(SearchCounts.TRANSPOSITION_PROBES);
+        long entry = transpositionTable.probe(key);
+        int hashMove = Move.NONE;
+        if (entry != TranspositionTable.NO_ENTRY) {
+            counts.increment(SearchCounts.TRANSPOSITION_HITS);
+            hashMove = TranspositionTable.getMove(entry);
+            if (ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+                int hashScore = fromHashScore(TranspositionTable.getScore(entry), ply);
+                int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && hashScore >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND
+                            && hashScore <= alpha)) {
+                    counts.increment(SearchCounts.TRANSPOSITION_CUTOFFS);
+                    traceNode(key, ply, depth, alpha, beta, hashScore,
+                              SearchTraceRecorder.NODE_HASH_CUTOFF, -1, 0, 0);
+                    return hashScore;
+                }
+            }
+        }
+
+        int[] moves = MoveGenerator.generateLegalMoves(gameState);
+        if (moves.length == 0) {
+            int score = isSideToMoveInCheck() ? -MATE_SCORE + ply : 0;
+            traceNode(key, ply, depth, alpha, beta, score,
+                      SearchTraceRecorder.NODE_TERMINAL, -1, 0, 0);
+            return score;
+        }
+        if (ply == 0 && excludedRootMoveCount > 0) {
+            moves = removeExcludedRootMoves(moves);
+        }
+        int[] moveScores = scoreMoves(moves, hashMove, ply);
+
+        int originalAlpha = alpha;
+        int bestScore = -INFINITE_SCORE;
+        int bestMove = Move.NONE;
+        int bestIndex = -1;
+        int movesSearched = 0;
+        for (int i = 0; i < moves.length; i++) {
+            int move = pickNextMove(moves, moveScores, i);
+            boolean isQuiet = !MoveGenerator.isTactical(chessBoard, move);
+
+            makeMove(move);
+            int score = -negamax(depth - 1, ply + 1, -beta, -alpha);
+            undoMove();
+            movesSearched++;
+
+            if (isStopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                bestIndex = i;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+                    if (score >= beta) {
+                        countBetaCutoff(i);
+                        if (isQuiet) {
+                            storeKillerMove(ply, move);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = bestScore >= beta ? TranspositionTable.LOWER_BOUND
+                    : bestScore > originalAlpha ? TranspositionTable.EXACT
+                    : TranspositionTable.UPPER_BOUND;
+        // A root searched without some of its moves has no true score to store.
+        if (ply > 0 || excludedRootMoveCount == 0) {
+            transpositionTable.store(key, bestMove, toHashScore(bestScore, ply), depth,
+                                     bound);
+        }
+        if (traceRecorder != null) {
+            int nodeType = bound == TranspositionTable.LOWER_BOUND
+                           ? SearchTraceRecorder.NODE_FAIL_HIGH
+                           : bound == TranspositionTable.EXACT
+                           ? SearchTraceRecorder.NODE_EXACT
+                           : SearchTraceRecorder.NODE_FAIL_LOW;
+            traceNode(key, ply, depth, originalAlpha, beta, bestScore, nodeType,
+                      bestIndex, movesSearched, moves.length);
+        }
+        return bestScore;
+    }
+
+    private int quiescence(int ply, int alpha, int beta) {
+        countNode(true);
+        if (isStopped) {
+            return 0;
+        }
+        long key = Zobrist.computeKey(gameState);
+        int standPat = evaluate(key);
+        if (ply >= MAX_PLY || standPat >= beta) {
+            traceNode(key, ply, 0, alpha, beta, standPat,
+                      ply >= MAX_PLY ? SearchTraceRecorder.NODE_MAX_PLY
+                                     : SearchTraceRecorder.NODE_STAND_PAT, -1, 0, 0);
+            return standPat;
+        }
+        int originalAlpha = alpha;
+        if (standPat > alpha) {
+            alpha = standPat;
+        }
+
+        int[] moves = MoveGenerator.generateLegalMoves(gameState);
+        int tacticalCount = 0;
+        for (int move : moves) {
+            if (MoveGenerator.isTactical(chessBoard, move)) {
+                moves[tacticalCount++] = move;
+            }
+        }
+        moves = Arrays.copyOf(moves, tacticalCount);
+        int[] moveScores = scoreMoves(moves, Move.NONE, ply);
+
+        int bestIndex = -1;
+        int movesSearched = 0;
+        for (int i = 0; i < moves.length; i++) {
+            int move = pickNextMove(moves, moveScores, i);
+            makeMove(move);
+            int score = -quiescence(ply + 1, -beta, -alpha);
+            undoMove();
+            movesSearched++;
+
+            if (isStopped) {
+                return 0;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestIndex = i;
+                if (score >= beta) {
+                    countBetaCutoff(i);
+                    break;
+                }
+            }
+        }
+        if (traceRecorder != null) {
+            int nodeType = alpha >= beta ? SearchTraceRecorder.NODE_FAIL_HIGH
+                           : alpha > originalAlpha ? SearchTraceRecorder.NODE_EXACT
+                           : SearchTraceRecorder.NODE_FAIL_LOW;
+            traceNode(key, ply, 0, originalAlpha, beta, alpha, nodeType, bestIndex,
+                      movesSearched, moves.length);
+        }
+        return alpha;
+    }
+
+    /**
+     * Scores moves for ordering: the hash move first, then captures by most valuable
+     * victim and least valuable attacker, then promotions and killer moves.
+     */
+    private int[] scoreMoves(int[] moves, int hashMove, int ply) {
+        int[] moveScores = new int[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            int move = moves[i];
+            Piece capturedPiece = MoveGenerator.getCapturedPiece(chessBoard, move);
+            if (move == hashMove) {
+                moveScores[i] = 1000000;
+            } else if (capturedPiece != null) {
+                Piece pieceMoved = chessBoard[Move.getFromID(move)].getAssignedPiece();
+                moveScores[i] = 100000 + capturedPiece.getPieceValue() * 100
+                                - pieceMoved.getPieceValue();
+            } else if (Move.getPromotion(move) == Move.QUEEN_PROMOTION) {
+                moveScores[i] = 95000;
+            } else if (move == killerMoves[ply][0]) {
+                moveScores[i] = 90000;
+            } else if (move == killerMoves[ply][1]) {
+                moveScores[i] = 89000;
+            }
+        }
+        return moveScores;
+    }
+
+    /**
+     * Moves the highest scored move at or after index to index and returns it.
+     */
+    private int pickNextMove(int[] moves, int[] moveScores, int index) {
+        int bestIndex = index;
+        for (int i = index + 1; i < moves.length; i++) {
+            if (moveScores[i] > moveScores[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        int move = moves[bestIndex];
+        moves[bestIndex] = moves[index];
+        moves[index] = move;
+        int moveScore = moveScores[bestIndex];
+        moveScores[bestIndex] = moveScores[index];
+        moveScores[index] = moveScore;
+        return move;
+    }
+
+    private void makeMove(int move) {
+        evaluator.makeMove(gameState, move);
+        MoveGenerator.makeMove(gameState, move);
+    }
+
+    private void undoMove() {
+        MoveGenerator.undoMove(gameState);
+        evaluator.undoMove();
+    }
+
+    private void storeKillerMove(int ply, int move) {
+        if (killerMoves[ply][0] != move) {
+            killerMoves[ply][1] = killerMoves[ply][0];
+            killerMoves[ply][0] = move;
+        }
+    }
+
+    private void updatePrincipalVariation(int ply, int move) {
+        int[] principalVariation = principalVariations[ply];
+        principalVariation[ply] = move;
+        int childLength = principalVariationLengths[ply + 1];
+        for (int i = ply + 1; i < childLength; i++) {
+            principalVariation[i] = principalVariations[ply + 1][i];
+        }
+        principalVariationLengths[ply] = Math.max(ply + 1, childLength);
+    }
+
+    /**
+     * Returns the static evaluation of the current position, from the cache if the
+     * position was evaluated before.
+     */
+    private int evaluate(long key) {
+        counts.increment(SearchCounts.EVAL_CACHE_PROBES);
+        int score = evalCache.probe(key);
+        if (score != EvalCache.NO_SCORE) {
+            counts.increment(SearchCounts.EVAL_CACHE_HITS);
+            return score;
+        }
+        score = evaluator.evaluate(gameState);
+        evalCache.store(key, score);
+        return score;
+    }
+
+    /**
+     * Writes a finished node to the trace recorder, if there is one. Nodes at depth 0
+     * are quiescence nodes. The search has no extensions or reductions, so the depth
+     * adjustment is always 0.
+     */
+    private void traceNode(long key, int ply, int depth, int alpha, int beta, int score,
+                           int nodeType, int moveIndex, int movesSearched,
+                           int moveCount) {
+        if (traceRecorder != null) {
+            traceRecorder.record(key, ply, depth, alpha, beta, score, nodeType,
+                                 depth == 0 ? SearchTraceRecorder.QUIESCENCE_FLAG : 0, 0,
+                                 moveIndex < 0 ? SearchTraceRecorder.NO_MOVE_INDEX
+                                               : moveIndex,
+                                 movesSearched, moveCount);
+        }
+    }
+
+    private void countBetaCutoff(int moveIndex) {
+        counts.increment(SearchCounts.BETA_CUTOFFS);
+        if (moveIndex == 0) {
+            counts.increment(SearchCounts.FIRST_MOVE_BETA_CUTOFFS);
+        }
+    }
+
+    private void countNode(boolean isQuiescence) {
+        counts.countNode(isQuiescence);
+        nodes++;
+        if ((nodes & 255) == 0 || nodes >= limits.getMaxNodes()) {
+            if (nodes >= limits.getMaxNodes()
+                    || getElapsedMillis() >= limits.getMaxTimeMillis()) {
+                isStopped = true;
+            }
+        }
+    }
+
+    private boolean isSideToMoveInCheck() {
+        return gameState.calcIfAllyKingIsCheck(gameState.getIsWhiteToMove());
+    }
+
+    private long getElapsedMillis() {
+        return System.currentTimeMillis() - startTime;
+    }
+
+    /**
+     * Mate scores are stored relative to the node so they stay correct when the
+     * position is reached at a different ply.
+     */
+    private static int toHashScore(int score, int ply) {
+        if (score >= MATE_SCORE - MAX_PLY) {
+            return score + ply;
+        } else if (score <= -MATE_SCORE + MAX_PLY) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int fromHashScore(int score, int ply) {
+        if (score >= MATE_SCORE - MAX_PLY) {
+            return score - ply;
+        } else if (score <= -MATE_SCORE + MAX_PLY) {
+            return score + ply;
+        }
+        return score;
+    }
+}
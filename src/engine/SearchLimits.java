@@ -0,0 +1,66 @@
+package engine;
+
+/**
+ * The limits a search must stop at: a maximum depth, node count or time. Any limit
+ * that is not set is unlimited.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class SearchLimits {
+
+    public static final int MAX_DEPTH = 64;
+
+    private final int maxDepth;
+    private final long maxNodes;
+    private final long maxTimeMillis;
+
+    /**
+     * Constructor for SearchLimits.
+     * 
+     * @param maxDepth the maximum depth in plies, or 0 for no limit.
+     * @param maxNodes the maximum number of nodes, or 0 for no limit.
+     * @param maxTimeMillis the maximum search time in milliseconds, or 0 for no limit.
+     */
+    public SearchLimits(int maxDepth, long maxNodes, long maxTimeMillis) {
+        this.maxDepth = maxDepth > 0 ? Math.min(maxDepth, MAX_DEPTH) : MAX_DEPTH;
+        this.maxNodes = maxNodes > 0 ? maxNodes : Long.MAX_VALUE;
+        this.maxTimeMillis = maxTimeMillis > 0 ? maxTimeMillis : Long.MAX_VALUE;
+    }
+
+    public static SearchLimits depth(int maxDepth) {
+        return new SearchLimits(maxDepth, 0, 0);
+    }
+
+    public static SearchLimits nodes(long maxNodes) {
+        return new SearchLimits(0, maxNodes, 0);
+    }
+
+    public static SearchLimits time(long maxTimeMillis) {
+        return new SearchLimits(0, 0, maxTimeMillis);
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    public long getMaxTimeMillis() {
+        return maxTimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        if (maxDepth < MAX_DEPTH) builder.append("depth ").append(maxDepth).append(' ');
+        if (maxNodes < Long.MAX_VALUE) builder.append("nodes ").append(maxNodes).append(' ');
+        if (maxTimeMillis < Long.MAX_VALUE) {
+            builder.append("time ").append(maxTimeMillis).append(' ');
+        }
+        return builder.length() == 0 ? "infinite" : builder.toString().trim();
+    }
+}
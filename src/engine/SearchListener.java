@@ -0,0 +1,19 @@
+package engine;
+
+/**
+ * Receives the progress of a search, for example to show the principal variation
+ * while the engine thinks.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public interface SearchListener {
+
+    /**
+     * Called on the searching thread after every completed iteration.
+     * 
+     * @param result the result of the iteration.
+     */
+    void iterationCompleted(SearchResult result);
+}
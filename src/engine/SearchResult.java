@@ -0,0 +1,113 @@
+package engine;
+
+/**
+ * The result of a search: the best move, its score and principal variation, and
+ * how much work the search did. A multi-PV search also has the other lines it
+ * found, ranked by score.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class SearchResult {
+
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long timeMillis;
+    private final int[] principalVariation;
+    private final SearchResult[] lines;
+
+    public SearchResult(int bestMove, int score, int depth, long nodes, long timeMillis,
+                        int[] principalVariation) {
+        this(bestMove, score, depth, nodes, timeMillis, principalVariation, null);
+    }
+
+    /**
+     * Constructor for SearchResult of a multi-PV search.
+     *
+     * @param lines the lines found, best first, starting with this line; null if
+     * only this one.
+     */
+    public SearchResult(int bestMove, int score, int depth, long nodes, long timeMillis,
+                        int[] principalVariation, SearchResult[] lines) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.timeMillis = timeMillis;
+        this.principalVariation = principalVariation;
+        this.lines = lines;
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public int[] getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    /**
+     * Returns the lines of the search, each with its own first move, score and
+     * principal variation, best first. The first line is this result's.
+     *
+     * @return the lines; just this result unless the search was multi-PV.
+     */
+    public SearchResult[] getLines() {
+        return lines != null ? lines.clone() : new SearchResult[] {this};
+    }
+
+    public int getLineCount() {
+        return lines != null ? lines.length : 1;
+    }
+
+    /**
+     * Returns whether the score is a forced mate for either side.
+     * 
+     * @return true if the score is a mate score.
+     */
+    public boolean isMateScore() {
+        return isMateScore(score);
+    }
+
+    /**
+     * Returns the score as "cp 35" or "mate 3", where a negative mate count means
+     * the side to move gets mated.
+     * 
+     * @return the score text.
+     */
+    public String getScoreString() {
+        return getScoreString(score);
+    }
+
+    public static boolean isMateScore(int score) {
+        return Math.abs(score) >= SearchEngine.MATE_SCORE - SearchEngine.MAX_PLY;
+    }
+
+    public static String getScoreString(int score) {
+        if (isMateScore(score)) {
+            int plies = SearchEngine.MATE_SCORE - Math.abs(score);
+            int moves = (plies + 1) / 2;
+            return "mate " + (score > 0 ? moves : -moves);
+        }
+        return "cp " + score;
+    }
+}
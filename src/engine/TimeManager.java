@@ -0,0 +1,50 @@
+package engine;
+
+import metrics.TimeAllocationEvent;
+
+/**
+ * Decides how much of the remaining clock time to spend on a move.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class TimeManager {
+
+    // Moves assumed to be left in the game when the time control has no move count.
+    private static final int DEFAULT_MOVES_TO_GO = 30;
+
+    // Time kept back for the overhead of making a move.
+    private static final long MOVE_OVERHEAD_MILLIS = 20;
+
+    private TimeManager() {}
+
+    /**
+     * Returns the time to search the next move for.
+     *
+     * @param remainingMillis the time left on the clock of the side to move.
+     * @param incrementMillis the time added to the clock after each move.
+     * @param movesToGo the moves until the next time control, or 0 if unknown.
+     * @return the search time in milliseconds, at least 1.
+     */
+    public static long allocateMoveTime(long remainingMillis, long incrementMillis,
+                                        int movesToGo) {
+        long available = Math.max(1, remainingMillis - MOVE_OVERHEAD_MILLIS);
+        int moves = movesToGo > 0 ? Math.min(movesToGo, DEFAULT_MOVES_TO_GO)
+                                  : DEFAULT_MOVES_TO_GO;
+        long moveTime = available / moves + incrementMillis * 3 / 4;
+
+        // Never spend more than half the clock on one move.
+        long allocatedTime = Math.max(1, Math.min(moveTime, available / 2));
+
+        TimeAllocationEvent event = new TimeAllocationEvent();
+        if (event.shouldCommit()) {
+            event.remainingTime = remainingMillis;
+            event.increment = incrementMillis;
+            event.movesToGo = movesToGo;
+            event.allocatedTime = allocatedTime;
+            event.commit();
+        }
+        return allocatedTime;
+    }
+}
@@ -0,0 +1,99 @@
+package engine;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size hash table of search results, stored in two primitive arrays so an
+ * entry costs 16 bytes and no objects. Each entry packs the best move, score, depth
+ * and bound type into a single long.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class TranspositionTable {
+
+    // Bound types
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    public static final long NO_ENTRY = 0;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int mask;
+
+    /**
+     * Constructor for TranspositionTable.
+     * 
+     * @param sizeMB the table size in megabytes, rounded down to a power of two.
+     */
+    public TranspositionTable(int sizeMB) {
+        long entryCount = Math.max(1024, ((long) Math.max(1, sizeMB) << 20) / 16);
+        int size = (int) Long.highestOneBit(Math.min(entryCount, 1 << 30));
+        keys = new long[size];
+        entries = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Returns the entry stored for a key.
+     * 
+     * @param key the Zobrist key of the position.
+     * @return the packed entry, or NO_ENTRY.
+     */
+    public long probe(long key) {
+        int index = (int) key & mask;
+        return keys[index] == key ? entries[index] : NO_ENTRY;
+    }
+
+    /**
+     * Stores a search result. Deeper results for the same position are kept over
+     * shallower bounds, while other positions are always replaced.
+     * 
+     * @param key the Zobrist key of the position.
+     * @param move the best move found, or Move.NONE.
+     * @param score the score, with mate scores relative to this position.
+     * @param depth the remaining search depth.
+     * @param bound EXACT, LOWER_BOUND or UPPER_BOUND.
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        int index = (int) key & mask;
+        if (keys[index] == key && bound != EXACT && getDepth(entries[index]) > depth) {
+            return;
+        }
+        if (keys[index] == key && move == Move.NONE) {
+            move = getMove(entries[index]);
+        }
+        keys[index] = key;
+        entries[index] = (move & 0xFFFFL)
+                         | ((score & 0xFFFFL) << 16)
+                         | ((long) Math.max(0, Math.min(255, depth)) << 32)
+                         | ((long) bound << 40);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(entries, NO_ENTRY);
+    }
+
+    public static int getMove(long entry) {
+        return (int) (entry & 0xFFFF);
+    }
+
+    public static int getScore(long entry) {
+        return (short) (entry >>> 16);
+    }
+
+    public static int getDepth(long entry) {
+        return (int) ((entry >>> 32) & 0xFF);
+    }
+
+    public static int getBound(long entry) {
+        return (int) ((entry >>> 40) & 3);
+    }
+}
@@ -0,0 +1,80 @@
+package engine;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The neural evaluation arithmetic on SIMD registers through the Vector API.
+ * Compiling and running it needs --add-modules jdk.incubator.vector; without the
+ * module NnueKernel falls back to plain Java.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+class VectorNnueKernel extends NnueKernel {
+
+    private static final VectorSpecies<Short> SHORT_SPECIES = ShortVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES =
+            VectorSpecies.of(int.class, SHORT_SPECIES.vectorShape());
+
+    @Override
+    public void add(short[] accumulator, short[] weights, int offset) {
+        int bound = SHORT_SPECIES.loopBound(accumulator.length);
+        int i = 0;
+        for (; i < bound; i += SHORT_SPECIES.length()) {
+            ShortVector.fromArray(SHORT_SPECIES, accumulator, i)
+                       .add(ShortVector.fromArray(SHORT_SPECIES, weights, offset + i))
+                       .intoArray(accumulator, i);
+        }
+        for (; i < accumulator.length; i++) {
+            accumulator[i] += weights[offset + i];
+        }
+    }
+
+    @Override
+    public void subtract(short[] accumulator, short[] weights, int offset) {
+        int bound = SHORT_SPECIES.loopBound(accumulator.length);
+        int i = 0;
+        for (; i < bound; i += SHORT_SPECIES.length()) {
+            ShortVector.fromArray(SHORT_SPECIES, accumulator, i)
+                       .sub(ShortVector.fromArray(SHORT_SPECIES, weights, offset + i))
+                       .intoArray(accumulator, i);
+        }
+        for (; i < accumulator.length; i++) {
+            accumulator[i] -= weights[offset + i];
+        }
+    }
+
+    @Override
+    public int dotClipped(short[] accumulator, short[] weights, int offset, int clip) {
+        int bound = SHORT_SPECIES.loopBound(accumulator.length);
+        IntVector sum = IntVector.zero(INT_SPECIES);
+        int i = 0;
+        for (; i < bound; i += SHORT_SPECIES.length()) {
+            ShortVector clipped = ShortVector.fromArray(SHORT_SPECIES, accumulator, i)
+                                             .max((short) 0).min((short) clip);
+            ShortVector weight = ShortVector.fromArray(SHORT_SPECIES, weights, offset + i);
+            // Widen both halves to 32 bits so the products cannot overflow.
+            for (int part = 0; part < 2; part++) {
+                IntVector wideClipped = (IntVector) clipped.convertShape(
+                        VectorOperators.S2I, INT_SPECIES, part);
+                IntVector wideWeight = (IntVector) weight.convertShape(
+                        VectorOperators.S2I, INT_SPECIES, part);
+                sum = sum.add(wideClipped.mul(wideWeight));
+            }
+        }
+        int result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < accumulator.length; i++) {
+            result += Math.max(0, Math.min(clip, accumulator[i])) * weights[offset + i];
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "vector " + SHORT_SPECIES.vectorBitSize() + "-bit";
+    }
+}
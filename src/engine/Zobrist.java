@@ -0,0 +1,113 @@
+package engine;
+
+import chessboard.Tile;
+import chesspieces.Piece;
+import gamestate.GameState;
+import notation.FenPosition;
+
+/**
+ * Computes Zobrist hash keys of positions. Keys are independent of which side sits
+ * at the bottom of the chessboard, so the same position always has the same key.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class Zobrist {
+
+    private static final long[][] PIECE_KEYS = new long[12][64];
+    private static final long[] CASTLING_KEYS = new long[16];
+    private static final long[] ENPASSANT_KEYS = new long[8];
+    private static final long SIDE_KEY;
+
+    static {
+        // Fixed seed so keys stay the same between runs.
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int piece = 0; piece < 12; piece++) {
+            for (int square = 0; square < 64; square++) {
+                seed = nextRandom(seed);
+                PIECE_KEYS[piece][square] = mix(seed);
+            }
+        }
+        for (int i = 0; i < 16; i++) {
+            seed = nextRandom(seed);
+            CASTLING_KEYS[i] = mix(seed);
+        }
+        for (int i = 0; i < 8; i++) {
+            seed = nextRandom(seed);
+            ENPASSANT_KEYS[i] = mix(seed);
+        }
+        SIDE_KEY = mix(nextRandom(seed));
+    }
+
+    private Zobrist() {}
+
+    /**
+     * Computes the key of the current position from scratch.
+     * 
+     * @param gameState the position.
+     * @return the Zobrist key.
+     */
+    public static long computeKey(GameState gameState) {
+        Tile[] chessBoard = gameState.getChessBoard();
+        boolean isWhiteSide = gameState.getIsWhiteSide();
+        long key = 0;
+        for (int tileID = 0; tileID < 64; tileID++) {
+            Piece piece = chessBoard[tileID].getAssignedPiece();
+            if (piece != null) {
+                key ^= PIECE_KEYS[getPieceIndex(piece)][FenPosition.toTileID(tileID,
+                                                                           isWhiteSide)];
+            }
+        }
+        key ^= CASTLING_KEYS[gameState.getCastlingRights()];
+
+        int enpassantSquare = gameState.getEnpassantSquare();
+        if (enpassantSquare >= 0 && canCaptureEnpassant(gameState, enpassantSquare)) {
+            key ^= ENPASSANT_KEYS[enpassantSquare & 7];
+        }
+        if (!gameState.getIsWhiteToMove()) {
+            key ^= SIDE_KEY;
+        }
+        return key;
+    }
+
+    /**
+     * Returns the index of a piece in the key tables: 0-5 for the white pawn, knight,
+     * bishop, rook, queen and king, 6-11 for the black ones.
+     * 
+     * @param piece the chess piece.
+     * @return the piece index.
+     */
+    public static int getPieceIndex(Piece piece) {
+        return piece.getPieceCode();
+    }
+
+    /**
+     * Only en passant squares a pawn can actually capture on change the key, so
+     * otherwise identical positions transpose.
+     */
+    private static boolean canCaptureEnpassant(GameState gameState, int enpassantSquare) {
+        boolean isWhiteToMove = gameState.getIsWhiteToMove();
+        int pushedSquare = isWhiteToMove ? enpassantSquare + 8 : enpassantSquare - 8;
+        int column = pushedSquare & 7;
+        return (column > 0 && isPawnAt(gameState, pushedSquare - 1, isWhiteToMove))
+                || (column < 7 && isPawnAt(gameState, pushedSquare + 1, isWhiteToMove));
+    }
+
+    private static boolean isPawnAt(GameState gameState, int square, boolean isWhite) {
+        Piece piece = gameState.getChessBoard()[FenPosition.toTileID(square,
+                gameState.getIsWhiteSide())].getAssignedPiece();
+        return piece != null && piece.getIsPieceWhite() == isWhite
+                && piece.getPieceKind() == Piece.PAWN;
+    }
+
+    private static long nextRandom(long seed) {
+        return seed + 0x9E3779B97F4A7C15L;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,19 @@
+package gamestate;
+
+/**
+ * Receives the tiles changed by the moves and undos played through a MoveAlgorithm,
+ * so that a view can redraw them. Simulated moves are not reported.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public interface BoardListener {
+
+    /**
+     * Called after a move or undo changed the pieces on some tiles.
+     *
+     * @param tileIDs the IDs of the changed tiles; an ID may appear more than once.
+     */
+    void tilesChanged(int[] tileIDs);
+}
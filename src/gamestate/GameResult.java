@@ -0,0 +1,151 @@
+package gamestate;
+
+import chessboard.Tile;
+import chesspieces.Piece;
+
+/**
+ * Tells whether the side to move is in check, checkmated or stalemated, or whether
+ * the game is drawn by the fifty-move rule or by insufficient material. The tests
+ * stop as soon as the answer is known: the search for a legal move ends at the
+ * first one found, and the material test at the first pawn, rook or queen.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class GameResult {
+
+    public static final int IN_PROGRESS = 0;
+    public static final int CHECK = 1;
+    public static final int CHECKMATE = 2;
+    public static final int STALEMATE = 3;
+    public static final int FIFTY_MOVE_RULE = 4;
+    public static final int INSUFFICIENT_MATERIAL = 5;
+
+    private static final String[] DESCRIPTIONS = {"in progress", "check", "checkmate",
+                                                  "stalemate", "fifty move rule",
+                                                  "insufficient material"};
+
+    private GameResult() {}
+
+    /**
+     * Returns the result of the position for the side to move. Checkmate and
+     * stalemate take precedence over the draw rules.
+     *
+     * @param gameState the position.
+     * @return one of the result constants.
+     */
+    public static int getResult(GameState gameState) {
+        boolean isInCheck = gameState.calcIfAllyKingIsCheck(gameState.getIsWhiteToMove());
+        if (!hasLegalMove(gameState)) {
+            return isInCheck ? CHECKMATE : STALEMATE;
+        } else if (gameState.getHalfMoveClock() >= 100) {
+            return FIFTY_MOVE_RULE;
+        } else if (isInsufficientMaterial(gameState)) {
+            return INSUFFICIENT_MATERIAL;
+        }
+        return isInCheck ? CHECK : IN_PROGRESS;
+    }
+
+    /**
+     * Returns whether a result ends the game.
+     *
+     * @param result one of the result constants.
+     * @return true for checkmate, stalemate and draws.
+     */
+    public static boolean isGameOver(int result) {
+        return result >= CHECKMATE;
+    }
+
+    /**
+     * Returns whether a result is a draw.
+     *
+     * @param result one of the result constants.
+     * @return true for stalemate and draws by rule.
+     */
+    public static boolean isDraw(int result) {
+        return result >= STALEMATE;
+    }
+
+    /**
+     * Returns a short description of a result, for example "checkmate".
+     *
+     * @param result one of the result constants.
+     * @return the description.
+     */
+    public static String getDescription(int result) {
+        return DESCRIPTIONS[result];
+    }
+
+    /**
+     * Returns whether the side to move has at least one legal move. Moves are tried
+     * one at a time and the search stops at the first legal one.
+     *
+     * @param gameState the position.
+     * @return true if the side to move can move.
+     */
+    public static boolean hasLegalMove(GameState gameState) {
+        boolean isWhiteToMove = gameState.getIsWhiteToMove();
+        Tile[] chessBoard = gameState.getChessBoard();
+        MoveAlgorithm moveAlgorithm = gameState.getMoveAlgorithm();
+        PieceList pieceList = gameState.getPieceList();
+        Piece king = gameState.getKing(isWhiteToMove);
+        // The king is tried first, since it is the piece most often able to move.
+        if (hasLegalMove(gameState, chessBoard, moveAlgorithm, king)) {
+            return true;
+        }
+        for (int i = 0; i < pieceList.getSideCount(isWhiteToMove); i++) {
+            Piece piece = pieceList.getSidePiece(isWhiteToMove, i);
+            if (piece != king && hasLegalMove(gameState, chessBoard, moveAlgorithm, piece)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasLegalMove(GameState gameState, Tile[] chessBoard,
+                                        MoveAlgorithm moveAlgorithm, Piece piece) {
+        int fromID = piece.getPiecePosition();
+        for (int toID : piece.getAllMoves(chessBoard)) {
+            moveAlgorithm.simulateMovePieceToSquare(chessBoard, fromID, toID);
+            boolean isLegal = !gameState.calcIfAllyKingIsCheck(piece.getIsPieceWhite());
+            moveAlgorithm.simulateUndoMove(chessBoard);
+            if (isLegal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether neither side can ever checkmate: bare kings, a single knight or
+     * bishop against a bare king, or only bishops that all stand on tiles of the
+     * same color.
+     *
+     * @param gameState the position.
+     * @return true if the position is a dead draw.
+     */
+    public static boolean isInsufficientMaterial(GameState gameState) {
+        PieceList pieceList = gameState.getPieceList();
+        int knightCount = 0;
+        int bishopCount = 0;
+        int bishopTileColors = 0;
+        for (int colorOffset = 0; colorOffset < PieceList.CODE_COUNT;
+                colorOffset += Piece.BLACK_OFFSET) {
+            if (pieceList.getCount(Piece.PAWN + colorOffset) > 0
+                    || pieceList.getCount(Piece.ROOK + colorOffset) > 0
+                    || pieceList.getCount(Piece.QUEEN + colorOffset) > 0) {
+                return false;
+            }
+            knightCount += pieceList.getCount(Piece.KNIGHT + colorOffset);
+            int bishopCode = Piece.BISHOP + colorOffset;
+            for (int i = 0; i < pieceList.getCount(bishopCode); i++) {
+                int tileID = pieceList.getPiece(bishopCode, i).getPiecePosition();
+                bishopTileColors |= 1 << ((tileID / 8 + tileID % 8) % 2);
+                bishopCount++;
+            }
+        }
+        return knightCount + bishopCount <= 1
+               || (knightCount == 0 && bishopTileColors != 3);
+    }
+}
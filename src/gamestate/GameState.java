@@ -1,10 +1,15 @@
 package gamestate;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.Stack;
 
-import chessboard.TileUI;
+import chessboard.DefaultGameBoard;
+import chessboard.Tile;
 import chesspieces.Piece;
+import notation.FenPosition;
 
 /**
  * Keeps track of the game state: Retrieves enemy moves and calculates
@@ -16,15 +21,27 @@ import chesspieces.Piece;
  */
 public class GameState {
 
-    private TileUI[] chessBoard;
+    // FEN letters of the black pieces, indexed by piece kind.
+    private static final String PIECE_CHARS = "pnbrqk";
+
+    private Tile[] chessBoard;
     private MoveAlgorithm moveAlgorithm;
+    private final boolean isWhiteSide;
 
     private Piece whiteKing;
     private Piece blackKing;
 
-    private Set<Piece> whitePieces;
-    private Set<Piece> blackPieces;
-    
+    private final PieceList pieceList;
+
+    // The position the game was set up in, and the number of moves the history held
+    // then.
+    private String startFen;
+    private int setUpMoveCount;
+
+    // Ply and half-move clock of the position before the first recorded move.
+    private int initialPly;
+    private int initialHalfMoveClock;
+
     /**
      * Constructor for the GameState class. Tracks all black and white pieces.
      * 
@@ -32,32 +49,242 @@ public class GameState {
      * @param moveAlgorithm manipulates chess piece movement wihtin the main chessboard.
      * @param isWhiteSide true if the player is white sided, false otherwise.
      */
-    public GameState(TileUI[] chessBoard, MoveAlgorithm moveAlgorithm, boolean isWhiteSide) {
+    public GameState(Tile[] chessBoard, MoveAlgorithm moveAlgorithm, boolean isWhiteSide) {
         this.chessBoard = chessBoard;
         this.moveAlgorithm = moveAlgorithm;
+        this.isWhiteSide = isWhiteSide;
+        this.pieceList = new PieceList();
+        moveAlgorithm.setGameState(this);
+        savePieces();
+        saveStartPosition();
+    }
 
-        if (isWhiteSide) {
-            this.whiteKing = chessBoard[60].getAssignedPiece();
-            this.blackKing = chessBoard[4].getAssignedPiece();
-            this.whitePieces = saveChessPieces(48);
-            this.blackPieces = saveChessPieces(0);
-        } else {
-            this.whiteKing = chessBoard[4].getAssignedPiece();
-            this.blackKing = chessBoard[60].getAssignedPiece();
-            this.whitePieces = saveChessPieces(0);
-            this.blackPieces = saveChessPieces(48);
-        }
+    /**
+     * Constructor for the GameState class of a board set up from a FEN position.
+     * 
+     * @param chessBoard the main chessboard that tracks board-state.
+     * @param moveAlgorithm manipulates chess piece movement wihtin the main chessboard.
+     * @param isWhiteSide true if the player is white sided, false otherwise.
+     * @param position the position the chessboard was set up with.
+     */
+    public GameState(Tile[] chessBoard, MoveAlgorithm moveAlgorithm, boolean isWhiteSide,
+                     FenPosition position) {
+        this(chessBoard, moveAlgorithm, isWhiteSide);
+        saveMoveCounters(position);
+        saveStartPosition();
+    }
+
+    /**
+     * Creates a complete headless game (history, board, move algorithm and state) from
+     * a FEN string.
+     * 
+     * @param fen the FEN string of the position.
+     * @param isWhiteSide true if white is on the bottom of the chessboard.
+     * @return the game state of the new game.
+     * @throws IllegalArgumentException if the FEN is malformed.
+     */
+    public static GameState fromFen(String fen, boolean isWhiteSide) {
+        FenPosition position = FenPosition.fromFen(fen);
+        Stack<MoveHistory> moveHistory = new Stack<MoveHistory>();
+        DefaultGameBoard gameBoard = new DefaultGameBoard(moveHistory, isWhiteSide,
+                                                          position);
+        MoveAlgorithm moveAlgorithm = new MoveAlgorithm(moveHistory);
+        return new GameState(gameBoard.getChessBoard(), moveAlgorithm, isWhiteSide,
+                             position);
+    }
+
+    /**
+     * Replaces the current position with the given one, reusing the existing tiles.
+     * The move history is cleared.
+     * 
+     * @param position the position to load.
+     */
+    public void loadPosition(FenPosition position) {
+        DefaultGameBoard.setUpPosition(chessBoard, moveAlgorithm.getMoveHistory(),
+                                       isWhiteSide, position);
+        savePieces();
+        saveMoveCounters(position);
+        saveStartPosition();
+    }
+
+    /**
+     * Returns the FEN string of the position the game was set up in.
+     * 
+     * @return the FEN string.
+     */
+    public String getStartFen() {
+        return startFen;
+    }
+
+    /**
+     * Returns the moves made since the game was set up, oldest first.
+     * 
+     * @return a view of the move history.
+     */
+    public List<MoveHistory> getGameMoves() {
+        Stack<MoveHistory> moveHistory = moveAlgorithm.getMoveHistory();
+        return moveHistory.subList(setUpMoveCount, moveHistory.size());
     }
 
     /**
      * Returns the chessboard.
      * 
-     * @return TileUI chessboard.
+     * @return Tile chessboard.
      */
-    public TileUI[] getChessBoard() {
+    public Tile[] getChessBoard() {
         return chessBoard;
     }
 
+    /**
+     * Returns the move algorithm used on the chessboard.
+     * 
+     * @return the move algorithm.
+     */
+    public MoveAlgorithm getMoveAlgorithm() {
+        return moveAlgorithm;
+    }
+
+    /**
+     * Returns whether white is on the bottom of the chessboard.
+     * 
+     * @return true if the player is white sided, false otherwise.
+     */
+    public boolean getIsWhiteSide() {
+        return isWhiteSide;
+    }
+
+    /**
+     * Returns the king of the given side.
+     * 
+     * @param isWhiteSide true for the white king, false for the black king.
+     * @return the king.
+     */
+    public Piece getKing(boolean isWhiteSide) {
+        return isWhiteSide ? whiteKing : blackKing;
+    }
+
+    /**
+     * Returns whether it is white's turn to move.
+     * 
+     * @return true if white is to move, false otherwise.
+     */
+    public boolean getIsWhiteToMove() {
+        return Math.floorMod(getCurrentPly(), 2) == 0;
+    }
+
+    /**
+     * Returns the number of half-moves since the last capture or pawn move.
+     * 
+     * @return the half-move clock.
+     */
+    public int getHalfMoveClock() {
+        return moveAlgorithm.getHalfMoveClock();
+    }
+
+    /**
+     * Returns the full-move number, which starts at 1 and increases after black moves.
+     * 
+     * @return the full-move number.
+     */
+    public int getFullMoveNumber() {
+        return Math.floorDiv(getCurrentPly(), 2) + 1;
+    }
+
+    /**
+     * Returns the FEN string of the current position.
+     * 
+     * @return the FEN string.
+     */
+    public String toFen() {
+        return toFenPosition(new FenPosition()).toString();
+    }
+
+    /**
+     * Writes the current position into the given FenPosition.
+     * 
+     * @param position the position to write to.
+     * @return the same position.
+     */
+    public FenPosition toFenPosition(FenPosition position) {
+        position.clear();
+        for (int square = 0; square < 64; square++) {
+            Piece piece = chessBoard[FenPosition.toTileID(square, isWhiteSide)]
+                    .getAssignedPiece();
+            if (piece != null) {
+                char pieceChar = PIECE_CHARS.charAt(piece.getPieceKind());
+                position.setPiece(square, piece.getIsPieceWhite()
+                                          ? Character.toUpperCase(pieceChar) : pieceChar);
+            }
+        }
+
+        position.setIsWhiteToMove(getIsWhiteToMove());
+        position.setCastlingRights(getCastlingRights());
+        position.setEnpassantSquare(getEnpassantSquare());
+        position.setHalfMoveClock(getHalfMoveClock());
+        position.setFullMoveNumber(getFullMoveNumber());
+        return position;
+    }
+
+    /**
+     * Returns the castling rights of both sides as FenPosition flags.
+     * 
+     * @return the castling rights.
+     */
+    public int getCastlingRights() {
+        int castlingRights = 0;
+        if (canCastle(60, 63, true)) castlingRights |= FenPosition.WHITE_KING_SIDE;
+        if (canCastle(60, 56, true)) castlingRights |= FenPosition.WHITE_QUEEN_SIDE;
+        if (canCastle(4, 7, false)) castlingRights |= FenPosition.BLACK_KING_SIDE;
+        if (canCastle(4, 0, false)) castlingRights |= FenPosition.BLACK_QUEEN_SIDE;
+        return castlingRights;
+    }
+
+    /**
+     * Returns the square (a8 = 0) skipped by a double pawn push on the last move.
+     * 
+     * @return the en passant square, or -1 if there is none.
+     */
+    public int getEnpassantSquare() {
+        Stack<MoveHistory> moveHistory = moveAlgorithm.getMoveHistory();
+        if (!moveHistory.isEmpty()) {
+            MoveHistory recentMove = moveHistory.peek();
+            Piece pieceMoved = recentMove.getPieceMoved();
+            int oldPosition = recentMove.getOldPieceMovedID();
+            int newPosition = pieceMoved.getPiecePosition();
+            if (pieceMoved.getPieceKind() == Piece.PAWN
+                    && Math.abs(newPosition - oldPosition) == 16) {
+                return FenPosition.toTileID((oldPosition + newPosition) / 2, isWhiteSide);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the pieces on the chessboard, by piece code.
+     * 
+     * @return the piece lists, kept up to date as moves are made and undone.
+     */
+    public PieceList getPieceList() {
+        return pieceList;
+    }
+
+    /**
+     * Returns the pieces of the given side that are currently on the chessboard, in
+     * list order (see Piece.getListOrder). Loops run at every search node should go
+     * over PieceList.getSidePiece instead, which needs no copy.
+     * 
+     * @param isWhiteSide true for white pieces, false for black pieces.
+     * @return a new list of the alive pieces.
+     */
+    public List<Piece> getAlivePieces(boolean isWhiteSide) {
+        int count = pieceList.getSideCount(isWhiteSide);
+        List<Piece> alivePieces = new ArrayList<Piece>(count);
+        for (int i = 0; i < count; i++) {
+            alivePieces.add(pieceList.getSidePiece(isWhiteSide, i));
+        }
+        return alivePieces;
+    }
+
     /**
      * Returns the set of all enemy moves.
      * 
@@ -66,12 +293,11 @@ public class GameState {
      * checking if the King is in check.
      */
     public Set<Integer> getAllEnemyMoves(boolean isWhiteSide) {
-        Set<Piece> enemyAllPieces = isWhiteSide ? blackPieces : whitePieces;
+        int firstCode = isWhiteSide ? Piece.BLACK_OFFSET : 0;
         Set<Integer> results = new HashSet<Integer>();
-        for (Piece piece : enemyAllPieces) {
-            piece = chessBoard[piece.getPiecePosition()].getAssignedPiece();
-            if (piece != null) {
-                results.addAll(piece.getAllMoves(chessBoard));
+        for (int code = firstCode; code < firstCode + Piece.BLACK_OFFSET; code++) {
+            for (int i = 0; i < pieceList.getCount(code); i++) {
+                results.addAll(pieceList.getPiece(code, i).getAllMoves(chessBoard));
             }
         }
         return results;
@@ -84,13 +310,10 @@ public class GameState {
      * @return set of integers representing the tile ID the enemy can move to.
      */
     public Set<Integer> getAllLegalEnemyMoves(boolean isWhiteSide) {
-        Set<Piece> alivePieces = isWhiteSide ? blackPieces : whitePieces;
         Set<Integer> results = new HashSet<Integer>();
-        for (Piece piece : alivePieces) {
-            piece = chessBoard[piece.getPiecePosition()].getAssignedPiece();
-            if (piece != null) {
-                results.addAll(piece.getAllLegalMoves(this, chessBoard, moveAlgorithm));
-            }
+        for (int i = 0; i < pieceList.getSideCount(!isWhiteSide); i++) {
+            Piece piece = pieceList.getSidePiece(!isWhiteSide, i);
+            results.addAll(piece.getAllLegalMoves(this, chessBoard, moveAlgorithm));
         }
         return results;
     }
@@ -102,14 +325,23 @@ public class GameState {
      * @return true if the given side has their king check, false otherwise.
      */
     public boolean calcIfAllyKingIsCheck(boolean isWhiteSide) {
-        Set<Piece> enemyAlivePieces = isWhiteSide ? blackPieces : whitePieces;
-        Piece allyKing = isWhiteSide ? whiteKing : blackKing;
-
-        for (Piece enemyPiece : enemyAlivePieces) {
-            enemyPiece = chessBoard[enemyPiece.getPiecePosition()].getAssignedPiece();
-            if (enemyPiece != null) {
-                Set<Integer> allMoves = enemyPiece.getAllMoves(chessBoard);
-                if (allMoves.contains(allyKing.getPiecePosition())) {
+        return isTileAttacked((isWhiteSide ? whiteKing : blackKing).getPiecePosition(),
+                              !isWhiteSide);
+    }
+
+    /**
+     * Returns whether a side attacks a tile, that is whether one of its pieces could
+     * capture an enemy piece standing there. Pawns attack diagonally only.
+     * 
+     * @param tileID the tile ID of the tile.
+     * @param isByWhite true to test the white pieces, false for the black pieces.
+     * @return true if the tile is attacked.
+     */
+    public boolean isTileAttacked(int tileID, boolean isByWhite) {
+        int firstCode = isByWhite ? 0 : Piece.BLACK_OFFSET;
+        for (int code = firstCode; code < firstCode + Piece.BLACK_OFFSET; code++) {
+            for (int i = 0; i < pieceList.getCount(code); i++) {
+                if (pieceList.getPiece(code, i).isAttacking(chessBoard, tileID)) {
                     return true;
                 }
             }
@@ -118,16 +350,80 @@ public class GameState {
     }
 
     /**
-     * Saves the chess pieces to an array.  
+     * Returns the half-move clock of the position before the first recorded move.
      * 
-     * @param index the starting index of a chessboard to iterate through to index + 16.
-     * @return Piece[] representing a set of chess pieces.
+     * @return the initial half-move clock.
+     */
+    int getInitialHalfMoveClock() {
+        return initialHalfMoveClock;
+    }
+
+    /**
+     * Saves the kings and the chess pieces of both sides from the chessboard.
      */
-    private Set<Piece> saveChessPieces(int index) {
-        Set<Piece> chessPieces = new HashSet<Piece>();
-        for (int i = index; i < index + 16; i++) {
-            chessPieces.add(chessBoard[i].getAssignedPiece());
+    private void savePieces() {
+        pieceList.clear();
+        whiteKing = null;
+        blackKing = null;
+        for (Tile tile : chessBoard) {
+            Piece piece = tile.getAssignedPiece();
+            if (piece != null) {
+                // Listed in tile order, so moves are generated in a fixed order.
+                piece.setListOrder(-1);
+                pieceList.add(piece);
+                if (piece.getPieceKind() == Piece.KING) {
+                    if (piece.getIsPieceWhite()) {
+                        whiteKing = piece;
+                    } else {
+                        blackKing = piece;
+                    }
+                }
+            }
+        }
+        if (whiteKing == null || blackKing == null) {
+            throw new IllegalArgumentException("Both sides need a king on the board");
         }
-        return chessPieces;
+        initialPly = 0;
+        initialHalfMoveClock = 0;
+    }
+
+    /**
+     * Saves the move counters of a position so that later counters continue from it.
+     * 
+     * @param position the position the chessboard was set up with.
+     */
+    private void saveMoveCounters(FenPosition position) {
+        int currentPly = 2 * (position.getFullMoveNumber() - 1)
+                         + (position.isWhiteToMove() ? 0 : 1);
+        initialPly = currentPly - moveAlgorithm.getMoveHistory().size();
+        initialHalfMoveClock = position.getHalfMoveClock();
+    }
+
+    private void saveStartPosition() {
+        startFen = toFen();
+        setUpMoveCount = moveAlgorithm.getMoveHistory().size();
+    }
+
+    private int getCurrentPly() {
+        return initialPly + moveAlgorithm.getMoveHistory().size();
+    }
+
+    /**
+     * Returns whether a king and rook on their home squares can still castle.
+     * 
+     * @param kingSquare the home square (a8 = 0) of the king.
+     * @param rookSquare the home square (a8 = 0) of the rook.
+     * @param isWhite true for white's castling rights.
+     * @return true if neither piece has moved.
+     */
+    private boolean canCastle(int kingSquare, int rookSquare, boolean isWhite) {
+        Piece king = chessBoard[FenPosition.toTileID(kingSquare, isWhiteSide)]
+                .getAssignedPiece();
+        Piece rook = chessBoard[FenPosition.toTileID(rookSquare, isWhiteSide)]
+                .getAssignedPiece();
+        return king != null && king.getPieceKind() == Piece.KING
+                && king.getIsPieceWhite() == isWhite && king.getIsFirstMove()
+                && rook != null && rook.getPieceKind() == Piece.ROOK
+                && rook.getIsPieceWhite() == isWhite && rook.getIsFirstMove();
     }
 }
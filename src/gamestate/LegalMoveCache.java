@@ -0,0 +1,120 @@
+package gamestate;
+
+import chesspieces.Piece;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Computes the legal moves of every piece of the side to move on a background thread
+ * as soon as a position is reached, so that selecting a piece never has to simulate
+ * moves on the live chessboard. The moves are computed on a copy of the position
+ * and kept for the most recently seen positions, so undoing a move finds them
+ * again.
+ *
+ * <p>positionChanged and getLegalMoves must be called from the thread that changes
+ * the live game, since they read its position.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class LegalMoveCache {
+
+    // Positions whose legal moves are kept.
+    private static final int MAX_POSITIONS = 64;
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "legal-moves");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final GameState gameState;
+    private final Map<String, CompletableFuture<Map<Integer, Set<Integer>>>> positions;
+    private CompletableFuture<Map<Integer, Set<Integer>>> currentMoves;
+
+    /**
+     * Constructor for LegalMoveCache. The legal moves of the current position start
+     * computing straight away.
+     *
+     * @param gameState the live game.
+     */
+    public LegalMoveCache(GameState gameState) {
+        this.gameState = gameState;
+        this.positions = new LinkedHashMap<String, CompletableFuture<Map<Integer,
+                Set<Integer>>>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Map<
+                    Integer, Set<Integer>>>> eldest) {
+                return size() > MAX_POSITIONS;
+            }
+        };
+        positionChanged();
+    }
+
+    /**
+     * Starts computing the legal moves of the position the live game is in now,
+     * unless they are known already. Call after every move and undo.
+     */
+    public void positionChanged() {
+        String fen = gameState.toFen();
+        // The two move counters at the end do not change which moves are legal.
+        int countersStart = fen.lastIndexOf(' ', fen.lastIndexOf(' ') - 1);
+        String positionKey = fen.substring(0, countersStart);
+        currentMoves = positions.get(positionKey);
+        if (currentMoves == null) {
+            boolean isWhiteSide = gameState.getIsWhiteSide();
+            currentMoves = CompletableFuture.supplyAsync(
+                    () -> computeLegalMoves(GameState.fromFen(fen, isWhiteSide)), executor);
+            positions.put(positionKey, currentMoves);
+        }
+    }
+
+    /**
+     * Returns the legal moves of a piece of the side to move in the current position,
+     * without waiting for them.
+     *
+     * @param tileID the tile ID of the piece.
+     * @return the tile IDs the piece can move to, empty if it cannot move or is not
+     * a piece of the side to move; null if the moves are still being computed.
+     */
+    public Set<Integer> getLegalMoves(int tileID) {
+        Map<Integer, Set<Integer>> legalMoves = currentMoves.getNow(null);
+        if (legalMoves == null) {
+            return null;
+        }
+        Set<Integer> moves = legalMoves.get(tileID);
+        return moves != null ? moves : Collections.<Integer>emptySet();
+    }
+
+    /**
+     * Runs an action once the legal moves of the current position are known: on the
+     * thread that computed them, or straight away if they are known already.
+     *
+     * @param action the action.
+     */
+    public void whenReady(Runnable action) {
+        currentMoves.thenRun(action);
+    }
+
+    private static Map<Integer, Set<Integer>> computeLegalMoves(GameState position) {
+        Map<Integer, Set<Integer>> legalMoves = new HashMap<Integer, Set<Integer>>();
+        PieceList pieceList = position.getPieceList();
+        boolean isWhiteToMove = position.getIsWhiteToMove();
+        for (int i = 0; i < pieceList.getSideCount(isWhiteToMove); i++) {
+            Piece piece = pieceList.getSidePiece(isWhiteToMove, i);
+            legalMoves.put(piece.getPiecePosition(), Collections.unmodifiableSet(
+                    piece.getAllLegalMoves(position, position.getChessBoard(),
+                                           position.getMoveAlgorithm())));
+        }
+        return legalMoves;
+    }
+}
@@ -1,6 +1,6 @@
 package gamestate;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 import chesspieces.*;
 
 import java.util.Stack;
@@ -16,6 +16,9 @@ public class MoveAlgorithm {
 
     private final Stack<MoveHistory> moveHistory;
     private Piece pieceAttacked;
+    private GameState gameState;
+    private PieceList pieceList;
+    private BoardListener boardListener;
     
     /**
      * Constructor for the MoveAlgorithm class.
@@ -26,46 +29,80 @@ public class MoveAlgorithm {
         pieceAttacked = null;
     }
 
+    /**
+     * Returns the move history the algorithm records moves to.
+     * @return the move history.
+     */
+    public Stack<MoveHistory> getMoveHistory() {
+        return moveHistory;
+    }
+
+    /**
+     * Sets the listener told about the tiles changed by movePieceToSquare and undoMove.
+     * 
+     * @param boardListener the listener, or null for none.
+     */
+    public void setBoardListener(BoardListener boardListener) {
+        this.boardListener = boardListener;
+    }
+
     /**
      * Moves a piece from it's old tile ID to the new old tile ID and
-     * updates the chess board UI.
+     * notifies the board listener.
      * 
      * @param chessBoard the main chessboard that tracks board-state.
      * @param moveFromID the tile ID the piece is moving from.
      * @param moveToID the tile ID the piece is moving to.
      */
-    public void movePieceToSquare(TileUI[] chessBoard,
+    public void movePieceToSquare(Tile[] chessBoard,
                                   int moveFromID,
                                   int moveToID) {
         simulateMovePieceToSquare(chessBoard, moveFromID, moveToID);
-        repaintChessBoard(chessBoard, chessBoard[moveToID].getAssignedPiece(),
-                          pieceAttacked, moveFromID,
-                          moveHistory.peek().getOldPieceAttackedID());
+        fireTilesChanged(chessBoard[moveToID].getAssignedPiece(), pieceAttacked,
+                         moveFromID, moveHistory.peek().getOldPieceAttackedID());
     }
 
     /**
-     * Moves a piece from it's old tile ID to the new old tile ID withou
-     * updating the chess board UI.
+     * Moves a piece from it's old tile ID to the new old tile ID without
+     * notifying the board listener. Pawns reaching the far row become queens.
      * 
      * @param chessBoard the main chessboard that tracks board-state.
      * @param moveFromID the tile ID the piece is moving from.
      * @param moveToID the tile ID the piece is moving to.
      */
-    public void simulateMovePieceToSquare(TileUI[] chessBoard,
+    public void simulateMovePieceToSquare(Tile[] chessBoard,
                                           int moveFromID,
                                           int moveToID) {
+        simulateMovePieceToSquare(chessBoard, moveFromID, moveToID, Piece.QUEEN);
+    }
+
+    /**
+     * Moves a piece from it's old tile ID to the new old tile ID without
+     * notifying the board listener.
+     * 
+     * @param chessBoard the main chessboard that tracks board-state.
+     * @param moveFromID the tile ID the piece is moving from.
+     * @param moveToID the tile ID the piece is moving to.
+     * @param promotionKind the piece kind a pawn reaching the far row becomes.
+     */
+    public void simulateMovePieceToSquare(Tile[] chessBoard,
+                                          int moveFromID,
+                                          int moveToID,
+                                          byte promotionKind) {
         Piece pieceMoved = chessBoard[moveFromID].getAssignedPiece();
         this.pieceAttacked = calculatePieceAttacked(chessBoard, moveFromID,
                                                moveToID, pieceMoved);
+        Piece promotedPiece = calculatePromotedPiece(pieceMoved, moveToID,
+                                                     promotionKind);
 
-        saveMoveToHistory(moveToID, pieceMoved, pieceAttacked);
+        saveMoveToHistory(moveToID, pieceMoved, pieceAttacked, promotedPiece);
         pieceMoved.setIsFirstMove(false);
         updatePiecePositions(chessBoard, pieceMoved,
-                             pieceAttacked, moveFromID,
+                             pieceAttacked, promotedPiece, moveFromID,
                              moveToID);
     }
 
-    public void undoMove(TileUI[] chessBoard) {
+    public void undoMove(Tile[] chessBoard) {
         if (!moveHistory.isEmpty()) {
             MoveHistory recentMove = moveHistory.peek();
             Piece pieceMoved = recentMove.getPieceMoved();
@@ -76,46 +113,63 @@ public class MoveAlgorithm {
                                         ? pieceAttacked.getPiecePosition() : -1;
             
             simulateUndoMove(chessBoard);
-            repaintChessBoard(chessBoard, pieceMoved, pieceAttacked,
-                              recentPieceMovedID, recentPieceAttackedID);
+            fireTilesChanged(pieceMoved, pieceAttacked, recentPieceMovedID,
+                             recentPieceAttackedID);
         }
     }
 
-    public void simulateUndoMove(TileUI[] chessBoard) {
+    public void simulateUndoMove(Tile[] chessBoard) {
         MoveHistory recentMove = moveHistory.pop();
         Piece pieceMoved = recentMove.getPieceMoved();
         Piece pieceAttacked = recentMove.getPieceAttacked();
         int oldPieceMovedID = recentMove.getOldPieceMovedID();
         int oldPieceAttackedID = recentMove.getOldPieceAttackedID();
+        Piece promotedPiece = recentMove.getPromotedPiece();
         
         // Update pieceMoved chessboard positions
-        chessBoard[pieceMoved.getPiecePosition()].setAssignedPiece(null);
+        int pieceMovedID = pieceMoved.getPiecePosition();
+        chessBoard[pieceMovedID].setAssignedPiece(null);
         chessBoard[oldPieceMovedID].setAssignedPiece(pieceMoved);
         pieceMoved.setPiecePosition(oldPieceMovedID);
         pieceMoved.setIsFirstMove(recentMove.isFirstMove());
+        if (pieceList != null) {
+            if (promotedPiece != null) {
+                pieceList.remove(promotedPiece);
+                pieceList.add(pieceMoved);
+            } else {
+                pieceList.move(pieceMovedID, oldPieceMovedID);
+            }
+        }
 
         // Update pieceAttacked chessboard positions
         if (pieceAttacked != null) {
-            chessBoard[pieceAttacked.getPiecePosition()].setAssignedPiece(null);
+            int pieceAttackedID = pieceAttacked.getPiecePosition();
+            chessBoard[pieceAttackedID].setAssignedPiece(null);
             chessBoard[oldPieceAttackedID].setAssignedPiece(pieceAttacked);
             pieceAttacked.setPiecePosition(oldPieceAttackedID);
+            if (pieceList != null) {
+                if (pieceAttacked.getIsPieceWhite() == pieceMoved.getIsPieceWhite()) {
+                    pieceList.move(pieceAttackedID, oldPieceAttackedID);
+                } else {
+                    pieceList.add(pieceAttacked);
+                }
+            }
         }
     }
 
-    private Piece calculatePieceAttacked(TileUI[] chessBoard, int moveFromID,
+    private Piece calculatePieceAttacked(Tile[] chessBoard, int moveFromID,
                                          int moveToID, Piece pieceMoved) {
         Piece pieceAttacked = chessBoard[moveToID].getAssignedPiece();
         
         // Gets the pawn that was attacked by en passant.
-        if (pieceMoved.getPieceType().equals("Pawn")
+        if (pieceMoved.getPieceKind() == Piece.PAWN
                 && moveFromID % 8 != moveToID % 8
                 && pieceAttacked == null) {
             int enpassantPosition = (moveToID % 8 - moveFromID % 8) + moveFromID;
-            System.out.println("ayeee");
             return chessBoard[enpassantPosition].getAssignedPiece();
 
         // Gets piece rook if castling occurred.
-        } else if (pieceMoved.getPieceType().equals("King")
+        } else if (pieceMoved.getPieceKind() == Piece.KING
                     && pieceMoved.getIsFirstMove()) {
             if (moveToID - moveFromID == -2) {
                 return chessBoard[moveToID - 2].getAssignedPiece();
@@ -126,13 +180,24 @@ public class MoveAlgorithm {
         return pieceAttacked;
     }
 
-    private void updatePiecePositions(TileUI[] chessBoard, Piece pieceMoved,
-                                      Piece pieceAttacked, int moveFromID,
-                                      int moveToID) {
+    private Piece calculatePromotedPiece(Piece pieceMoved, int moveToID,
+                                         byte promotionKind) {
+        if (pieceMoved.getPieceKind() == Piece.PAWN
+                && ((Pawn) pieceMoved).isPromotionMove(moveToID)) {
+            return ((Pawn) pieceMoved).getPromotedPiece(promotionKind);
+        }
+        return null;
+    }
+
+    private void updatePiecePositions(Tile[] chessBoard, Piece pieceMoved,
+                                      Piece pieceAttacked, Piece promotedPiece,
+                                      int moveFromID, int moveToID) {
+        boolean isCastling = pieceAttacked != null
+                && pieceAttacked.getIsPieceWhite() == pieceMoved.getIsPieceWhite();
         if (pieceAttacked != null && isSpecialMove(pieceAttacked, moveToID)) {
             chessBoard[pieceAttacked.getPiecePosition()].setAssignedPiece(null);
 
-            if (pieceAttacked.getIsPieceWhite() == pieceMoved.getIsPieceWhite()) {
+            if (isCastling) {
                 int castlePosition;
                 if (moveToID - moveFromID > 0) {
                     castlePosition = moveToID - 1;
@@ -140,18 +205,33 @@ public class MoveAlgorithm {
                     castlePosition = moveToID + 1;
                 }
                 chessBoard[castlePosition].setAssignedPiece(pieceAttacked);
+                if (pieceList != null) {
+                    pieceList.move(pieceAttacked.getPiecePosition(), castlePosition);
+                }
                 pieceAttacked.setPiecePosition(castlePosition);
             }
         }
-
-        if (pieceMoved.getPieceType() == "Pawn") {
-            if ((moveToID >= 0 && moveToID < 8) || (moveToID >= 56 && moveToID < 64)) {
+        if (pieceList != null) {
+            if (pieceAttacked != null && !isCastling) {
+                pieceList.remove(pieceAttacked);
             }
+            pieceList.move(moveFromID, moveToID);
         }
 
         pieceMoved.setPiecePosition(moveToID);
         chessBoard[moveFromID].setAssignedPiece(null);
         chessBoard[moveToID].setAssignedPiece(pieceMoved);
+
+        // The promoted piece takes the pawn's tile. The pawn keeps its position so
+        // undoing the move puts it back.
+        if (promotedPiece != null) {
+            promotedPiece.setPiecePosition(moveToID);
+            chessBoard[moveToID].setAssignedPiece(promotedPiece);
+            if (pieceList != null) {
+                pieceList.remove(pieceMoved);
+                pieceList.add(promotedPiece);
+            }
+        }
     }
 
     private boolean isSpecialMove(Piece pieceAttacked, int finalPosition) {
@@ -166,28 +246,62 @@ public class MoveAlgorithm {
      * @param moveToID the tile ID the piece is moving to.
      * @param pieceMoved the piece that is being moved.
      * @param pieceAttacked the piece that was impacted by the piece moved.
+     * @param promotedPiece the piece a promoting pawn became, or null.
      */
-    private void saveMoveToHistory(int moveToID, Piece pieceMoved, Piece pieceAttacked) {
-        moveToID = pieceAttacked != null ? pieceAttacked.getPiecePosition() : moveToID;
+    private void saveMoveToHistory(int moveToID, Piece pieceMoved, Piece pieceAttacked,
+                                   Piece promotedPiece) {
+        int oldPieceAttackedID = pieceAttacked != null ? pieceAttacked.getPiecePosition()
+                                                       : moveToID;
+        boolean isCapture = pieceAttacked != null
+                && pieceAttacked.getIsPieceWhite() != pieceMoved.getIsPieceWhite();
+        int halfMoveClock = isCapture || pieceMoved.getPieceKind() == Piece.PAWN
+                            ? 0 : getHalfMoveClock() + 1;
         moveHistory.push(new MoveHistory(pieceMoved.getPiecePosition(),
+                                         oldPieceAttackedID,
                                          moveToID,
                                          pieceMoved,
                                          pieceAttacked,
-                                         pieceMoved.getIsFirstMove()));
+                                         pieceMoved.getIsFirstMove(),
+                                         promotedPiece,
+                                         halfMoveClock));
+    }
+
+    /**
+     * Returns the number of half-moves since the last capture or pawn move.
+     * 
+     * @return the half-move clock.
+     */
+    int getHalfMoveClock() {
+        if (!moveHistory.isEmpty()) {
+            return moveHistory.peek().getHalfMoveClock();
+        }
+        return gameState != null ? gameState.getInitialHalfMoveClock() : 0;
     }
 
-    private void repaintChessBoard(TileUI[] chessBoard,
-                                   Piece pieceMoved, Piece pieceAttacked,
-                                   int oldPieceMovedID, int oldPieceAttackedID) {
-        chessBoard[oldPieceMovedID].resetTilePanel();
-        chessBoard[pieceMoved.getPiecePosition()].resetTilePanel();
-        //System.out.println(pieceAttacked);
+    /**
+     * Sets the game state that tracks the pieces moved by this algorithm.
+     * 
+     * @param gameState the game state.
+     */
+    void setGameState(GameState gameState) {
+        this.gameState = gameState;
+        this.pieceList = gameState.getPieceList();
+    }
 
-        // If recent move was a special move then repaint impacted tiles.
+    private void fireTilesChanged(Piece pieceMoved, Piece pieceAttacked,
+                                  int oldPieceMovedID, int oldPieceAttackedID) {
+        if (boardListener == null) {
+            return;
+        }
+        // If recent move was a special move then the impacted tiles changed too.
         if (pieceAttacked != null) {
-            chessBoard[pieceAttacked.getPiecePosition()].resetTilePanel();
-            chessBoard[oldPieceAttackedID].resetTilePanel();
+            boardListener.tilesChanged(new int[] {oldPieceMovedID,
+                                                  pieceMoved.getPiecePosition(),
+                                                  pieceAttacked.getPiecePosition(),
+                                                  oldPieceAttackedID});
+        } else {
+            boardListener.tilesChanged(new int[] {oldPieceMovedID,
+                                                  pieceMoved.getPiecePosition()});
         }
-        System.out.println(oldPieceMovedID + " " + oldPieceAttackedID);
     }
 }
@@ -6,17 +6,30 @@ public class MoveHistory {
 
     private final int oldPieceMovedID;
     private final int oldPieceAttackedID;
+    private final int newPieceMovedID;
     private final Piece pieceMoved;
     private final Piece pieceAttacked;
     private final boolean isFirstMove;
+    private final Piece promotedPiece;
+    private final int halfMoveClock;
 
     public MoveHistory(int oldPieceMovedID, int oldPieceAttackedID, Piece pieceMoved,
                        Piece pieceAttacked, boolean isFirstMove) {
+        this(oldPieceMovedID, oldPieceAttackedID, oldPieceAttackedID, pieceMoved,
+             pieceAttacked, isFirstMove, null, 0);
+    }
+
+    public MoveHistory(int oldPieceMovedID, int oldPieceAttackedID, int newPieceMovedID,
+                       Piece pieceMoved, Piece pieceAttacked, boolean isFirstMove,
+                       Piece promotedPiece, int halfMoveClock) {
         this.oldPieceMovedID = oldPieceMovedID;
         this.oldPieceAttackedID = oldPieceAttackedID;
+        this.newPieceMovedID = newPieceMovedID;
         this.pieceMoved = pieceMoved;
         this.pieceAttacked = pieceAttacked;
         this.isFirstMove = isFirstMove;
+        this.promotedPiece = promotedPiece;
+        this.halfMoveClock = halfMoveClock;
     }
 
     public int getOldPieceMovedID() {
@@ -27,6 +40,15 @@ public class MoveHistory {
         return oldPieceAttackedID;
     }
 
+    /**
+     * Returns the tile ID the piece moved to. For castling that is the king's tile
+     * and for en passant the tile behind the captured pawn.
+     * @return the tile ID.
+     */
+    public int getNewPieceMovedID() {
+        return newPieceMovedID;
+    }
+
     public Piece getPieceMoved() {
         return pieceMoved;
     }
@@ -38,4 +60,17 @@ public class MoveHistory {
     public boolean isFirstMove() {
         return isFirstMove;
     }
-}
\ No newline at end of file
+
+    public Piece getPromotedPiece() {
+        return promotedPiece;
+    }
+
+    /**
+     * Returns the number of half-moves since the last capture or pawn move, counted
+     * after this move.
+     * @return the half-move clock.
+     */
+    public int getHalfMoveClock() {
+        return halfMoveClock;
+    }
+}
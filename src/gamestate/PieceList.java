@@ -0,0 +1,178 @@
+package gamestate;
+
+import chesspieces.Piece;
+
+import java.util.Arrays;
+
+/**
+ * The pieces on the chessboard, kept in one list per piece code (see
+ * Piece.getPieceCode) and updated by MoveAlgorithm as moves are made and undone.
+ * Captured pieces leave their list, so loops over the lists touch only the pieces
+ * that are on the board. A table from tile ID to list position makes adding,
+ * removing and moving a piece constant time.
+ *
+ * <p>Removing a piece moves the last piece of its list into its place, so the order
+ * within a piece code list changes as moves are made and undone. Each side also has
+ * one list of all its pieces, kept in list order (see Piece.getListOrder), which is
+ * the order moves are generated in. Making and undoing a move leaves that list as
+ * it was, so loops over it may make moves as long as each is undone before the
+ * loop goes on.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class PieceList {
+
+    public static final int CODE_COUNT = 12;
+
+    // Eight promoted pawns and the two original pieces.
+    private static final int MAX_PIECES_PER_CODE = 10;
+
+    private final Piece[] pieces;
+    private final int[] counts;
+    // The position in its list of the piece on each tile, for tiles holding a piece.
+    private final int[] listIndices;
+    // The pieces of each side in list order, white first.
+    private final Piece[][] sidePieces;
+    private final int[] sideCounts;
+    // The list order given to the next piece added for the first time.
+    private int nextListOrder;
+
+    /**
+     * Constructor for an empty PieceList.
+     */
+    public PieceList() {
+        this.pieces = new Piece[CODE_COUNT * MAX_PIECES_PER_CODE];
+        this.counts = new int[CODE_COUNT];
+        this.listIndices = new int[64];
+        this.sidePieces = new Piece[2][Piece.BLACK_OFFSET * MAX_PIECES_PER_CODE];
+        this.sideCounts = new int[2];
+    }
+
+    /**
+     * Returns how many pieces of a piece code are on the board.
+     *
+     * @param pieceCode the piece code, 0 to 11.
+     * @return the number of pieces.
+     */
+    public int getCount(int pieceCode) {
+        return counts[pieceCode];
+    }
+
+    /**
+     * Returns how many pieces of a kind and color are on the board.
+     *
+     * @param pieceKind the piece kind, Piece.PAWN to Piece.KING.
+     * @param isWhite true for white pieces, false for black pieces.
+     * @return the number of pieces.
+     */
+    public int getCount(byte pieceKind, boolean isWhite) {
+        return counts[isWhite ? pieceKind : pieceKind + Piece.BLACK_OFFSET];
+    }
+
+    /**
+     * Returns a piece of a piece code.
+     *
+     * @param pieceCode the piece code, 0 to 11.
+     * @param index the position in the list, below getCount(pieceCode).
+     * @return the piece.
+     */
+    public Piece getPiece(int pieceCode, int index) {
+        return pieces[pieceCode * MAX_PIECES_PER_CODE + index];
+    }
+
+    /**
+     * Returns how many pieces of a side are on the board.
+     *
+     * @param isWhite true for white pieces, false for black pieces.
+     * @return the number of pieces.
+     */
+    public int getSideCount(boolean isWhite) {
+        return sideCounts[isWhite ? 0 : 1];
+    }
+
+    /**
+     * Returns a piece of a side, in list order.
+     *
+     * @param isWhite true for white pieces, false for black pieces.
+     * @param index the position in the list, below getSideCount(isWhite).
+     * @return the piece.
+     */
+    public Piece getSidePiece(boolean isWhite, int index) {
+        return sidePieces[isWhite ? 0 : 1][index];
+    }
+
+    void clear() {
+        for (int code = 0; code < CODE_COUNT; code++) {
+            for (int i = 0; i < counts[code]; i++) {
+                pieces[code * MAX_PIECES_PER_CODE + i] = null;
+            }
+            counts[code] = 0;
+        }
+        for (int side = 0; side < 2; side++) {
+            Arrays.fill(sidePieces[side], 0, sideCounts[side], null);
+            sideCounts[side] = 0;
+        }
+        nextListOrder = 0;
+    }
+
+    /**
+     * Adds a piece that was put on the tile at its position. A piece added for the
+     * first time, such as a promoted piece, gets the next list order.
+     *
+     * @throws IllegalArgumentException if its list is full.
+     */
+    void add(Piece piece) {
+        int code = piece.getPieceCode();
+        if (counts[code] == MAX_PIECES_PER_CODE) {
+            throw new IllegalArgumentException("Too many pieces of type "
+                                               + piece.getPieceType());
+        }
+        if (piece.getListOrder() < 0) {
+            piece.setListOrder(nextListOrder++);
+        }
+        pieces[code * MAX_PIECES_PER_CODE + counts[code]] = piece;
+        listIndices[piece.getPiecePosition()] = counts[code]++;
+
+        // Insert into the side list behind the pieces listed before it.
+        Piece[] ordered = sidePieces[piece.getIsPieceWhite() ? 0 : 1];
+        int index = sideCounts[piece.getIsPieceWhite() ? 0 : 1]++;
+        while (index > 0 && ordered[index - 1].getListOrder() > piece.getListOrder()) {
+            ordered[index] = ordered[index - 1];
+            index--;
+        }
+        ordered[index] = piece;
+    }
+
+    /**
+     * Removes a piece that was taken off the tile at its position.
+     */
+    void remove(Piece piece) {
+        int code = piece.getPieceCode();
+        int last = --counts[code];
+        int index = listIndices[piece.getPiecePosition()];
+        Piece lastPiece = pieces[code * MAX_PIECES_PER_CODE + last];
+        pieces[code * MAX_PIECES_PER_CODE + index] = lastPiece;
+        listIndices[lastPiece.getPiecePosition()] = index;
+        pieces[code * MAX_PIECES_PER_CODE + last] = null;
+
+        int side = piece.getIsPieceWhite() ? 0 : 1;
+        Piece[] ordered = sidePieces[side];
+        int sideIndex = 0;
+        while (ordered[sideIndex] != piece) {
+            sideIndex++;
+        }
+        System.arraycopy(ordered, sideIndex + 1, ordered, sideIndex,
+                         --sideCounts[side] - sideIndex);
+        ordered[sideCounts[side]] = null;
+    }
+
+    /**
+     * Moves a piece from one tile to another. The piece on the target tile, if any,
+     * must have been removed first.
+     */
+    void move(int fromID, int toID) {
+        listIndices[toID] = listIndices[fromID];
+    }
+}
@@ -0,0 +1,38 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event spanning one lookup of a position in an opening book,
+ * game database or endgame table.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+@Name("chess.BookProbe")
+@Label("Book Probe")
+@Category({"Chess", "Book"})
+@Description("A position lookup in an opening book, game database or endgame table")
+@StackTrace(false)
+public class BookProbeEvent extends Event {
+
+    @Label("Source")
+    @Description("The book, database or table that was probed")
+    public String source;
+
+    @Label("Position Key")
+    public long positionKey;
+
+    @Label("Found")
+    public boolean isFound;
+
+    @Label("Entries")
+    @Description("The number of moves or games found for the position")
+    public int entryCount;
+}
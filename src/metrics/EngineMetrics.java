@@ -0,0 +1,220 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The process-wide engine counters. They are striped LongAdders, so the search
+ * threads of many engines can add to them without contending, and each engine adds
+ * its own counts in batches rather than on every node.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class EngineMetrics implements EngineMetricsMXBean {
+
+    public static final String OBJECT_NAME = "chess.engine:type=EngineMetrics";
+
+    private static final EngineMetrics INSTANCE = new EngineMetrics();
+
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder quiescenceNodes = new LongAdder();
+    private final LongAdder transpositionProbes = new LongAdder();
+    private final LongAdder transpositionHits = new LongAdder();
+    private final LongAdder transpositionCutoffs = new LongAdder();
+    private final LongAdder evalCacheProbes = new LongAdder();
+    private final LongAdder evalCacheHits = new LongAdder();
+    private final LongAdder betaCutoffs = new LongAdder();
+    private final LongAdder firstMoveBetaCutoffs = new LongAdder();
+    private final LongAdder searches = new LongAdder();
+    private final LongAdder totalSearchMillis = new LongAdder();
+    private final LongAccumulator maxSearchMillis = new LongAccumulator(Math::max, 0);
+
+    private EngineMetrics() {}
+
+    /**
+     * Returns the counters, registering them with the platform MBean server on first
+     * use.
+     * 
+     * @return the engine metrics.
+     */
+    public static EngineMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    static {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+            }
+        } catch (JMException | SecurityException e) {
+            System.err.println("Cannot register engine metrics MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the counts of part of a search.
+     * 
+     * @param counts the counts, indexed by the SearchCounts constants; left unchanged.
+     */
+    public void add(long[] counts) {
+        nodes.add(counts[SearchCounts.NODES]);
+        quiescenceNodes.add(counts[SearchCounts.QUIESCENCE_NODES]);
+        transpositionProbes.add(counts[SearchCounts.TRANSPOSITION_PROBES]);
+        transpositionHits.add(counts[SearchCounts.TRANSPOSITION_HITS]);
+        transpositionCutoffs.add(counts[SearchCounts.TRANSPOSITION_CUTOFFS]);
+        evalCacheProbes.add(counts[SearchCounts.EVAL_CACHE_PROBES]);
+        evalCacheHits.add(counts[SearchCounts.EVAL_CACHE_HITS]);
+        betaCutoffs.add(counts[SearchCounts.BETA_CUTOFFS]);
+        firstMoveBetaCutoffs.add(counts[SearchCounts.FIRST_MOVE_BETA_CUTOFFS]);
+    }
+
+    /**
+     * Records a finished search.
+     * 
+     * @param elapsedMillis how long the search took.
+     */
+    public void recordSearch(long elapsedMillis) {
+        searches.increment();
+        totalSearchMillis.add(elapsedMillis);
+        maxSearchMillis.accumulate(elapsedMillis);
+    }
+
+    @Override
+    public long getNodes() {
+        return nodes.sum();
+    }
+
+    @Override
+    public long getQuiescenceNodes() {
+        return quiescenceNodes.sum();
+    }
+
+    @Override
+    public long getTranspositionProbes() {
+        return transpositionProbes.sum();
+    }
+
+    @Override
+    public long getTranspositionHits() {
+        return transpositionHits.sum();
+    }
+
+    @Override
+    public long getTranspositionCutoffs() {
+        return transpositionCutoffs.sum();
+    }
+
+    @Override
+    public long getEvalCacheProbes() {
+        return evalCacheProbes.sum();
+    }
+
+    @Override
+    public long getEvalCacheHits() {
+        return evalCacheHits.sum();
+    }
+
+    @Override
+    public long getBetaCutoffs() {
+        return betaCutoffs.sum();
+    }
+
+    @Override
+    public long getFirstMoveBetaCutoffs() {
+        return firstMoveBetaCutoffs.sum();
+    }
+
+    @Override
+    public long getSearches() {
+        return searches.sum();
+    }
+
+    @Override
+    public long getTotalSearchMillis() {
+        return totalSearchMillis.sum();
+    }
+
+    @Override
+    public long getMaxSearchMillis() {
+        return maxSearchMillis.get();
+    }
+
+    @Override
+    public double getTranspositionHitRate() {
+        return ratio(getTranspositionHits(), getTranspositionProbes());
+    }
+
+    @Override
+    public double getEvalCacheHitRate() {
+        return ratio(getEvalCacheHits(), getEvalCacheProbes());
+    }
+
+    @Override
+    public double getFirstMoveCutoffRate() {
+        return ratio(getFirstMoveBetaCutoffs(), getBetaCutoffs());
+    }
+
+    @Override
+    public double getNodesPerSecond() {
+        return ratio(getNodes() * 1000, getTotalSearchMillis());
+    }
+
+    @Override
+    public void reset() {
+        nodes.reset();
+        quiescenceNodes.reset();
+        transpositionProbes.reset();
+        transpositionHits.reset();
+        transpositionCutoffs.reset();
+        evalCacheProbes.reset();
+        evalCacheHits.reset();
+        betaCutoffs.reset();
+        firstMoveBetaCutoffs.reset();
+        searches.reset();
+        totalSearchMillis.reset();
+        maxSearchMillis.reset();
+    }
+
+    /**
+     * Returns a text snapshot of all counters, one "name value" pair per line.
+     * 
+     * @return the snapshot.
+     */
+    public String snapshot() {
+        StringBuilder text = new StringBuilder(512);
+        appendLine(text, "nodes", getNodes());
+        appendLine(text, "quiescence_nodes", getQuiescenceNodes());
+        appendLine(text, "tt_probes", getTranspositionProbes());
+        appendLine(text, "tt_hits", getTranspositionHits());
+        appendLine(text, "tt_cutoffs", getTranspositionCutoffs());
+        appendLine(text, "eval_cache_probes", getEvalCacheProbes());
+        appendLine(text, "eval_cache_hits", getEvalCacheHits());
+        appendLine(text, "beta_cutoffs", getBetaCutoffs());
+        appendLine(text, "first_move_beta_cutoffs", getFirstMoveBetaCutoffs());
+        appendLine(text, "searches", getSearches());
+        appendLine(text, "search_millis_total", getTotalSearchMillis());
+        appendLine(text, "search_millis_max", getMaxSearchMillis());
+        text.append(String.format("tt_hit_rate %.4f%n", getTranspositionHitRate()));
+        text.append(String.format("eval_cache_hit_rate %.4f%n", getEvalCacheHitRate()));
+        text.append(String.format("first_move_cutoff_rate %.4f%n",
+                                  getFirstMoveCutoffRate()));
+        text.append(String.format("nodes_per_second %.0f%n", getNodesPerSecond()));
+        return text.toString();
+    }
+
+    private static void appendLine(StringBuilder text, String name, long value) {
+        text.append(name).append(' ').append(value).append(System.lineSeparator());
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0 : (double) numerator / denominator;
+    }
+}
@@ -0,0 +1,53 @@
+package metrics;
+
+/**
+ * The engine counters as seen through JMX, registered as
+ * "chess.engine:type=EngineMetrics". All counts are totals since startup or the
+ * last reset, over all engines in the process.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public interface EngineMetricsMXBean {
+
+    long getNodes();
+
+    long getQuiescenceNodes();
+
+    long getTranspositionProbes();
+
+    long getTranspositionHits();
+
+    long getTranspositionCutoffs();
+
+    long getEvalCacheProbes();
+
+    long getEvalCacheHits();
+
+    long getBetaCutoffs();
+
+    long getFirstMoveBetaCutoffs();
+
+    long getSearches();
+
+    long getTotalSearchMillis();
+
+    long getMaxSearchMillis();
+
+    double getTranspositionHitRate();
+
+    double getEvalCacheHitRate();
+
+    /**
+     * Returns the share of beta cutoffs caused by the first move searched, a measure
+     * of move ordering quality.
+     * 
+     * @return the rate between 0 and 1.
+     */
+    double getFirstMoveCutoffRate();
+
+    double getNodesPerSecond();
+
+    void reset();
+}
@@ -0,0 +1,66 @@
+package metrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a snapshot of the engine metrics at a fixed interval. It is started from
+ * system properties: "chess.metrics.interval" in seconds turns it on, and
+ * "chess.metrics.file" appends the snapshots to a file instead of standard error.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class MetricsReporter {
+
+    private MetricsReporter() {}
+
+    /**
+     * Registers the metrics MBean and starts the reporter if the system properties
+     * ask for it. The reporter runs on a daemon thread, so it never keeps the
+     * program alive.
+     */
+    public static void startFromSystemProperties() {
+        EngineMetrics.getInstance();
+        long interval = Long.getLong("chess.metrics.interval", 0);
+        if (interval <= 0) {
+            return;
+        }
+        String fileName = System.getProperty("chess.metrics.file");
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "metrics-reporter");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.scheduleAtFixedRate(() -> report(fileName), interval, interval,
+                                     TimeUnit.SECONDS);
+    }
+
+    private static void report(String fileName) {
+        String snapshot = "# " + Instant.now() + System.lineSeparator()
+                          + EngineMetrics.getInstance().snapshot();
+        if (fileName == null) {
+            PrintStream err = System.err;
+            err.print(snapshot);
+            err.flush();
+            return;
+        }
+        try {
+            Files.write(Paths.get(fileName), snapshot.getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Cannot write metrics to " + fileName + ": "
+                               + e.getMessage());
+        }
+    }
+}
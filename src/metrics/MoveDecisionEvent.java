@@ -0,0 +1,46 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event spanning the whole search behind a move the engine played.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+@Name("chess.MoveDecision")
+@Label("Move Decision")
+@Category({"Chess", "Search"})
+@Description("A move chosen by the engine and played in a game")
+@StackTrace(false)
+public class MoveDecisionEvent extends Event {
+
+    @Label("Position")
+    @Description("FEN of the position before the move")
+    public String fen;
+
+    @Label("Move")
+    public String move;
+
+    @Label("Score")
+    @Description("Centipawns from the side to move's point of view")
+    public int score;
+
+    @Label("Depth")
+    public int depth;
+
+    @Label("Nodes")
+    public long nodes;
+
+    @Label("Time Limit")
+    @Description("The search time the engine was given, 0 if unlimited")
+    @Timespan(Timespan.MILLISECONDS)
+    public long timeLimit;
+}
@@ -0,0 +1,56 @@
+package metrics;
+
+import java.util.Arrays;
+
+/**
+ * The counters of one engine, kept in a plain array while it searches and added to
+ * the shared EngineMetrics in batches.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class SearchCounts {
+
+    public static final int NODES = 0;
+    public static final int QUIESCENCE_NODES = 1;
+    public static final int TRANSPOSITION_PROBES = 2;
+    public static final int TRANSPOSITION_HITS = 3;
+    public static final int TRANSPOSITION_CUTOFFS = 4;
+    public static final int EVAL_CACHE_PROBES = 5;
+    public static final int EVAL_CACHE_HITS = 6;
+    public static final int BETA_CUTOFFS = 7;
+    public static final int FIRST_MOVE_BETA_CUTOFFS = 8;
+    public static final int COUNTER_COUNT = 9;
+
+    // Flush after this many nodes so long searches show up while they run.
+    private static final int FLUSH_INTERVAL = 4096;
+
+    private final long[] counts = new long[COUNTER_COUNT];
+
+    public void increment(int counter) {
+        counts[counter]++;
+    }
+
+    /**
+     * Counts a node, flushing to the shared metrics every FLUSH_INTERVAL nodes.
+     * 
+     * @param isQuiescence whether the node is in quiescence search.
+     */
+    public void countNode(boolean isQuiescence) {
+        if (isQuiescence) {
+            counts[QUIESCENCE_NODES]++;
+        }
+        if (++counts[NODES] >= FLUSH_INTERVAL) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds the counts to the shared metrics and starts again from zero.
+     */
+    public void flush() {
+        EngineMetrics.getInstance().add(counts);
+        Arrays.fill(counts, 0);
+    }
+}
@@ -0,0 +1,50 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event spanning one iteration of the iterative deepening search.
+ * Iterations shorter than the threshold are not recorded unless the recording
+ * lowers it, so shallow iterations cost next to nothing.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+@Name("chess.SearchIteration")
+@Label("Search Iteration")
+@Category({"Chess", "Search"})
+@Description("One completed iteration of the iterative deepening search")
+@StackTrace(false)
+@Threshold("1 ms")
+public class SearchIterationEvent extends Event {
+
+    @Label("Depth")
+    public int depth;
+
+    @Label("Score")
+    @Description("Centipawns from the side to move's point of view")
+    public int score;
+
+    @Label("Nodes")
+    @Description("Nodes searched since the search started")
+    public long nodes;
+
+    @Label("Search Time")
+    @Description("Time since the search started")
+    @Timespan(Timespan.MILLISECONDS)
+    public long searchTime;
+
+    @Label("Principal Variation Length")
+    public int principalVariationLength;
+
+    @Label("Best Move")
+    public String bestMove;
+}
@@ -0,0 +1,231 @@
+package metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records one fixed-size binary record for every node a search finishes, into a
+ * ring of memory-mapped segment files. When the last segment is full the oldest one
+ * is overwritten, so a trace always holds the most recent part of the search and
+ * never grows past its size. Writing a record is a handful of stores into mapped
+ * memory; the operating system writes the pages to disk.
+ *
+ * <p>A segment file starts with a header of HEADER_SIZE bytes: the magic number,
+ * the format version, the record size, the sequence number of the segment in the
+ * ring and the number of records in it. The records follow, little endian:
+ * <pre>
+ *  0  long   position key
+ *  8  short  alpha on entry
+ * 10  short  beta
+ * 12  short  score returned
+ * 14  byte   ply
+ * 15  byte   remaining depth, 0 in quiescence search
+ * 16  byte   node type, one of the NODE constants
+ * 17  byte   flags, see QUIESCENCE_FLAG
+ * 18  byte   depth adjustment: extensions positive, reductions negative
+ * 19  byte   index of the best or cutoff move in search order, 255 if none
+ * 20  short  moves searched
+ * 22  short  moves generated
+ * </pre>
+ * An ITERATION record with the iteration depth marks the start of each iteration,
+ * and an iteration of depth 1 the start of a new search.
+ *
+ * <p>A recorder is used by one engine thread only. Engines get one from
+ * fromSystemProperties(): "chess.trace.dir" turns tracing on, each engine writing to
+ * its own "engine-N" directory below it, and "chess.trace.size" sets the size of
+ * each engine's ring in megabytes.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class SearchTraceRecorder implements AutoCloseable {
+
+    public static final int MAGIC = 0x43545243;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+    public static final int RECORD_SIZE = 24;
+    public static final int SEGMENT_COUNT = 4;
+    public static final int DEFAULT_SIZE_MB = 256;
+
+    public static final int NODE_EXACT = 0;
+    public static final int NODE_FAIL_HIGH = 1;
+    public static final int NODE_FAIL_LOW = 2;
+    public static final int NODE_HASH_CUTOFF = 3;
+    public static final int NODE_STAND_PAT = 4;
+    public static final int NODE_TERMINAL = 5;
+    public static final int NODE_MAX_PLY = 6;
+    public static final int NODE_ITERATION = 7;
+    public static final int NODE_TYPE_COUNT = 8;
+
+    public static final int QUIESCENCE_FLAG = 1;
+    public static final int NO_MOVE_INDEX = 255;
+
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int COUNT_OFFSET = 16;
+
+    private static final AtomicInteger engineCount = new AtomicInteger();
+
+    private final FileChannel[] channels;
+    private final MappedByteBuffer[] segments;
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private int sequence;
+    private int recordCount;
+    private final int recordsPerSegment;
+
+    /**
+     * Constructor for SearchTraceRecorder. Existing segment files in the directory
+     * are overwritten.
+     *
+     * @param directory the directory the segment files are written to; it is created
+     * if missing.
+     * @param sizeMB the total size of the segment files in megabytes.
+     * @throws IOException if the segment files cannot be created.
+     */
+    public SearchTraceRecorder(Path directory, int sizeMB) throws IOException {
+        if (sizeMB < SEGMENT_COUNT) {
+            throw new IllegalArgumentException("The trace must be at least "
+                                               + SEGMENT_COUNT + " MB");
+        }
+        Files.createDirectories(directory);
+        long segmentSize = (long) sizeMB * 1024 * 1024 / SEGMENT_COUNT;
+        this.recordsPerSegment = (int) Math.min(Integer.MAX_VALUE / RECORD_SIZE,
+                                                (segmentSize - HEADER_SIZE) / RECORD_SIZE);
+        this.channels = new FileChannel[SEGMENT_COUNT];
+        this.segments = new MappedByteBuffer[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            channels[i] = FileChannel.open(directory.resolve(getSegmentName(i)),
+                                           StandardOpenOption.CREATE,
+                                           StandardOpenOption.READ,
+                                           StandardOpenOption.WRITE,
+                                           StandardOpenOption.TRUNCATE_EXISTING);
+            segments[i] = channels[i].map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) recordsPerSegment * RECORD_SIZE);
+            segments[i].order(ByteOrder.LITTLE_ENDIAN);
+            segments[i].putInt(0, MAGIC);
+            segments[i].putShort(4, (short) VERSION);
+            segments[i].putShort(6, (short) RECORD_SIZE);
+            segments[i].putInt(SEQUENCE_OFFSET, -1);
+        }
+        startSegment(0);
+    }
+
+    /**
+     * Returns a recorder for a new engine if the system properties turn tracing on.
+     *
+     * @return the recorder, or null if tracing is off.
+     * @throws UncheckedIOException if the segment files cannot be created.
+     */
+    public static SearchTraceRecorder fromSystemProperties() {
+        String directory = System.getProperty("chess.trace.dir");
+        if (directory == null) {
+            return null;
+        }
+        Path engineDirectory = Paths.get(directory,
+                                         "engine-" + engineCount.getAndIncrement());
+        try {
+            return new SearchTraceRecorder(engineDirectory,
+                    Integer.getInteger("chess.trace.size", DEFAULT_SIZE_MB));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create the search trace in "
+                                           + engineDirectory, e);
+        }
+    }
+
+    /**
+     * Returns the file name of a segment of the ring.
+     *
+     * @param index the index of the segment in the ring.
+     * @return the file name.
+     */
+    public static String getSegmentName(int index) {
+        return String.format("trace-%02d.bin", index);
+    }
+
+    /**
+     * Marks the start of an iteration.
+     *
+     * @param depth the depth of the iteration; 1 starts a new search.
+     */
+    public void recordIteration(int depth) {
+        record(0, 0, depth, 0, 0, 0, NODE_ITERATION, 0, 0, NO_MOVE_INDEX, 0, 0);
+    }
+
+    /**
+     * Records a finished node.
+     *
+     * @param key the position key.
+     * @param ply the distance from the root.
+     * @param depth the remaining depth, 0 in quiescence search.
+     * @param alpha alpha on entry.
+     * @param beta beta.
+     * @param score the score the node returned.
+     * @param nodeType one of the NODE constants.
+     * @param flags the node flags.
+     * @param depthAdjustment the extension or, if negative, reduction of the node.
+     * @param moveIndex the index of the best or cutoff move, or NO_MOVE_INDEX.
+     * @param movesSearched the number of moves searched.
+     * @param moveCount the number of moves generated.
+     */
+    public void record(long key, int ply, int depth, int alpha, int beta, int score,
+                       int nodeType, int flags, int depthAdjustment, int moveIndex,
+                       int movesSearched, int moveCount) {
+        if (recordCount == recordsPerSegment) {
+            segment.putInt(COUNT_OFFSET, recordCount);
+            startSegment((segmentIndex + 1) % SEGMENT_COUNT);
+        }
+        int offset = HEADER_SIZE + recordCount * RECORD_SIZE;
+        segment.putLong(offset, key);
+        segment.putShort(offset + 8, (short) alpha);
+        segment.putShort(offset + 10, (short) beta);
+        segment.putShort(offset + 12, (short) score);
+        segment.put(offset + 14, (byte) ply);
+        segment.put(offset + 15, (byte) depth);
+        segment.put(offset + 16, (byte) nodeType);
+        segment.put(offset + 17, (byte) flags);
+        segment.put(offset + 18, (byte) depthAdjustment);
+        segment.put(offset + 19, (byte) Math.min(moveIndex, NO_MOVE_INDEX));
+        segment.putShort(offset + 20, (short) movesSearched);
+        segment.putShort(offset + 22, (short) moveCount);
+        recordCount++;
+    }
+
+    /**
+     * Writes the record count of the current segment to its header so that the
+     * trace can be read while the recorder is still open.
+     */
+    public void flush() {
+        segment.putInt(COUNT_OFFSET, recordCount);
+    }
+
+    /**
+     * Flushes the trace and closes the segment files.
+     *
+     * @throws IOException if a segment file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i].force();
+            channels[i].close();
+        }
+    }
+
+    private void startSegment(int index) {
+        segmentIndex = index;
+        segment = segments[index];
+        segment.putInt(COUNT_OFFSET, 0);
+        segment.putInt(SEQUENCE_OFFSET, sequence++);
+        recordCount = 0;
+    }
+}
@@ -0,0 +1,41 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event for each decision of the time manager about how long to
+ * think about a move.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+@Name("chess.TimeAllocation")
+@Label("Time Allocation")
+@Category({"Chess", "Search"})
+@Description("The search time the time manager gave a move")
+@StackTrace(false)
+public class TimeAllocationEvent extends Event {
+
+    @Label("Remaining Time")
+    @Timespan(Timespan.MILLISECONDS)
+    public long remainingTime;
+
+    @Label("Increment")
+    @Timespan(Timespan.MILLISECONDS)
+    public long increment;
+
+    @Label("Moves To Go")
+    @Description("Moves until the next time control, 0 if unknown")
+    public int movesToGo;
+
+    @Label("Allocated Time")
+    @Timespan(Timespan.MILLISECONDS)
+    public long allocatedTime;
+}
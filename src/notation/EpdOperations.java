@@ -0,0 +1,104 @@
+package notation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The operations that follow the position in an EPD line, such as
+ * {@code bm Nf6+ Qxh7; am Bxc5; id "WAC.001";}. Every operation is an opcode and
+ * a list of operands; quoted operands may contain spaces and semicolons.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class EpdOperations {
+
+    private final Map<String, List<String>> operations;
+
+    private EpdOperations() {
+        operations = new LinkedHashMap<String, List<String>>();
+    }
+
+    /**
+     * Parses the operations of an EPD line.
+     *
+     * @param line the EPD line.
+     * @param start the index where the operations start, as returned by
+     * FenPosition.parse.
+     * @return the operations.
+     * @throws IllegalArgumentException if a quoted operand is not closed.
+     */
+    public static EpdOperations parse(CharSequence line, int start) {
+        EpdOperations epdOperations = new EpdOperations();
+        List<String> tokens = new ArrayList<String>();
+        int index = start;
+        int length = line.length();
+        while (index <= length) {
+            char c = index < length ? line.charAt(index) : ';';
+            if (c == ';') {
+                epdOperations.addOperation(tokens);
+                tokens = new ArrayList<String>();
+                index++;
+            } else if (c == ' ' || c == '\t') {
+                index++;
+            } else if (c == '"') {
+                int end = index + 1;
+                while (end < length && line.charAt(end) != '"') {
+                    end++;
+                }
+                if (end == length) {
+                    throw new IllegalArgumentException("Unterminated string in EPD: "
+                                                       + line);
+                }
+                tokens.add(line.subSequence(index + 1, end).toString());
+                index = end + 1;
+            } else {
+                int end = index;
+                while (end < length && " \t;".indexOf(line.charAt(end)) < 0) {
+                    end++;
+                }
+                tokens.add(line.subSequence(index, end).toString());
+                index = end;
+            }
+        }
+        return epdOperations;
+    }
+
+    private void addOperation(List<String> tokens) {
+        if (!tokens.isEmpty()) {
+            operations.put(tokens.get(0), tokens.subList(1, tokens.size()));
+        }
+    }
+
+    public boolean hasOperation(String opcode) {
+        return operations.containsKey(opcode);
+    }
+
+    /**
+     * Returns the operands of an operation.
+     *
+     * @param opcode the opcode, for example "bm".
+     * @return the operands, empty if the operation is missing.
+     */
+    public List<String> getOperands(String opcode) {
+        List<String> operands = operations.get(opcode);
+        return operands != null ? Collections.unmodifiableList(operands)
+                                : Collections.<String>emptyList();
+    }
+
+    /**
+     * Returns the first operand of an operation.
+     *
+     * @param opcode the opcode, for example "id".
+     * @param defaultValue the value returned if the operation is missing.
+     * @return the operand.
+     */
+    public String getOperand(String opcode, String defaultValue) {
+        List<String> operands = operations.get(opcode);
+        return operands != null && !operands.isEmpty() ? operands.get(0) : defaultValue;
+    }
+}
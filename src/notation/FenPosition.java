@@ -0,0 +1,359 @@
+package notation;
+
+import java.util.Arrays;
+
+/**
+ * A compact, reusable representation of a position written in Forsyth-Edwards
+ * Notation. Squares are indexed from a8 (0) to h1 (63), which is the same order the
+ * FEN piece placement field is written in. A single instance can be parsed into
+ * again and again so batch jobs do not allocate per position.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class FenPosition {
+
+    public static final String STANDARD_START_FEN =
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    public static final char EMPTY_SQUARE = '.';
+
+    // Castling right flags
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+
+    private final char[] squares;
+    private boolean isWhiteToMove;
+    private int castlingRights;
+    private int enpassantSquare;
+    private int halfMoveClock;
+    private int fullMoveNumber;
+
+    /**
+     * Constructor for an empty FenPosition.
+     */
+    public FenPosition() {
+        squares = new char[64];
+        clear();
+    }
+
+    /**
+     * Creates a new FenPosition from the given FEN string.
+     *
+     * @param fen the FEN string.
+     * @return the parsed position.
+     * @throws IllegalArgumentException if the FEN is malformed.
+     */
+    public static FenPosition fromFen(CharSequence fen) {
+        FenPosition position = new FenPosition();
+        position.parse(fen);
+        return position;
+    }
+
+    /**
+     * Converts a square index (a8 = 0) to the tile ID of a chessboard. Boards with
+     * white on the bottom share the FEN order, boards with black on the bottom are
+     * flipped vertically. The mapping is its own inverse.
+     *
+     * @param square the FEN square index, or tile ID.
+     * @param isWhiteBottom true if white is on the bottom of the chessboard.
+     * @return the tile ID, or square index.
+     */
+    public static int toTileID(int square, boolean isWhiteBottom) {
+        return isWhiteBottom ? square : square ^ 56;
+    }
+
+    /**
+     * Returns the algebraic name of a square index, for example "e4".
+     *
+     * @param square the FEN square index (a8 = 0).
+     * @return the square name.
+     */
+    public static String getSquareName(int square) {
+        return new String(new char[] {(char) ('a' + (square & 7)),
+                                      (char) ('8' - (square >> 3))});
+    }
+
+    /**
+     * Resets this position to an empty board with white to move.
+     */
+    public void clear() {
+        Arrays.fill(squares, EMPTY_SQUARE);
+        isWhiteToMove = true;
+        castlingRights = 0;
+        enpassantSquare = -1;
+        halfMoveClock = 0;
+        fullMoveNumber = 1;
+    }
+
+    /**
+     * Parses a FEN (or the first four fields of an EPD line) into this position. The
+     * half-move clock and full-move number are optional and default to 0 and 1.
+     * Fields may be separated by any run of whitespace, including tabs.
+     *
+     * @param fen the FEN string.
+     * @return the index just past the last field that was read, which is where any
+     * EPD operations start.
+     * @throws IllegalArgumentException if the FEN is malformed.
+     */
+    public int parse(CharSequence fen) {
+        clear();
+        int length = fen.length();
+        int index = skipSpaces(fen, 0);
+
+        // Piece placement
+        int square = 0;
+        int column = 0;
+        while (index < length && !Character.isWhitespace(fen.charAt(index))) {
+            char c = fen.charAt(index++);
+            if (c == '/') {
+                if (column != 8 || square >= 64) {
+                    throw malformed(fen, "misplaced '/'");
+                }
+                column = 0;
+            } else if (c >= '1' && c <= '8') {
+                column += c - '0';
+                square += c - '0';
+                if (column > 8) {
+                    throw malformed(fen, "rank overflow");
+                }
+            } else if (isPieceChar(c)) {
+                if (column >= 8) {
+                    throw malformed(fen, "rank overflow");
+                }
+                squares[square++] = c;
+                column++;
+            } else {
+                throw malformed(fen, "unexpected '" + c + "'");
+            }
+        }
+        if (square != 64 || column != 8) {
+            throw malformed(fen, "expected 64 squares");
+        }
+
+        // Side to move
+        index = skipSpaces(fen, index);
+        if (index >= length) {
+            throw malformed(fen, "missing side to move");
+        }
+        char side = fen.charAt(index++);
+        if (side == 'w') {
+            isWhiteToMove = true;
+        } else if (side == 'b') {
+            isWhiteToMove = false;
+        } else {
+            throw malformed(fen, "bad side to move");
+        }
+
+        // Castling rights
+        index = skipSpaces(fen, index);
+        if (index >= length) {
+            throw malformed(fen, "missing castling rights");
+        }
+        if (fen.charAt(index) == '-') {
+            index++;
+        } else {
+            while (index < length && !Character.isWhitespace(fen.charAt(index))) {
+                switch (fen.charAt(index++)) {
+                    case 'K': castlingRights |= WHITE_KING_SIDE; break;
+                    case 'Q': castlingRights |= WHITE_QUEEN_SIDE; break;
+                    case 'k': castlingRights |= BLACK_KING_SIDE; break;
+                    case 'q': castlingRights |= BLACK_QUEEN_SIDE; break;
+                    default: throw malformed(fen, "bad castling rights");
+                }
+            }
+        }
+
+        // En passant square
+        index = skipSpaces(fen, index);
+        if (index >= length) {
+            throw malformed(fen, "missing en passant square");
+        }
+        if (fen.charAt(index) == '-') {
+            index++;
+        } else {
+            if (index + 1 >= length) {
+                throw malformed(fen, "bad en passant square");
+            }
+            char file = fen.charAt(index);
+            char rank = fen.charAt(index + 1);
+            if (file < 'a' || file > 'h' || (rank != '3' && rank != '6')) {
+                throw malformed(fen, "bad en passant square");
+            }
+            enpassantSquare = ('8' - rank) * 8 + (file - 'a');
+            index += 2;
+        }
+
+        // Optional move counters
+        int next = skipSpaces(fen, index);
+        if (next < length && isDigit(fen.charAt(next))) {
+            halfMoveClock = 0;
+            while (next < length && isDigit(fen.charAt(next))) {
+                halfMoveClock = halfMoveClock * 10 + (fen.charAt(next++) - '0');
+            }
+            index = next;
+            next = skipSpaces(fen, index);
+            if (next < length && isDigit(fen.charAt(next))) {
+                fullMoveNumber = 0;
+                while (next < length && isDigit(fen.charAt(next))) {
+                    fullMoveNumber = fullMoveNumber * 10 + (fen.charAt(next++) - '0');
+                }
+                fullMoveNumber = Math.max(1, fullMoveNumber);
+                index = next;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Appends the FEN of this position to the given builder.
+     *
+     * @param builder the builder to append to.
+     * @return the same builder.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        for (int row = 0; row < 8; row++) {
+            int emptyCount = 0;
+            for (int column = 0; column < 8; column++) {
+                char c = squares[row * 8 + column];
+                if (c == EMPTY_SQUARE) {
+                    emptyCount++;
+                } else {
+                    if (emptyCount > 0) {
+                        builder.append(emptyCount);
+                        emptyCount = 0;
+                    }
+                    builder.append(c);
+                }
+            }
+            if (emptyCount > 0) {
+                builder.append(emptyCount);
+            }
+            if (row < 7) {
+                builder.append('/');
+            }
+        }
+
+        builder.append(isWhiteToMove ? " w " : " b ");
+        if (castlingRights == 0) {
+            builder.append('-');
+        } else {
+            if ((castlingRights & WHITE_KING_SIDE) != 0) builder.append('K');
+            if ((castlingRights & WHITE_QUEEN_SIDE) != 0) builder.append('Q');
+            if ((castlingRights & BLACK_KING_SIDE) != 0) builder.append('k');
+            if ((castlingRights & BLACK_QUEEN_SIDE) != 0) builder.append('q');
+        }
+        builder.append(' ');
+        if (enpassantSquare < 0) {
+            builder.append('-');
+        } else {
+            builder.append((char) ('a' + (enpassantSquare & 7)))
+                   .append((char) ('8' - (enpassantSquare >> 3)));
+        }
+        return builder.append(' ').append(halfMoveClock)
+                      .append(' ').append(fullMoveNumber);
+    }
+
+    /**
+     * Returns the FEN string of this position.
+     */
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(90)).toString();
+    }
+
+    /**
+     * Returns the FEN piece letter on a square, or EMPTY_SQUARE.
+     *
+     * @param square the square index (a8 = 0).
+     * @return the piece letter.
+     */
+    public char getPiece(int square) {
+        return squares[square];
+    }
+
+    /**
+     * Sets the FEN piece letter on a square.
+     *
+     * @param square the square index (a8 = 0).
+     * @param piece the piece letter, or EMPTY_SQUARE.
+     */
+    public void setPiece(int square, char piece) {
+        if (piece != EMPTY_SQUARE && !isPieceChar(piece)) {
+            throw new IllegalArgumentException("Invalid piece letter: " + piece);
+        }
+        squares[square] = piece;
+    }
+
+    public boolean isWhiteToMove() {
+        return isWhiteToMove;
+    }
+
+    public void setIsWhiteToMove(boolean isWhiteToMove) {
+        this.isWhiteToMove = isWhiteToMove;
+    }
+
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    public boolean hasCastlingRight(int castlingRight) {
+        return (castlingRights & castlingRight) != 0;
+    }
+
+    public void setCastlingRights(int castlingRights) {
+        this.castlingRights = castlingRights & 15;
+    }
+
+    public int getEnpassantSquare() {
+        return enpassantSquare;
+    }
+
+    public void setEnpassantSquare(int enpassantSquare) {
+        this.enpassantSquare = enpassantSquare;
+    }
+
+    public int getHalfMoveClock() {
+        return halfMoveClock;
+    }
+
+    public void setHalfMoveClock(int halfMoveClock) {
+        this.halfMoveClock = halfMoveClock;
+    }
+
+    public int getFullMoveNumber() {
+        return fullMoveNumber;
+    }
+
+    public void setFullMoveNumber(int fullMoveNumber) {
+        this.fullMoveNumber = fullMoveNumber;
+    }
+
+    private static boolean isPieceChar(char c) {
+        switch (c) {
+            case 'P': case 'N': case 'B': case 'R': case 'Q': case 'K':
+            case 'p': case 'n': case 'b': case 'r': case 'q': case 'k':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int skipSpaces(CharSequence text, int index) {
+        while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static IllegalArgumentException malformed(CharSequence fen, String reason) {
+        return new IllegalArgumentException("Malformed FEN (" + reason + "): " + fen);
+    }
+}
@@ -0,0 +1,126 @@
+package notation;
+
+import engine.Move;
+import engine.MoveGenerator;
+import gamestate.GameResult;
+import gamestate.GameState;
+import gamestate.MoveHistory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A game in Portable Game Notation: its tag pairs, starting position, moves in SAN
+ * and result.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class PgnGame {
+
+    public static final String WHITE_WINS = "1-0";
+    public static final String BLACK_WINS = "0-1";
+    public static final String DRAW = "1/2-1/2";
+    public static final String UNKNOWN_RESULT = "*";
+
+    private static final String[] SEVEN_TAG_ROSTER = {"Event", "Site", "Date", "Round",
+                                                      "White", "Black", "Result"};
+
+    private final Map<String, String> tags;
+    private final List<String> moves;
+
+    /**
+     * Constructor for PgnGame. The seven tag roster is filled with unknown values.
+     */
+    public PgnGame() {
+        tags = new LinkedHashMap<String, String>();
+        moves = new ArrayList<String>();
+        for (String tag : SEVEN_TAG_ROSTER) {
+            tags.put(tag, "?");
+        }
+        tags.put("Result", UNKNOWN_RESULT);
+    }
+
+    /**
+     * Returns the game played so far in a game state, from the position it was set
+     * up in. The result is filled in if the game is over.
+     *
+     * @param gameState the game.
+     * @return the game in PGN form.
+     */
+    public static PgnGame fromGameState(GameState gameState) {
+        PgnGame game = new PgnGame();
+        game.setStartFen(gameState.getStartFen());
+        GameState replay = GameState.fromFen(gameState.getStartFen(),
+                                             gameState.getIsWhiteSide());
+        for (MoveHistory entry : gameState.getGameMoves()) {
+            int move = Move.fromHistory(entry);
+            game.addMove(SanNotation.toSan(replay, move));
+            MoveGenerator.makeMove(replay, move);
+        }
+
+        int result = GameResult.getResult(gameState);
+        if (result == GameResult.CHECKMATE) {
+            game.setResult(gameState.getIsWhiteToMove() ? BLACK_WINS : WHITE_WINS);
+        } else if (GameResult.isDraw(result)) {
+            game.setResult(DRAW);
+        }
+        return game;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public String getTag(String name) {
+        return tags.get(name);
+    }
+
+    public void setTag(String name, String value) {
+        tags.put(name, value);
+    }
+
+    public List<String> getMoves() {
+        return moves;
+    }
+
+    public void addMove(String san) {
+        moves.add(san);
+    }
+
+    public String getResult() {
+        return tags.get("Result");
+    }
+
+    public void setResult(String result) {
+        tags.put("Result", result);
+    }
+
+    /**
+     * Returns the FEN of the starting position.
+     *
+     * @return the FEN tag, or the standard starting position.
+     */
+    public String getStartFen() {
+        String fen = tags.get("FEN");
+        return fen != null ? fen : FenPosition.STANDARD_START_FEN;
+    }
+
+    /**
+     * Sets a starting position other than the standard one.
+     *
+     * @param fen the FEN of the starting position.
+     */
+    public void setStartFen(String fen) {
+        if (fen.equals(FenPosition.STANDARD_START_FEN)) {
+            tags.remove("SetUp");
+            tags.remove("FEN");
+        } else {
+            tags.put("SetUp", "1");
+            tags.put("FEN", fen);
+        }
+    }
+}
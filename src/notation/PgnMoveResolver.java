@@ -0,0 +1,115 @@
+package notation;
+
+import engine.Move;
+import engine.MoveGenerator;
+import gamestate.GameState;
+
+/**
+ * A PgnVisitor that plays the moves of each game on a board, turning the SAN of
+ * every move into the legal move it names. Subclasses receive each move together
+ * with the position it was played in. A game stops being played at its first move
+ * that is not legal, and is then marked illegal.
+ *
+ * <p>Each game starts from its FEN tag, or from the standard starting position.
+ * The board is reused from game to game.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public abstract class PgnMoveResolver implements PgnVisitor {
+
+    private GameState gameState;
+    private String startFen;
+    private boolean isSetUp;
+    private boolean isIllegal;
+    private int plyCount;
+
+    @Override
+    public void startGame() {
+        startFen = FenPosition.STANDARD_START_FEN;
+        isSetUp = false;
+        isIllegal = false;
+        plyCount = 0;
+    }
+
+    @Override
+    public void tag(CharSequence name, CharSequence value) {
+        if ("FEN".contentEquals(name)) {
+            startFen = value.toString();
+        }
+    }
+
+    @Override
+    public void move(CharSequence san) {
+        if (isIllegal) {
+            return;
+        }
+        if (!isSetUp && !setUpGame()) {
+            return;
+        }
+        int move = SanNotation.fromSan(gameState, san);
+        if (move == Move.NONE) {
+            isIllegal = true;
+            return;
+        }
+        moveResolved(gameState, move);
+        MoveGenerator.makeMove(gameState, move);
+        plyCount++;
+    }
+
+    /**
+     * Called with each legal move of a game, before it is made.
+     *
+     * @param gameState the position the move is played in; do not keep it.
+     * @param move the encoded move.
+     */
+    protected abstract void moveResolved(GameState gameState, int move);
+
+    /**
+     * Returns the position after the moves played so far, setting up the starting
+     * position of the game if no move was played yet.
+     *
+     * @return the position, or null if the FEN tag is not a legal position.
+     */
+    protected GameState getGameState() {
+        if (!isSetUp) {
+            setUpGame();
+        }
+        return isIllegal ? null : gameState;
+    }
+
+    /**
+     * Returns whether the current game has a move that is not legal, or a FEN tag
+     * that cannot be set up.
+     *
+     * @return true if the game could not be played to its end.
+     */
+    protected boolean isIllegal() {
+        return isIllegal;
+    }
+
+    /**
+     * Returns the number of moves of the current game played so far.
+     *
+     * @return the ply count.
+     */
+    protected int getPlyCount() {
+        return plyCount;
+    }
+
+    private boolean setUpGame() {
+        isSetUp = true;
+        try {
+            FenPosition position = FenPosition.fromFen(startFen);
+            if (gameState == null) {
+                gameState = GameState.fromFen(startFen, true);
+            } else {
+                gameState.loadPosition(position);
+            }
+        } catch (IllegalArgumentException e) {
+            isIllegal = true;
+        }
+        return !isIllegal;
+    }
+}
@@ -0,0 +1,435 @@
+package notation;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads PGN files of any size by mapping them into memory and tokenising the bytes
+ * in place. Tag pairs and moves are handed to a PgnVisitor through reused character
+ * buffers, so reading a game builds no strings. Games can also be streamed as
+ * PgnGame objects, in parallel if wanted: the file is then split into byte ranges
+ * at game boundaries, a tag pair at the start of a line after a blank line.
+ *
+ * <p>Tag values are decoded as UTF-8 and movetext as ASCII. Comments, variations,
+ * numeric annotation glyphs and escaped lines are skipped.
+ *
+ * <p>One reader can be used by several threads at once, each reading its own range.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class PgnReader implements AutoCloseable {
+
+    // Files are mapped in regions of 1 GB, since one mapping holds at most 2 GB.
+    private static final int REGION_SHIFT = 30;
+    private static final long REGION_MASK = (1L << REGION_SHIFT) - 1;
+
+    // Ranges smaller than this are not split further.
+    private static final long MIN_SPLIT_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] regions;
+    private final long size;
+
+    private PgnReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.regions = new MappedByteBuffer[(int) ((size + REGION_MASK)
+                                                   >>> REGION_SHIFT)];
+        for (int i = 0; i < regions.length; i++) {
+            long start = (long) i << REGION_SHIFT;
+            regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                                     Math.min(REGION_MASK + 1, size - start));
+        }
+    }
+
+    /**
+     * Opens a PGN file for reading.
+     *
+     * @param file the PGN file.
+     * @return the reader; close it when done.
+     * @throws IOException if the file cannot be opened or mapped.
+     */
+    public static PgnReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new PgnReader(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     *
+     * @return the file size.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Reads every game of the file.
+     *
+     * @param visitor receives the games.
+     */
+    public void read(PgnVisitor visitor) {
+        read(0, size, visitor);
+    }
+
+    /**
+     * Reads the games that start in a byte range. Ranges whose ends are game starts,
+     * as returned by findGameStart, together cover each game exactly once.
+     *
+     * @param start the first byte of the range.
+     * @param end the byte after the range.
+     * @param visitor receives the games.
+     */
+    public void read(long start, long end, PgnVisitor visitor) {
+        Tokenizer tokenizer = new Tokenizer(start);
+        while (tokenizer.readGame(end, visitor)) {
+        }
+    }
+
+    /**
+     * Returns the start of the first game at or after a position: the position
+     * itself if it is 0, otherwise the first '[' that starts a line after a blank
+     * line.
+     *
+     * @param position a byte position in the file.
+     * @return the start of the game, or the file size if no game starts after it.
+     */
+    public long findGameStart(long position) {
+        if (position <= 0) {
+            return 0;
+        }
+        // Counts the line breaks since the last byte that was not white space.
+        int lineBreaks = 0;
+        for (long i = position - 1; i < size; i++) {
+            byte b = byteAt(i);
+            if (b == '\n') {
+                lineBreaks++;
+            } else if (b == '[' && lineBreaks >= 2 && byteAt(i - 1) == '\n'
+                       && i >= position) {
+                return i;
+            } else if (b != '\r' && b != ' ' && b != '\t') {
+                lineBreaks = 0;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the games of the file as a stream of PgnGame objects, in file order.
+     *
+     * @param isParallel true for a parallel stream.
+     * @return the games.
+     */
+    public Stream<PgnGame> games(boolean isParallel) {
+        return StreamSupport.stream(new GameSpliterator(0, size), isParallel);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private byte byteAt(long position) {
+        return regions[(int) (position >>> REGION_SHIFT)]
+                .get((int) (position & REGION_MASK));
+    }
+
+    /**
+     * Splits the games of a byte range between threads at game boundaries.
+     */
+    private class GameSpliterator implements Spliterator<PgnGame> {
+
+        private final GameCollector collector;
+        private final Tokenizer tokenizer;
+        private long end;
+
+        GameSpliterator(long start, long end) {
+            this.collector = new GameCollector();
+            this.tokenizer = new Tokenizer(start);
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super PgnGame> action) {
+            if (!tokenizer.readGame(end, collector)) {
+                return false;
+            }
+            action.accept(collector.game);
+            return true;
+        }
+
+        @Override
+        public Spliterator<PgnGame> trySplit() {
+            long start = tokenizer.position;
+            if (end - start < 2 * MIN_SPLIT_SIZE) {
+                return null;
+            }
+            long middle = findGameStart(start + (end - start) / 2);
+            if (middle <= start || middle >= end) {
+                return null;
+            }
+            GameSpliterator prefix = new GameSpliterator(start, middle);
+            tokenizer.position = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            // Bytes, an upper bound of the game count.
+            return end - tokenizer.position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    /**
+     * Builds a PgnGame from the calls of the reader.
+     */
+    private static class GameCollector implements PgnVisitor {
+
+        private PgnGame game;
+
+        @Override
+        public void startGame() {
+            game = new PgnGame();
+        }
+
+        @Override
+        public void tag(CharSequence name, CharSequence value) {
+            game.setTag(name.toString(), value.toString());
+        }
+
+        @Override
+        public void move(CharSequence san) {
+            game.addMove(san.toString());
+        }
+
+        @Override
+        public void endGame(CharSequence result) {
+            if (result != null) {
+                game.setResult(result.toString());
+            }
+        }
+    }
+
+    /**
+     * Reads tokens from a position of the file into reused buffers.
+     */
+    private class Tokenizer {
+
+        private final StringBuilder name = new StringBuilder(16);
+        private final StringBuilder text = new StringBuilder(64);
+        private long position;
+
+        Tokenizer(long position) {
+            this.position = position;
+        }
+
+        /**
+         * Reads the next game if it starts before the end of the range.
+         *
+         * @return false if no game starts before the end.
+         */
+        boolean readGame(long end, PgnVisitor visitor) {
+            skipSpaceAndComments();
+            if (position >= end || position >= size) {
+                return false;
+            }
+            visitor.startGame();
+            while (position < size && byteAt(position) == '[') {
+                readTag(visitor);
+                skipSpaceAndComments();
+            }
+            while (position < size) {
+                byte b = byteAt(position);
+                if (b == '[') {
+                    // A new game started without a termination marker.
+                    visitor.endGame(null);
+                    return true;
+                } else if (b == '(') {
+                    skipVariation();
+                } else if (b == '$') {
+                    position++;
+                    skipWhile(digit -> digit >= '0' && digit <= '9');
+                } else {
+                    readSymbol();
+                    if (text.length() == 0) {
+                        // A stray character, such as a closing parenthesis.
+                        position++;
+                    } else if (isResult(text)) {
+                        visitor.endGame(text);
+                        return true;
+                    } else if ("e.p.".contentEquals(text)) {
+                        // An en passant suffix written apart from its move.
+                    } else if (!isMoveNumber(text)) {
+                        visitor.move(text);
+                    }
+                }
+                skipSpaceAndComments();
+            }
+            visitor.endGame(null);
+            return true;
+        }
+
+        private void readTag(PgnVisitor visitor) {
+            position++;
+            name.setLength(0);
+            while (position < size) {
+                byte b = byteAt(position);
+                if (b == ' ' || b == '\t' || b == '"' || b == ']' || b == '\n') {
+                    break;
+                }
+                name.append((char) b);
+                position++;
+            }
+            skipWhile(b -> b == ' ' || b == '\t');
+            text.setLength(0);
+            if (position < size && byteAt(position) == '"') {
+                position++;
+                readTagValue();
+            }
+            // Skips to the end of the tag pair.
+            while (position < size) {
+                byte b = byteAt(position);
+                position++;
+                if (b == ']' || b == '\n') {
+                    break;
+                }
+            }
+            visitor.tag(name, text);
+        }
+
+        /**
+         * Reads a quoted tag value after its opening quote, decoding UTF-8 and
+         * escapes.
+         */
+        private void readTagValue() {
+            while (position < size) {
+                int b = byteAt(position++) & 0xFF;
+                if (b == '"' || b == '\n') {
+                    return;
+                } else if (b == '\\' && position < size) {
+                    text.append((char) (byteAt(position++) & 0xFF));
+                } else if (b < 0x80) {
+                    text.append((char) b);
+                } else {
+                    int extraBytes = b >= 0xF0 ? 3 : b >= 0xE0 ? 2 : b >= 0xC0 ? 1 : 0;
+                    int codePoint = b & (0x3F >> extraBytes);
+                    for (int i = 0; i < extraBytes && position < size; i++) {
+                        codePoint = codePoint << 6 | (byteAt(position++) & 0x3F);
+                    }
+                    text.appendCodePoint(extraBytes > 0 ? codePoint : 0xFFFD);
+                }
+            }
+        }
+
+        /**
+         * Reads a move, move number or termination marker into the text buffer. A
+         * move number ends at its dots, since the move may follow without a space.
+         */
+        private void readSymbol() {
+            text.setLength(0);
+            boolean isNumber = true;
+            while (position < size) {
+                byte b = byteAt(position);
+                if (b <= ' ' || b == '{' || b == '}' || b == '(' || b == ')' || b == ';'
+                        || b == '$' || b == '[') {
+                    break;
+                }
+                if (b == '.' && isNumber) {
+                    skipWhile(dot -> dot == '.');
+                    text.append('.');
+                    break;
+                }
+                isNumber &= b >= '0' && b <= '9';
+                text.append((char) b);
+                position++;
+            }
+        }
+
+        private boolean isResult(CharSequence symbol) {
+            return "1-0".contentEquals(symbol) || "0-1".contentEquals(symbol)
+                   || "1/2-1/2".contentEquals(symbol) || "*".contentEquals(symbol);
+        }
+
+        private boolean isMoveNumber(CharSequence symbol) {
+            for (int i = 0; i < symbol.length(); i++) {
+                char c = symbol.charAt(i);
+                if (c != '.' && (c < '0' || c > '9')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void skipVariation() {
+            int depth = 0;
+            while (position < size) {
+                byte b = byteAt(position);
+                if (b == '{') {
+                    skipComment();
+                    continue;
+                }
+                position++;
+                if (b == '(') {
+                    depth++;
+                } else if (b == ')' && --depth == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void skipComment() {
+            while (position < size && byteAt(position++) != '}') {
+            }
+        }
+
+        private void skipLine() {
+            while (position < size && byteAt(position++) != '\n') {
+            }
+        }
+
+        private void skipSpaceAndComments() {
+            while (position < size) {
+                byte b = byteAt(position);
+                if (b == '{') {
+                    skipComment();
+                } else if (b == ';' || (b == '%' && (position == 0
+                                                      || byteAt(position - 1) == '\n'))) {
+                    skipLine();
+                } else if (b <= ' ') {
+                    position++;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void skipWhile(BytePredicate predicate) {
+            while (position < size && predicate.test(byteAt(position))) {
+                position++;
+            }
+        }
+    }
+
+    private interface BytePredicate {
+        boolean test(byte b);
+    }
+}
@@ -0,0 +1,41 @@
+package notation;
+
+/**
+ * Receives the games PgnReader reads, one call per tag pair and move. The character
+ * sequences passed in are reused for the next call; copy them to keep them.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public interface PgnVisitor {
+
+    /**
+     * Called before the first tag pair of a game.
+     */
+    void startGame();
+
+    /**
+     * Called with each tag pair of a game, before its moves.
+     *
+     * @param name the tag name, for example "White".
+     * @param value the tag value, without quotes and escapes.
+     */
+    void tag(CharSequence name, CharSequence value);
+
+    /**
+     * Called with each move of the main line. Move numbers, comments, variations
+     * and numeric annotation glyphs are left out.
+     *
+     * @param san the move in SAN, as written in the file.
+     */
+    void move(CharSequence san);
+
+    /**
+     * Called after the last move of a game.
+     *
+     * @param result the game termination marker, for example "1-0", or null if the
+     * movetext ended without one.
+     */
+    void endGame(CharSequence result);
+}
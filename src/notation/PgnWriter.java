@@ -0,0 +1,88 @@
+package notation;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes games in Portable Game Notation export format.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class PgnWriter {
+
+    private static final int MAX_LINE_LENGTH = 79;
+
+    private PgnWriter() {}
+
+    /**
+     * Returns the PGN text of a game, ending with a blank line.
+     *
+     * @param game the game.
+     * @return the PGN text.
+     */
+    public static String toPgn(PgnGame game) {
+        StringBuilder builder = new StringBuilder(1024);
+        try {
+            write(game, builder);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes a game: its tag pairs, a blank line, the movetext wrapped at 79
+     * characters, and a blank line.
+     *
+     * @param game the game.
+     * @param output where to write the game.
+     * @throws IOException if writing fails.
+     */
+    public static void write(PgnGame game, Appendable output) throws IOException {
+        for (Map.Entry<String, String> tag : game.getTags().entrySet()) {
+            output.append('[').append(tag.getKey()).append(" \"")
+                  .append(escape(tag.getValue())).append("\"]\n");
+        }
+        output.append('\n');
+
+        FenPosition start = FenPosition.fromFen(game.getStartFen());
+        int moveNumber = start.getFullMoveNumber();
+        boolean isWhiteToMove = start.isWhiteToMove();
+        List<String> moves = game.getMoves();
+        StringBuilder line = new StringBuilder(MAX_LINE_LENGTH + 16);
+
+        for (int i = 0; i < moves.size(); i++) {
+            if (isWhiteToMove) {
+                appendToken(output, line, moveNumber + ".");
+            } else if (i == 0) {
+                appendToken(output, line, moveNumber + "...");
+            }
+            appendToken(output, line, moves.get(i));
+            if (!isWhiteToMove) {
+                moveNumber++;
+            }
+            isWhiteToMove = !isWhiteToMove;
+        }
+        appendToken(output, line, game.getResult());
+        output.append(line).append("\n\n");
+    }
+
+    private static void appendToken(Appendable output, StringBuilder line, String token)
+            throws IOException {
+        if (line.length() > 0 && line.length() + 1 + token.length() > MAX_LINE_LENGTH) {
+            output.append(line).append('\n');
+            line.setLength(0);
+        }
+        if (line.length() > 0) {
+            line.append(' ');
+        }
+        line.append(token);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
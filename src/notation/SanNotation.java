@@ -0,0 +1,293 @@
+package notation;
+
+import chessboard.Tile;
+import chesspieces.Piece;
+import engine.Move;
+import engine.MoveGenerator;
+import gamestate.GameState;
+
+/**
+ * Writes moves in Standard Algebraic Notation, for example "Nbd2", "exd6", "e8=Q+"
+ * or "O-O-O#".
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class SanNotation {
+
+    private static final String PROMOTION_LETTERS = "QNBRQ";
+
+    private SanNotation() {}
+
+    /**
+     * Returns the SAN of a legal move. The position is left unchanged.
+     *
+     * @param gameState the position before the move.
+     * @param move the encoded legal move.
+     * @return the move in SAN.
+     */
+    public static String toSan(GameState gameState, int move) {
+        return toSan(gameState, move, MoveGenerator.generateLegalMoves(gameState));
+    }
+
+    /**
+     * Returns the SAN of a legal move, given all legal moves of the position so they
+     * do not have to be generated again. The position is left unchanged.
+     *
+     * @param gameState the position before the move.
+     * @param move the encoded legal move.
+     * @param legalMoves all legal moves of the position.
+     * @return the move in SAN.
+     */
+    public static String toSan(GameState gameState, int move, int[] legalMoves) {
+        StringBuilder san = new StringBuilder(8);
+        appendMove(san, gameState, move, legalMoves);
+
+        MoveGenerator.makeMove(gameState, move);
+        if (gameState.calcIfAllyKingIsCheck(gameState.getIsWhiteToMove())) {
+            san.append(MoveGenerator.generateLegalMoves(gameState).length == 0 ? '#' : '+');
+        }
+        MoveGenerator.undoMove(gameState);
+        return san.toString();
+    }
+
+    /**
+     * Finds the legal move written in SAN. Check and annotation marks are optional,
+     * and castling may be written with zeros. Only the moves to the tile the SAN
+     * names are written out for comparison.
+     *
+     * <p>Moves that are not quite canonical, as found in real game archives, are
+     * read too: extra disambiguation such as "Ng1f3", promotions without the equals
+     * sign such as "e8Q", and an "e.p." suffix. Moves are always written canonically.
+     *
+     * @param gameState the position before the move.
+     * @param san the move in SAN, for example "Nbd2" or "exd8=Q+".
+     * @return the encoded move, or Move.NONE if no legal move matches.
+     */
+    public static int fromSan(GameState gameState, CharSequence san) {
+        StringBuilder wanted = new StringBuilder(san.length());
+        for (int i = 0; i < san.length(); i++) {
+            char c = san.charAt(i);
+            wanted.append(c == '0' ? 'O' : c);
+        }
+        stripMarks(wanted);
+        if (endsWith(wanted, "e.p.")) {
+            wanted.setLength(wanted.length() - 4);
+            stripMarks(wanted);
+        }
+        int toID = getTargetTileID(wanted, gameState.getIsWhiteSide());
+
+        int[] legalMoves = MoveGenerator.generateLegalMoves(gameState);
+        StringBuilder candidate = new StringBuilder(8);
+        for (int move : legalMoves) {
+            if (toID >= 0 && Move.getToID(move) != toID) {
+                continue;
+            }
+            candidate.setLength(0);
+            appendMove(candidate, gameState, move, legalMoves);
+            if (CharSequence.compare(wanted, candidate) == 0) {
+                return move;
+            }
+        }
+        return toID >= 0 ? fromLooseSan(gameState, wanted, toID, legalMoves) : Move.NONE;
+    }
+
+    /**
+     * Finds the only legal move that fits SAN read part by part: the piece letter,
+     * any from-file and from-rank given, the target tile and the promotion piece.
+     * Capture signs and dashes are ignored.
+     *
+     * @return the move, or Move.NONE if no move or more than one fits.
+     */
+    private static int fromLooseSan(GameState gameState, CharSequence san, int toID,
+                                    int[] legalMoves) {
+        Tile[] chessBoard = gameState.getChessBoard();
+        boolean isWhiteSide = gameState.getIsWhiteSide();
+        int start = 0;
+        int end = san.length();
+        char pieceLetter = ' ';
+        if (end > 0 && "KQRBN".indexOf(san.charAt(0)) >= 0) {
+            pieceLetter = san.charAt(start++);
+        }
+        char promotionLetter = ' ';
+        if (end > start && "QRBN".indexOf(san.charAt(end - 1)) >= 0) {
+            promotionLetter = san.charAt(--end);
+            if (end > start && san.charAt(end - 1) == '=') {
+                end--;
+            }
+        }
+        // The target square is the last two characters left; anything before it
+        // other than capture signs and dashes has to be a from-file or from-rank.
+        end -= 2;
+        int fromFile = -1;
+        int fromRank = -1;
+        for (int i = start; i < end; i++) {
+            char c = san.charAt(i);
+            if (c >= 'a' && c <= 'h' && fromFile < 0) {
+                fromFile = c - 'a';
+            } else if (c >= '1' && c <= '8' && fromRank < 0) {
+                fromRank = c - '1';
+            } else if (c != 'x' && c != ':' && c != '-') {
+                return Move.NONE;
+            }
+        }
+
+        int found = Move.NONE;
+        for (int move : legalMoves) {
+            if (Move.getToID(move) != toID) {
+                continue;
+            }
+            int fromSquare = FenPosition.toTileID(Move.getFromID(move), isWhiteSide);
+            Piece pieceMoved = chessBoard[Move.getFromID(move)].getAssignedPiece();
+            String letter = getPieceLetter(pieceMoved.getPieceType());
+            int promotion = Move.getPromotion(move);
+            if ((pieceLetter == ' ' ? !letter.isEmpty()
+                                    : letter.isEmpty() || letter.charAt(0) != pieceLetter)
+                    || (fromFile >= 0 && (fromSquare & 7) != fromFile)
+                    || (fromRank >= 0 && 7 - (fromSquare >> 3) != fromRank)
+                    || (promotionLetter == ' ' ? promotion != Move.NO_PROMOTION
+                        : promotion == Move.NO_PROMOTION
+                          || PROMOTION_LETTERS.charAt(promotion) != promotionLetter)) {
+                continue;
+            }
+            if (found != Move.NONE) {
+                return Move.NONE;
+            }
+            found = move;
+        }
+        return found;
+    }
+
+    private static void stripMarks(StringBuilder san) {
+        while (san.length() > 0 && "+#!?".indexOf(san.charAt(san.length() - 1)) >= 0) {
+            san.setLength(san.length() - 1);
+        }
+    }
+
+    private static boolean endsWith(CharSequence text, String suffix) {
+        int offset = text.length() - suffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (text.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the tile ID of the last square named in a SAN move, or -1 for castling
+     * and text without a square.
+     */
+    private static int getTargetTileID(CharSequence san, boolean isWhiteSide) {
+        if (san.length() > 0 && san.charAt(0) == 'O') {
+            return -1;
+        }
+        for (int i = san.length() - 1; i > 0; i--) {
+            char file = san.charAt(i - 1);
+            char rank = san.charAt(i);
+            if (file >= 'a' && file <= 'h' && rank >= '1' && rank <= '8') {
+                return FenPosition.toTileID((7 - (rank - '1')) * 8 + (file - 'a'),
+                                            isWhiteSide);
+            }
+        }
+        return -1;
+    }
+
+    private static void appendMove(StringBuilder san, GameState gameState, int move,
+                                   int[] legalMoves) {
+        Tile[] chessBoard = gameState.getChessBoard();
+        boolean isWhiteSide = gameState.getIsWhiteSide();
+        int fromID = Move.getFromID(move);
+        int toID = Move.getToID(move);
+        Piece pieceMoved = chessBoard[fromID].getAssignedPiece();
+        byte pieceKind = pieceMoved.getPieceKind();
+        int toSquare = FenPosition.toTileID(toID, isWhiteSide);
+        boolean isCapture = MoveGenerator.getCapturedPiece(chessBoard, move) != null;
+
+        if (pieceKind == Piece.KING && Math.abs(toID - fromID) == 2) {
+            // Castling towards the h-file is always king side.
+            int fromSquare = FenPosition.toTileID(fromID, isWhiteSide);
+            san.append((toSquare & 7) > (fromSquare & 7) ? "O-O" : "O-O-O");
+            return;
+        }
+
+        if (pieceKind == Piece.PAWN) {
+            if (isCapture) {
+                san.append(FenPosition.getSquareName(FenPosition.toTileID(fromID,
+                        isWhiteSide)).charAt(0)).append('x');
+            }
+            san.append(FenPosition.getSquareName(toSquare));
+            if (Move.getPromotion(move) != Move.NO_PROMOTION) {
+                san.append('=').append(PROMOTION_LETTERS.charAt(Move.getPromotion(move)));
+            }
+            return;
+        }
+
+        san.append(getPieceLetter(pieceMoved.getPieceType()));
+        appendDisambiguation(san, gameState, move, legalMoves);
+        if (isCapture) {
+            san.append('x');
+        }
+        san.append(FenPosition.getSquareName(toSquare));
+    }
+
+    /**
+     * Adds the file, rank or both of the moving piece when another piece of the same
+     * type can move to the same tile.
+     */
+    private static void appendDisambiguation(StringBuilder san, GameState gameState,
+                                             int move, int[] legalMoves) {
+        Tile[] chessBoard = gameState.getChessBoard();
+        boolean isWhiteSide = gameState.getIsWhiteSide();
+        int fromID = Move.getFromID(move);
+        int toID = Move.getToID(move);
+        byte pieceKind = chessBoard[fromID].getAssignedPiece().getPieceKind();
+        int fromSquare = FenPosition.toTileID(fromID, isWhiteSide);
+
+        boolean isAmbiguous = false;
+        boolean isFileShared = false;
+        boolean isRankShared = false;
+        for (int otherMove : legalMoves) {
+            int otherFromID = Move.getFromID(otherMove);
+            if (Move.getToID(otherMove) == toID && otherFromID != fromID
+                    && chessBoard[otherFromID].getAssignedPiece().getPieceKind()
+                       == pieceKind) {
+                int otherSquare = FenPosition.toTileID(otherFromID, isWhiteSide);
+                isAmbiguous = true;
+                isFileShared |= (otherSquare & 7) == (fromSquare & 7);
+                isRankShared |= (otherSquare >> 3) == (fromSquare >> 3);
+            }
+        }
+        if (isAmbiguous) {
+            String squareName = FenPosition.getSquareName(fromSquare);
+            if (!isFileShared) {
+                san.append(squareName.charAt(0));
+            } else if (!isRankShared) {
+                san.append(squareName.charAt(1));
+            } else {
+                san.append(squareName);
+            }
+        }
+    }
+
+    /**
+     * Returns the SAN letter of a piece type.
+     *
+     * @param pieceType the piece type, for example "Knight".
+     * @return the piece letter, or an empty string for pawns.
+     */
+    public static String getPieceLetter(String pieceType) {
+        switch (pieceType) {
+            case "Knight": return "N";
+            case "Bishop": return "B";
+            case "Rook": return "R";
+            case "Queen": return "Q";
+            case "King": return "K";
+            default: return "";
+        }
+    }
+}
@@ -1,21 +1,25 @@
 package players;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 import chesspieces.Piece;
 import gamestate.MoveAlgorithm;
 import gamestate.MoveHistory;
+import userinterface.BoardComponent;
 
 import java.util.Set;
 import java.util.Stack;
 
 public class Human extends Player {
 
+    private final BoardComponent boardComponent;
     private Piece highlightedPiece;
     private Set<Integer> highlightedMoves;
 
-    public Human(TileUI[] boardTiles, MoveAlgorithm moveAlgorithm,
-                 Stack<MoveHistory> moveHistory, boolean isPlayerWhite) {
+    public Human(Tile[] boardTiles, BoardComponent boardComponent,
+                 MoveAlgorithm moveAlgorithm, Stack<MoveHistory> moveHistory,
+                 boolean isPlayerWhite) {
         super(boardTiles, moveAlgorithm, moveHistory, isPlayerWhite);
+        this.boardComponent = boardComponent;
         highlightedPiece = null;
         highlightedMoves = null;
     }
@@ -52,18 +56,11 @@ public class Human extends Player {
     private void highlightPiece(Piece selectedPiece) {
         highlightedPiece = selectedPiece;
         highlightedMoves = selectedPiece.getAllMoves(boardTiles);
-        boardTiles[selectedPiece.getPiecePosition()].assignHighlightTileColor();
-        System.out.println(highlightedMoves);
-        for (int moveID : highlightedMoves) {
-            this.boardTiles[moveID].assignHighlightTileColor();
-        }
+        boardComponent.setHighlights(selectedPiece, highlightedMoves);
     }
 
     private void unhighlightPiece(Piece selectedPiece) {
-        boardTiles[highlightedPiece.getPiecePosition()].assignDefaultTileColor();
-        for (int movePosition : highlightedMoves) {
-            this.boardTiles[movePosition].assignDefaultTileColor();
-        }
+        boardComponent.setHighlights(null, null);
         highlightedPiece = selectedPiece;
     }
 
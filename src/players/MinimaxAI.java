@@ -1,13 +1,13 @@
 package players;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 import gamestate.MoveAlgorithm;
 import gamestate.MoveHistory;
 import java.util.Stack;
 
 public class MinimaxAI extends Player {
 
-    public MinimaxAI(TileUI[] boardTiles, MoveAlgorithm moveAlgorithm,
+    public MinimaxAI(Tile[] boardTiles, MoveAlgorithm moveAlgorithm,
                      Stack<MoveHistory> moveHistory, boolean isWhitePlayer) {
         super(boardTiles, moveAlgorithm, moveHistory, isWhitePlayer);
     }
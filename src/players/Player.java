@@ -1,6 +1,6 @@
 package players;
 
-import chessboard.TileUI;
+import chessboard.Tile;
 import gamestate.MoveAlgorithm;
 import gamestate.MoveHistory;
 
@@ -8,13 +8,13 @@ import java.util.Stack;
 
 public abstract class Player {
 
-    protected final TileUI[] boardTiles;
+    protected final Tile[] boardTiles;
     protected final MoveAlgorithm moveAlgorithm;
     protected final Stack<MoveHistory> moveHistory;
 
     protected final boolean isPlayerWhite;
 
-    public Player(TileUI[] boardTiles, MoveAlgorithm moveAlgorithm,
+    public Player(Tile[] boardTiles, MoveAlgorithm moveAlgorithm,
                   Stack<MoveHistory> moveHistory, boolean isWhitePlayer) {
         this.boardTiles = boardTiles;
         this.moveAlgorithm = moveAlgorithm;
@@ -0,0 +1,195 @@
+package server;
+
+import analysis.AnalysisScheduler;
+import tools.CommandLineOptions;
+import tools.EngineConfig;
+import tools.GameClock;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A headless server hosting games against the engine over TCP or a Unix domain
+ * socket, one GameSession per connection. Each session runs on its own threads,
+ * one reading and one writing, virtual threads when the Java runtime has them, and
+ * waits for engine moves from an AnalysisScheduler with a fixed number of search
+ * workers, so the number of games is limited by memory rather than by threads. Engine moves take priority over the
+ * analysis clients ask for.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class GameServer {
+
+    public static final String USAGE = "serve [--port N | --socket path]"
+            + " [--engine settings] [--threads N] [--tc base+inc]";
+
+    public static final int DEFAULT_PORT = 7400;
+
+    // Connections waiting to be accepted; the default of 50 drops bursts of clients.
+    private static final int ACCEPT_BACKLOG = 4096;
+
+    // Sessions need little stack, so platform session threads are given less.
+    private static final long PLATFORM_STACK_SIZE = 256 * 1024;
+
+    private final ServerSocketChannel serverChannel;
+    private final EngineConfig config;
+    private final AnalysisScheduler scheduler;
+    private final GameClock timeControl;
+    private final ThreadFactory sessionThreadFactory;
+    private final AtomicInteger activeSessionCount;
+    private final AtomicLong sessionCount;
+
+    /**
+     * Constructor for GameServer.
+     *
+     * @param serverChannel the bound channel to accept connections on.
+     * @param config the settings of the engine.
+     * @param scheduler the workers that search the engine moves and analysis.
+     * @param timeControl the clock of games started without one, or null for
+     * untimed games.
+     */
+    public GameServer(ServerSocketChannel serverChannel, EngineConfig config,
+                      AnalysisScheduler scheduler, GameClock timeControl) {
+        this.serverChannel = serverChannel;
+        this.config = config;
+        this.scheduler = scheduler;
+        this.timeControl = timeControl;
+        this.sessionThreadFactory = createSessionThreadFactory();
+        this.activeSessionCount = new AtomicInteger();
+        this.sessionCount = new AtomicLong();
+    }
+
+    /**
+     * Runs the serve command.
+     *
+     * @param options the command-line options.
+     * @throws IOException if the socket cannot be opened.
+     */
+    public static void run(CommandLineOptions options) throws IOException {
+        EngineConfig config = EngineConfig.parse(options.getString("engine", ""),
+                                                 "server");
+        GameClock timeControl = options.hasOption("tc")
+                                ? GameClock.parse(options.getString("tc", null)) : null;
+        AnalysisScheduler scheduler = new AnalysisScheduler(
+                "server",
+                options.getInt("threads", Runtime.getRuntime().availableProcessors()),
+                config.getHashSizeMB());
+
+        ServerSocketChannel serverChannel;
+        SocketAddress address;
+        if (options.hasOption("socket")) {
+            Path socketPath = Paths.get(options.getString("socket", null));
+            Files.deleteIfExists(socketPath);
+            serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            address = UnixDomainSocketAddress.of(socketPath);
+        } else {
+            serverChannel = ServerSocketChannel.open();
+            address = new InetSocketAddress(options.getInt("port", DEFAULT_PORT));
+        }
+        serverChannel.bind(address, ACCEPT_BACKLOG);
+        System.err.println("Serving games on " + address + ", " + config + ", "
+                           + scheduler.getWorkerCount() + " search workers"
+                           + (timeControl != null ? ", tc " + timeControl : ""));
+        new GameServer(serverChannel, config, scheduler, timeControl).serve();
+    }
+
+    /**
+     * Accepts connections until the channel is closed, starting a session for each.
+     *
+     * @throws IOException if accepting fails for a reason other than closing.
+     */
+    public void serve() throws IOException {
+        try {
+            while (true) {
+                SocketChannel channel = serverChannel.accept();
+                startSession(channel);
+            }
+        } catch (IOException e) {
+            if (serverChannel.isOpen()) {
+                throw e;
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * Stops accepting connections. Sessions already running play on.
+     *
+     * @throws IOException if the channel cannot be closed.
+     */
+    public void close() throws IOException {
+        serverChannel.close();
+    }
+
+    public int getActiveSessionCount() {
+        return activeSessionCount.get();
+    }
+
+    public long getSessionCount() {
+        return sessionCount.get();
+    }
+
+    private void startSession(SocketChannel channel) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                Channels.newInputStream(channel), StandardCharsets.UTF_8));
+        // A channel writer, unlike a channel output stream, does not wait for the
+        // lock held by a blocked read, so analysis can be sent while reading.
+        BufferedWriter writer = new BufferedWriter(Channels.newWriter(
+                channel, StandardCharsets.UTF_8));
+        GameSession session = new GameSession(reader, writer, config, scheduler,
+                                              timeControl, () -> {
+            activeSessionCount.decrementAndGet();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // The connection is gone either way.
+            }
+        }, sessionThreadFactory);
+        activeSessionCount.incrementAndGet();
+        sessionCount.incrementAndGet();
+        sessionThreadFactory.newThread(session).start();
+    }
+
+    /**
+     * Returns a factory of virtual threads if the Java runtime has them (Java 21 and
+     * later), found by reflection since the game is built for Java 17, or else of
+     * daemon platform threads.
+     */
+    private static ThreadFactory createSessionThreadFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class)
+                                  .invoke(builder, "session-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            AtomicLong threadCount = new AtomicLong();
+            return runnable -> {
+                Thread thread = new Thread(null, runnable,
+                                           "session-" + threadCount.getAndIncrement(),
+                                           PLATFORM_STACK_SIZE);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -0,0 +1,574 @@
+package server;
+
+import analysis.AnalysisJob;
+import analysis.AnalysisScheduler;
+import engine.Move;
+import engine.MoveGenerator;
+import engine.SearchLimits;
+import engine.SearchResult;
+import engine.Zobrist;
+import gamestate.GameResult;
+import gamestate.GameState;
+import notation.FenPosition;
+import notation.PgnGame;
+import notation.SanNotation;
+import tools.EngineConfig;
+import tools.GameClock;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * One connection to a GameServer, playing games between its client and the engine.
+ * The session reads one command per line and answers each with one line, starting
+ * with a keyword:
+ *
+ * <pre>
+ * new [white|black] [tc base+inc] [fen FEN]  started FEN, then the engine move if
+ *                                            the engine is to move
+ * move e2e4 | move e4                        played SAN, then the engine move
+ *                                            "engine UCI SAN" or "result ..."
+ * fen                                        fen FEN
+ * moves                                      legal UCI...
+ * clock                                      clock WHITE_MS BLACK_MS
+ * resign                                     result RESULT resignation
+ * analyse [depth N] [nodes N] [time MS]      analysing FEN, then "info ..." lines
+ *         [multipv N]                        and "analysis bestmove UCI ..."
+ * stop                                       analysis stopped
+ * status                                     status queued N running N ...
+ * quit                                       bye
+ * </pre>
+ *
+ * A finished game is announced as "result RESULT TERMINATION", and errors as
+ * "error MESSAGE". The client's clock runs from when the engine's move, or the
+ * start of the game, is sent until its own move arrives.
+ *
+ * <p>Engine moves are searched as interactive jobs on the server's scheduler, and
+ * analysis as a pondering job that runs alongside the game, reporting each
+ * iteration as "info depth D score S nodes N pv UCI...". With multipv N, each
+ * iteration reports the best N moves, one line each, ranked by the "multipv K"
+ * after the depth. An engine move that needs the analysis's worker cuts the
+ * analysis short, and moving or starting a game stops it.
+ *
+ * <p>Lines go out through a queue that a writer thread of the session drains, so
+ * the scheduler's workers never wait on a slow client. The session thread waits
+ * when the queue is full, as it would on the connection; an analysis line that
+ * finds it full is dropped.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class GameSession implements Runnable {
+
+    // How long past its deadline an engine move is waited for: a search stops at its
+    // time limit, but needs a moment to notice and hand its result back.
+    private static final long DEADLINE_GRACE_MILLIS = 50;
+
+    // Lines that may wait for the writer thread.
+    private static final int MAX_QUEUED_LINES = 1024;
+
+    // How long a closing session lets the writer send the lines still queued.
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private static final String END_OF_OUTPUT = new String();
+
+    private final BufferedReader reader;
+    private final Writer writer;
+    private final EngineConfig config;
+    private final AnalysisScheduler scheduler;
+    private final GameClock defaultTimeControl;
+    private final Runnable closeAction;
+    private final ThreadFactory threadFactory;
+    private final BlockingQueue<String> outbound;
+    private volatile boolean isOutputClosed;
+
+    private GameState gameState;
+    private boolean isPlayerWhite;
+    private GameClock[] clocks;
+    private long[] positionKeys;
+    private int plyCount;
+    private boolean isOver;
+    private long turnStartTime;
+    private AnalysisJob analysisJob;
+
+    /**
+     * Constructor for GameSession.
+     *
+     * @param reader the commands of the client.
+     * @param writer the answers to the client.
+     * @param config the settings of the engine.
+     * @param scheduler the workers that search the engine moves and analysis.
+     * @param defaultTimeControl the clock of games started without one, or null for
+     * untimed games.
+     * @param closeAction run when the session ends, to close the connection.
+     * @param threadFactory makes the thread that writes to the client.
+     */
+    public GameSession(BufferedReader reader, Writer writer, EngineConfig config,
+                       AnalysisScheduler scheduler, GameClock defaultTimeControl,
+                       Runnable closeAction, ThreadFactory threadFactory) {
+        this.reader = reader;
+        this.writer = writer;
+        this.config = config;
+        this.scheduler = scheduler;
+        this.defaultTimeControl = defaultTimeControl;
+        this.closeAction = closeAction;
+        this.threadFactory = threadFactory;
+        this.outbound = new ArrayBlockingQueue<String>(MAX_QUEUED_LINES);
+        this.isOver = true;
+    }
+
+    @Override
+    public void run() {
+        Thread writerThread = threadFactory.newThread(this::writeLines);
+        writerThread.start();
+        try {
+            send("ready");
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String command = line.trim();
+                if (command.isEmpty()) {
+                    continue;
+                }
+                if (command.equals("quit")) {
+                    send("bye");
+                    break;
+                }
+                try {
+                    handle(command);
+                } catch (IllegalArgumentException e) {
+                    send("error " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            // The client went away; there is nobody left to tell.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (analysisJob != null) {
+                analysisJob.cancel();
+            }
+            closeOutput(writerThread);
+            closeAction.run();
+            // Ends a writer still waiting, such as one whose end marker found no room.
+            writerThread.interrupt();
+        }
+    }
+
+    /**
+     * Lets the writer thread send the lines still queued, waiting a bounded time so
+     * that a client that stopped reading cannot hold the session open.
+     */
+    private void closeOutput(Thread writerThread) {
+        outbound.offer(END_OF_OUTPUT);
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes queued lines to the client until the end of output, flushing whenever
+     * the queue runs dry.
+     */
+    private void writeLines() {
+        try {
+            String line;
+            while ((line = outbound.take()) != END_OF_OUTPUT) {
+                writer.write(line);
+                writer.write('\n');
+                if (outbound.isEmpty()) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // The client went away; the session thread finds out on its next read.
+        } catch (InterruptedException e) {
+            // The session is closing without waiting for the rest.
+        } finally {
+            isOutputClosed = true;
+            outbound.clear();
+        }
+    }
+
+    private void handle(String command) throws IOException, InterruptedException {
+        String[] words = command.split("\\s+");
+        switch (words[0]) {
+            case "new":
+                startGame(words);
+                break;
+            case "move":
+                if (words.length < 2) {
+                    throw new IllegalArgumentException("move needs a move");
+                }
+                playMove(words[1]);
+                break;
+            case "fen":
+                send("fen " + requireGame().toFen());
+                break;
+            case "moves":
+                StringBuilder legal = new StringBuilder("legal");
+                for (int move : MoveGenerator.generateLegalMoves(requireGame())) {
+                    legal.append(' ').append(Move.toUci(move, true));
+                }
+                send(legal.toString());
+                break;
+            case "clock":
+                requireGame();
+                send(clocks == null ? "clock none"
+                                    : "clock " + clocks[0].getRemainingMillis() + " "
+                                      + clocks[1].getRemainingMillis());
+                break;
+            case "resign":
+                requireGame();
+                if (isOver) {
+                    throw new IllegalArgumentException("The game is over");
+                }
+                finish(isPlayerWhite ? PgnGame.BLACK_WINS : PgnGame.WHITE_WINS,
+                       "resignation");
+                break;
+            case "analyse":
+                startAnalysis(words);
+                break;
+            case "stop":
+                if (!stopAnalysis()) {
+                    throw new IllegalArgumentException("No analysis is running");
+                }
+                break;
+            case "status":
+                send(String.format("status queued %d running %d workers %d wait %.1f",
+                                   scheduler.getQueueDepth(),
+                                   scheduler.getRunningJobs(),
+                                   scheduler.getWorkerCount(),
+                                   scheduler.getAverageWaitMillis()));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown command: " + words[0]);
+        }
+    }
+
+    /**
+     * Starts a new game from the words of a new command.
+     */
+    private void startGame(String[] words) throws IOException, InterruptedException {
+        boolean isWhite = true;
+        GameClock timeControl = defaultTimeControl;
+        String fen = FenPosition.STANDARD_START_FEN;
+        for (int i = 1; i < words.length; i++) {
+            if (words[i].equals("white") || words[i].equals("black")) {
+                isWhite = words[i].equals("white");
+            } else if (words[i].equals("tc") && i + 1 < words.length) {
+                timeControl = GameClock.parse(words[++i]);
+            } else if (words[i].equals("fen") && i + 1 < words.length) {
+                fen = String.join(" ", Arrays.copyOfRange(words, i + 1, words.length));
+                break;
+            } else {
+                throw new IllegalArgumentException("Unknown new game option: " + words[i]);
+            }
+        }
+
+        GameState newGameState = GameState.fromFen(fen, true);
+        stopAnalysis();
+        gameState = newGameState;
+        isPlayerWhite = isWhite;
+        clocks = timeControl != null ? new GameClock[] {timeControl.copy(),
+                                                        timeControl.copy()} : null;
+        positionKeys = new long[256];
+        plyCount = 0;
+        positionKeys[0] = Zobrist.computeKey(gameState);
+        isOver = false;
+        send("started " + gameState.toFen());
+        if (!checkGameOver() && gameState.getIsWhiteToMove() != isPlayerWhite) {
+            playEngineMove();
+        }
+        turnStartTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Plays the client's move, then the engine's answer.
+     */
+    private void playMove(String text) throws IOException, InterruptedException {
+        requireGame();
+        if (isOver) {
+            throw new IllegalArgumentException("The game is over");
+        }
+        if (gameState.getIsWhiteToMove() != isPlayerWhite) {
+            throw new IllegalArgumentException("It is not your move");
+        }
+        int move = Move.fromUci(text, gameState);
+        if (move == Move.NONE) {
+            move = SanNotation.fromSan(gameState, text);
+        }
+        if (move == Move.NONE) {
+            throw new IllegalArgumentException("Illegal move: " + text);
+        }
+        stopAnalysis();
+        if (punchClock(System.currentTimeMillis() - turnStartTime)) {
+            return;
+        }
+        send("played " + makeMove(move));
+        if (!checkGameOver()) {
+            playEngineMove();
+        }
+        turnStartTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Searches the engine's move on the scheduler, waiting for it on this thread, and
+     * plays it. A timed search must end by its time limit counted from now, however
+     * long it waits for a worker: the session stops waiting at the deadline, and if
+     * no result came by then, cancels the search and plays its first legal move
+     * rather than none.
+     */
+    private void playEngineMove() throws IOException, InterruptedException {
+        long startTime = System.currentTimeMillis();
+        int move = config.getBookMove(gameState);
+        if (move == Move.NONE) {
+            GameClock clock = clocks != null ? clocks[isPlayerWhite ? 1 : 0] : null;
+            SearchLimits limits = config.getLimits(clock);
+            AnalysisJob job = new AnalysisJob(gameState.toFen(), positionKeys, plyCount,
+                                              limits, AnalysisJob.INTERACTIVE);
+            if (limits.getMaxTimeMillis() != Long.MAX_VALUE) {
+                job.setDeadlineMillis(startTime + limits.getMaxTimeMillis());
+            }
+            move = waitForMove(scheduler.submit(job));
+        }
+        if (punchClock(System.currentTimeMillis() - startTime)) {
+            return;
+        }
+        String san = makeMove(move);
+        send("engine " + Move.toUci(move, true) + " " + san);
+        checkGameOver();
+    }
+
+    /**
+     * Waits for the best move of an engine move job until its deadline.
+     *
+     * @return the move, or the first legal move if the job missed its deadline.
+     */
+    private int waitForMove(AnalysisJob job) throws InterruptedException {
+        try {
+            if (job.getDeadlineMillis() == 0) {
+                return job.getResult().get().getBestMove();
+            }
+            long waitMillis = Math.max(0, job.getDeadlineMillis()
+                                          - System.currentTimeMillis())
+                              + DEADLINE_GRACE_MILLIS;
+            return job.getResult().get(waitMillis, TimeUnit.MILLISECONDS).getBestMove();
+        } catch (TimeoutException e) {
+            if (!job.cancel()) {
+                // The result came in just as the wait ended.
+                return waitForMove(job);
+            }
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof TimeoutException)) {
+                throw new IllegalStateException("Engine search failed", e.getCause());
+            }
+        }
+        return MoveGenerator.generateLegalMoves(gameState)[0];
+    }
+
+    /**
+     * Charges the side to move for its move.
+     *
+     * @return true if its flag fell and the game is over.
+     */
+    private boolean punchClock(long elapsedMillis) throws IOException {
+        boolean isWhiteToMove = gameState.getIsWhiteToMove();
+        if (clocks == null || !clocks[isWhiteToMove ? 0 : 1].punch(elapsedMillis)) {
+            return false;
+        }
+        finish(isWhiteToMove ? PgnGame.BLACK_WINS : PgnGame.WHITE_WINS, "time forfeit");
+        return true;
+    }
+
+    /**
+     * Starts analysing the current position from the words of an analyse command,
+     * stopping any analysis already running.
+     */
+    private void startAnalysis(String[] words) throws IOException {
+        requireGame();
+        int depth = 0;
+        long nodes = 0;
+        long timeMillis = 0;
+        int lineCount = 1;
+        for (int i = 1; i < words.length; i++) {
+            if (i + 1 == words.length) {
+                throw new IllegalArgumentException(words[i] + " needs a value");
+            }
+            try {
+                switch (words[i]) {
+                    case "depth":
+                        depth = Integer.parseInt(words[++i]);
+                        break;
+                    case "nodes":
+                        nodes = Long.parseLong(words[++i]);
+                        break;
+                    case "time":
+                        timeMillis = Long.parseLong(words[++i]);
+                        break;
+                    case "multipv":
+                        lineCount = Integer.parseInt(words[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException(
+                                "Unknown analyse option: " + words[i]);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a number: " + words[i]);
+            }
+        }
+        if (depth < 0 || nodes < 0 || timeMillis < 0) {
+            throw new IllegalArgumentException("analyse limits cannot be negative");
+        }
+        if (lineCount < 1) {
+            throw new IllegalArgumentException("multipv must be at least 1");
+        }
+
+        stopAnalysis();
+        String fen = gameState.toFen();
+        AnalysisJob job = new AnalysisJob(fen, positionKeys, plyCount,
+                                          new SearchLimits(depth, nodes, timeMillis),
+                                          AnalysisJob.PONDER);
+        job.setIsRequeuedOnPreemption(false);
+        job.setLineCount(lineCount);
+        job.setListener((analysedJob, result) -> {
+            SearchResult[] lines = result.getLines();
+            for (int i = 0; i < lines.length; i++) {
+                StringBuilder info = new StringBuilder("info depth ")
+                        .append(result.getDepth());
+                if (analysedJob.getLineCount() > 1) {
+                    info.append(" multipv ").append(i + 1);
+                }
+                info.append(" score ").append(lines[i].getScoreString())
+                    .append(" nodes ").append(result.getNodes())
+                    .append(" pv");
+                for (int move : lines[i].getPrincipalVariation()) {
+                    info.append(' ').append(Move.toUci(move, true));
+                }
+                sendQuietly(info.toString());
+            }
+        });
+        job.getResult().whenComplete((result, error) -> {
+            if (result != null) {
+                sendQuietly("analysis bestmove " + Move.toUci(result.getBestMove(), true)
+                            + " score " + result.getScoreString()
+                            + " depth " + result.getDepth());
+            } else if (!job.getResult().isCancelled()) {
+                sendQuietly("error Analysis failed: " + error.getMessage());
+            }
+        });
+        analysisJob = job;
+        send("analysing " + fen);
+        scheduler.submit(job);
+    }
+
+    /**
+     * Cancels the running analysis, if any, and tells the client.
+     *
+     * @return true if an analysis was stopped.
+     */
+    private boolean stopAnalysis() throws IOException {
+        if (analysisJob == null || !analysisJob.cancel()) {
+            return false;
+        }
+        analysisJob = null;
+        send("analysis stopped");
+        return true;
+    }
+
+    private String makeMove(int move) {
+        String san = SanNotation.toSan(gameState, move);
+        MoveGenerator.makeMove(gameState, move);
+        if (++plyCount == positionKeys.length) {
+            positionKeys = Arrays.copyOf(positionKeys, plyCount * 2);
+        }
+        positionKeys[plyCount] = Zobrist.computeKey(gameState);
+        return san;
+    }
+
+    /**
+     * Ends the game if the side to move is mated, or the game is drawn.
+     *
+     * @return true if the game is over.
+     */
+    private boolean checkGameOver() throws IOException {
+        int result = GameResult.getResult(gameState);
+        if (result == GameResult.CHECKMATE) {
+            finish(gameState.getIsWhiteToMove() ? PgnGame.BLACK_WINS : PgnGame.WHITE_WINS,
+                   GameResult.getDescription(result));
+        } else if (GameResult.isGameOver(result)) {
+            finish(PgnGame.DRAW, GameResult.getDescription(result));
+        } else if (countRepetitions() >= 3) {
+            finish(PgnGame.DRAW, "threefold repetition");
+        }
+        return isOver;
+    }
+
+    /**
+     * Counts how often the latest position occurred, looking back only at positions
+     * with the same side to move.
+     */
+    private int countRepetitions() {
+        int count = 1;
+        for (int ply = plyCount - 2; ply >= 0; ply -= 2) {
+            if (positionKeys[ply] == positionKeys[plyCount]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void finish(String result, String termination) throws IOException {
+        isOver = true;
+        send("result " + result + " " + termination);
+    }
+
+    private GameState requireGame() {
+        if (gameState == null) {
+            throw new IllegalArgumentException("No game; start one with new");
+        }
+        return gameState;
+    }
+
+    /**
+     * Queues a line for the client from the session thread, waiting while the queue
+     * is full.
+     *
+     * @throws IOException if the connection is closed, or the wait is interrupted.
+     */
+    private void send(String line) throws IOException {
+        if (isOutputClosed) {
+            throw new IOException("The connection is closed");
+        }
+        try {
+            outbound.put(line);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while sending");
+        }
+    }
+
+    /**
+     * Queues a line for the client from a scheduler worker, which must not wait on
+     * the client: the line is dropped if the queue is full or the connection is
+     * closed, and the session thread finds out about a closed connection on its
+     * next read.
+     */
+    private void sendQuietly(String line) {
+        if (!isOutputClosed) {
+            outbound.offer(line);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package tools;
+
+/**
+ * Ends engine games early once the result is clear: a draw when both engines have
+ * reported scores near zero for a while, or a resignation when both agree one side
+ * is far ahead.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class Adjudication {
+
+    private final int drawMoveNumber;
+    private final int drawMoveCount;
+    private final int drawScore;
+    private final int resignMoveCount;
+    private final int resignScore;
+    private final int maxPlies;
+
+    /**
+     * Constructor for Adjudication. A move count of 0 turns that rule off.
+     * 
+     * @param drawMoveNumber the first full move a draw may be adjudicated at.
+     * @param drawMoveCount the moves both scores must stay within drawScore.
+     * @param drawScore the largest absolute score counted as drawn, in centipawns.
+     * @param resignMoveCount the moves both engines must agree on a lost position.
+     * @param resignScore the score a side counts as lost below, in centipawns.
+     * @param maxPlies the game length after which the game is drawn, or 0.
+     */
+    public Adjudication(int drawMoveNumber, int drawMoveCount, int drawScore,
+                        int resignMoveCount, int resignScore, int maxPlies) {
+        this.drawMoveNumber = drawMoveNumber;
+        this.drawMoveCount = drawMoveCount;
+        this.drawScore = drawScore;
+        this.resignMoveCount = resignMoveCount;
+        this.resignScore = resignScore;
+        this.maxPlies = maxPlies;
+    }
+
+    /**
+     * Parses adjudication settings such as "movenumber=40,movecount=8,score=10" for
+     * draws and "movecount=3,score=600" for resignations.
+     * 
+     * @param drawSpec the draw settings, or null to turn draw adjudication off.
+     * @param resignSpec the resign settings, or null to turn resignation off.
+     * @param maxPlies the game length after which the game is drawn, or 0.
+     * @return the adjudication rules.
+     */
+    public static Adjudication parse(String drawSpec, String resignSpec, int maxPlies) {
+        int[] draw = parseSettings(drawSpec, new String[] {"movenumber", "movecount",
+                                                           "score"},
+                                   new int[] {40, 0, 10});
+        int[] resign = parseSettings(resignSpec, new String[] {"movecount", "score"},
+                                     new int[] {0, 600});
+        if (drawSpec != null && draw[1] == 0) {
+            draw[1] = 8;
+        }
+        if (resignSpec != null && resign[0] == 0) {
+            resign[0] = 3;
+        }
+        return new Adjudication(draw[0], draw[1], draw[2], resign[0], resign[1], maxPlies);
+    }
+
+    private static int[] parseSettings(String spec, String[] names, int[] defaults) {
+        int[] values = defaults.clone();
+        if (spec == null) {
+            return values;
+        }
+        for (String setting : spec.split(",")) {
+            String[] pair = setting.split("=");
+            boolean isKnown = false;
+            for (int i = 0; i < names.length && pair.length == 2; i++) {
+                if (names[i].equals(pair[0].trim())) {
+                    try {
+                        values[i] = Integer.parseInt(pair[1].trim());
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Bad adjudication setting: "
+                                                           + setting);
+                    }
+                    isKnown = true;
+                }
+            }
+            if (!isKnown) {
+                throw new IllegalArgumentException("Bad adjudication setting: " + setting);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns whether the game should be drawn.
+     * 
+     * @param fullMoveNumber the current full move number.
+     * @param recentScores the scores of the latest plies, each relative to the side
+     * that searched it, most recent last.
+     * @param plyCount the number of plies played.
+     * @return true if the game is adjudicated a draw.
+     */
+    public boolean isDraw(int fullMoveNumber, int[] recentScores, int plyCount) {
+        if (maxPlies > 0 && plyCount >= maxPlies) {
+            return true;
+        }
+        if (drawMoveCount == 0 || fullMoveNumber < drawMoveNumber
+                || recentScores.length < drawMoveCount * 2) {
+            return false;
+        }
+        for (int i = recentScores.length - drawMoveCount * 2; i < recentScores.length; i++) {
+            if (Math.abs(recentScores[i]) > drawScore) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the side that just moved should resign, because both engines
+     * agreed it is lost for the last few moves.
+     * 
+     * @param recentScores the scores of the latest plies, each relative to the side
+     * that searched it, most recent last.
+     * @return true if the side that searched the latest ply resigns.
+     */
+    public boolean isResignation(int[] recentScores) {
+        if (resignMoveCount == 0 || recentScores.length < resignMoveCount * 2) {
+            return false;
+        }
+        for (int i = 0; i < resignMoveCount * 2; i++) {
+            int score = recentScores[recentScores.length - 1 - i];
+            // Even offsets are the resigning side, odd ones its opponent.
+            if (i % 2 == 0 ? score > -resignScore : score < resignScore) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getMaxPlies() {
+        return maxPlies;
+    }
+}
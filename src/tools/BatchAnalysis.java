@@ -0,0 +1,211 @@
+package tools;
+
+import engine.Move;
+import engine.SearchEngine;
+import engine.SearchLimits;
+import engine.SearchResult;
+import gamestate.GameState;
+import notation.FenPosition;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Analyses every position of an EPD or FEN file and writes one result line per
+ * position, in input order. Positions are streamed to a pool of workers that each
+ * own a search engine and a chessboard, and a bounded queue and reorder window keep
+ * memory flat however large the input is.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class BatchAnalysis {
+
+    public static final String USAGE = "analyse <input.epd> <output.txt> [--depth N]"
+            + " [--nodes N] [--time ms] [--threads N] [--hash MB] [--window N]";
+
+    private static final Job END_OF_INPUT = new Job(-1, null);
+
+    private final Path inputPath;
+    private final Path outputPath;
+    private final SearchLimits limits;
+    private final int threadCount;
+    private final int hashSizeMB;
+    private final int windowSize;
+
+    private final AtomicLong totalNodes;
+
+    /**
+     * Constructor for BatchAnalysis.
+     *
+     * @param inputPath the EPD or FEN file, one position per line.
+     * @param outputPath the file the results are written to.
+     * @param limits the search limits of each position.
+     * @param threadCount the number of workers.
+     * @param hashSizeMB the transposition table size of each worker.
+     * @param windowSize how many positions may be in flight at once.
+     */
+    public BatchAnalysis(Path inputPath, Path outputPath, SearchLimits limits,
+                         int threadCount, int hashSizeMB, int windowSize) {
+        this.inputPath = inputPath;
+        this.outputPath = outputPath;
+        this.limits = limits;
+        this.threadCount = Math.max(1, threadCount);
+        this.hashSizeMB = hashSizeMB;
+        this.windowSize = Math.max(this.threadCount, windowSize);
+        this.totalNodes = new AtomicLong();
+    }
+
+    /**
+     * Runs the analyse command.
+     *
+     * @param options the command-line options.
+     * @throws IOException if the files cannot be read or written.
+     * @throws InterruptedException if interrupted while waiting for workers.
+     */
+    public static void run(CommandLineOptions options)
+            throws IOException, InterruptedException {
+        int threadCount = options.getInt("threads",
+                                         Runtime.getRuntime().availableProcessors());
+        SearchLimits limits = new SearchLimits(options.getInt("depth", 0),
+                                               options.getLong("nodes", 0),
+                                               options.getLong("time", 0));
+        if (limits.getMaxDepth() == SearchLimits.MAX_DEPTH
+                && limits.getMaxNodes() == Long.MAX_VALUE
+                && limits.getMaxTimeMillis() == Long.MAX_VALUE) {
+            limits = SearchLimits.depth(4);
+        }
+        BatchAnalysis batchAnalysis = new BatchAnalysis(
+                Paths.get(options.getArgument(0, "input file")),
+                Paths.get(options.getArgument(1, "output file")),
+                limits, threadCount,
+                options.getInt("hash", SearchEngine.DEFAULT_HASH_SIZE_MB),
+                options.getInt("window", threadCount * 64));
+        batchAnalysis.analyse();
+    }
+
+    /**
+     * Analyses all positions of the input file.
+     *
+     * @throws IOException if the files cannot be read or written.
+     * @throws InterruptedException if interrupted while waiting for workers.
+     * @throws IllegalStateException if a worker failed.
+     */
+    public void analyse() throws IOException, InterruptedException {
+        long startTime = System.currentTimeMillis();
+        BlockingQueue<Job> jobs = new ArrayBlockingQueue<Job>(threadCount * 2);
+        OrderedResultWriter resultWriter = new OrderedResultWriter(
+                Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8), windowSize);
+
+        Thread[] workers = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            workers[i] = new Thread(() -> runWorker(jobs, resultWriter),
+                                    "analysis-worker-" + i);
+            workers[i].start();
+        }
+
+        long positionCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(inputPath,
+                                                             StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                resultWriter.acquireSlot();
+                jobs.put(new Job(positionCount++, line));
+            }
+        } finally {
+            for (int i = 0; i < threadCount; i++) {
+                jobs.put(END_OF_INPUT);
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            resultWriter.close();
+        }
+        if (resultWriter.getFailure() != null) {
+            throw new IllegalStateException("Analysis failed",
+                                            resultWriter.getFailure());
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+        System.err.printf("Analysed %d positions in %.1f s (%.1f positions/s,"
+                          + " %d nodes/s) with %d threads, %s%n",
+                          positionCount, elapsed / 1000.0,
+                          positionCount * 1000.0 / elapsed,
+                          totalNodes.get() * 1000 / elapsed, threadCount, limits);
+    }
+
+    /**
+     * Takes positions off the queue until the end of input, analysing each with the
+     * worker's own engine and chessboard. Once any position has failed with more than
+     * a bad input line, the run is over: the worker goes on taking positions without
+     * analysing them, so the reader is never left waiting on a full queue.
+     */
+    private void runWorker(BlockingQueue<Job> jobs, OrderedResultWriter resultWriter) {
+        SearchEngine engine = new SearchEngine(hashSizeMB);
+        GameState gameState = GameState.fromFen(FenPosition.STANDARD_START_FEN, true);
+        FenPosition position = new FenPosition();
+        try {
+            Job job;
+            while ((job = jobs.take()) != END_OF_INPUT) {
+                if (resultWriter.getFailure() != null) {
+                    continue;
+                }
+                try {
+                    resultWriter.write(job.index, analysePosition(engine, gameState,
+                                                                  position, job.line));
+                } catch (Throwable e) {
+                    resultWriter.fail(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String analysePosition(SearchEngine engine, GameState gameState,
+                                   FenPosition position, String line) {
+        StringBuilder result = new StringBuilder(line.length() + 64).append(line.trim());
+        try {
+            position.parse(line);
+            gameState.loadPosition(position);
+            SearchResult searchResult = engine.search(gameState, limits);
+            totalNodes.addAndGet(searchResult.getNodes());
+            return result.append("\tbestmove ")
+                         .append(Move.toUci(searchResult.getBestMove(),
+                                            gameState.getIsWhiteSide()))
+                         .append("\tscore ").append(searchResult.getScoreString())
+                         .append("\tdepth ").append(searchResult.getDepth())
+                         .append("\tnodes ").append(searchResult.getNodes())
+                         .append("\ttime ").append(searchResult.getTimeMillis())
+                         .toString();
+        } catch (RuntimeException e) {
+            return result.append("\terror ").append(e.getMessage()).toString();
+        }
+    }
+
+    /**
+     * A position waiting to be analysed and its index in the input.
+     */
+    private static class Job {
+
+        private final long index;
+        private final String line;
+
+        private Job(long index, String line) {
+            this.index = index;
+            this.line = line;
+        }
+    }
+}
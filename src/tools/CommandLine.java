@@ -0,0 +1,92 @@
+package tools;
+
+import server.GameServer;
+
+import java.util.Arrays;
+
+/**
+ * Runs the headless command-line tools of the chess engine.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class CommandLine {
+
+    private CommandLine() {}
+
+    /**
+     * Runs the command named by the first argument.
+     * 
+     * @param args the command name followed by its arguments and options.
+     */
+    public static void run(String[] args) {
+        String command = args[0];
+        CommandLineOptions options = new CommandLineOptions(Arrays.copyOfRange(args, 1,
+                                                                               args.length));
+        try {
+            switch (command) {
+                case "analyse":
+                case "analyze":
+                    BatchAnalysis.run(options);
+                    break;
+                case "match":
+                    MatchRunner.run(options);
+                    break;
+                case "datagen":
+                    DataGeneration.run(options);
+                    break;
+                case "tune":
+                    EvalTuning.run(options);
+                    break;
+                case "bench":
+                    Bench.run(options);
+                    break;
+                case "perft":
+                    Perft.run(options);
+                    break;
+                case "testsuite":
+                    TestSuite.run(options);
+                    break;
+                case "trace":
+                    TraceAnalysis.run(options);
+                    break;
+                case "database":
+                    DatabaseBuild.run(options);
+                    break;
+                case "explore":
+                    OpeningExplorer.run(options);
+                    break;
+                case "serve":
+                    GameServer.run(options);
+                    break;
+                default:
+                    printUsage();
+                    System.exit(2);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: java Main [command]");
+        System.err.println("Without a command the game window opens. Commands:");
+        System.err.println("  " + BatchAnalysis.USAGE);
+        System.err.println("  " + MatchRunner.USAGE);
+        System.err.println("  " + DataGeneration.USAGE);
+        System.err.println("  " + EvalTuning.USAGE);
+        System.err.println("  " + Bench.USAGE);
+        System.err.println("  " + Perft.USAGE);
+        System.err.println("  " + TestSuite.USAGE);
+        System.err.println("  " + TraceAnalysis.USAGE);
+        System.err.println("  " + DatabaseBuild.USAGE);
+        System.err.println("  " + OpeningExplorer.USAGE);
+        System.err.println("  " + GameServer.USAGE);
+    }
+}
@@ -0,0 +1,101 @@
+package tools;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses "--name value" options and plain arguments of the command-line tools.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class CommandLineOptions {
+
+    private final Map<String, String> options;
+    private final List<String> arguments;
+
+    /**
+     * Constructor for CommandLineOptions.
+     * 
+     * @param args the command-line arguments, without the command name.
+     */
+    public CommandLineOptions(String[] args) {
+        options = new HashMap<String, String>();
+        arguments = new ArrayList<String>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith("--")) {
+                String name = args[i].substring(2);
+                int equalsIndex = name.indexOf('=');
+                if (equalsIndex >= 0) {
+                    options.put(name.substring(0, equalsIndex),
+                                name.substring(equalsIndex + 1));
+                } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                    options.put(name, args[++i]);
+                } else {
+                    options.put(name, "true");
+                }
+            } else {
+                arguments.add(args[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a plain argument.
+     * 
+     * @param index the index of the argument.
+     * @param name the name of the argument, used in the error message.
+     * @return the argument.
+     * @throws IllegalArgumentException if the argument is missing.
+     */
+    public String getArgument(int index, String name) {
+        if (index >= arguments.size()) {
+            throw new IllegalArgumentException("Missing argument: " + name);
+        }
+        return arguments.get(index);
+    }
+
+    public int getArgumentCount() {
+        return arguments.size();
+    }
+
+    public boolean hasOption(String name) {
+        return options.containsKey(name);
+    }
+
+    public String getString(String name, String defaultValue) {
+        String value = options.get(name);
+        return value != null ? value : defaultValue;
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return (int) getLong(name, defaultValue);
+    }
+
+    public long getLong(String name, long defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " expects a number: " + value);
+        }
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " expects a number: " + value);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package tools;
+
+import engine.Move;
+import engine.MoveGenerator;
+import engine.SearchEngine;
+import engine.SearchResult;
+import gamestate.GameState;
+import notation.FenPosition;
+import notation.PgnGame;
+import training.TrainingDataWriter;
+import training.TrainingRecord;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates training data from fixed-node self-play. Every worker thread plays games
+ * from randomised openings with its own engine, samples the quiet positions of each
+ * game and, once the result is known, appends them as binary training records.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class DataGeneration {
+
+    public static final String USAGE = "datagen <output dir> [--games N] [--nodes N]"
+            + " [--threads N] [--randomplies N] [--chunk records] [--hash MB]"
+            + " [--seed N]";
+
+    private final TrainingDataWriter writer;
+    private final EngineConfig config;
+    private final Adjudication adjudication;
+    private final int gameCount;
+    private final int threadCount;
+    private final int randomPlies;
+    private final long seed;
+
+    private final AtomicInteger nextGame;
+    private final AtomicInteger finishedCount;
+    private volatile IOException writeError;
+
+    /**
+     * Constructor for DataGeneration.
+     *
+     * @param writer where the sampled positions are written.
+     * @param config the settings of the engine playing both sides.
+     * @param gameCount the number of games to play.
+     * @param threadCount the number of games played at once.
+     * @param randomPlies the number of random plies that start each game.
+     * @param seed the seed of the random openings; game n always gets the same one.
+     */
+    public DataGeneration(TrainingDataWriter writer, EngineConfig config, int gameCount,
+                          int threadCount, int randomPlies, long seed) {
+        this.writer = writer;
+        this.config = config;
+        this.adjudication = Adjudication.parse("movenumber=40,movecount=8,score=10",
+                                               "movecount=4,score=1000", 400);
+        this.gameCount = gameCount;
+        this.threadCount = Math.max(1, threadCount);
+        this.randomPlies = randomPlies;
+        this.seed = seed;
+        this.nextGame = new AtomicInteger();
+        this.finishedCount = new AtomicInteger();
+    }
+
+    /**
+     * Runs the datagen command.
+     *
+     * @param options the command-line options.
+     * @throws IOException if the training data cannot be written.
+     * @throws InterruptedException if interrupted while waiting for workers.
+     */
+    public static void run(CommandLineOptions options)
+            throws IOException, InterruptedException {
+        EngineConfig config = EngineConfig.parse(
+                "nodes=" + options.getLong("nodes", 5000)
+                + ",hash=" + options.getInt("hash", SearchEngine.DEFAULT_HASH_SIZE_MB),
+                "datagen");
+        try (TrainingDataWriter writer = new TrainingDataWriter(
+                Paths.get(options.getArgument(0, "output directory")),
+                options.getLong("chunk", TrainingDataWriter.DEFAULT_RECORDS_PER_CHUNK))) {
+            DataGeneration dataGeneration = new DataGeneration(
+                    writer, config, options.getInt("games", 1000),
+                    options.getInt("threads", Runtime.getRuntime().availableProcessors()),
+                    options.getInt("randomplies", 8),
+                    options.getLong("seed", System.nanoTime()));
+            dataGeneration.generate();
+        }
+    }
+
+    /**
+     * Plays all games and writes their positions.
+     *
+     * @throws IOException if the training data cannot be written.
+     * @throws InterruptedException if interrupted while waiting for workers.
+     */
+    public void generate() throws IOException, InterruptedException {
+        long startTime = System.currentTimeMillis();
+        Thread[] workers = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            workers[i] = new Thread(this::runWorker, "datagen-worker-" + i);
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        if (writeError != null) {
+            throw writeError;
+        }
+        writer.flush();
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+        System.err.printf("Played %d games in %.1f s, wrote %d positions"
+                          + " (%.1f positions/s) with %d threads, %s%n",
+                          finishedCount.get(), elapsed / 1000.0, writer.getRecordCount(),
+                          writer.getRecordCount() * 1000.0 / elapsed, threadCount,
+                          config);
+    }
+
+    private void runWorker() {
+        SearchEngine engine = config.createEngine();
+        GameState openingState = GameState.fromFen(FenPosition.STANDARD_START_FEN, true);
+        FenPosition startPosition = FenPosition.fromFen(FenPosition.STANDARD_START_FEN);
+        TrainingRecord record = new TrainingRecord();
+        ByteBuffer[] gameRecords = {ByteBuffer.allocate(256 * TrainingRecord.RECORD_SIZE)
+                                              .order(ByteOrder.LITTLE_ENDIAN)};
+
+        int gameIndex;
+        while (writeError == null && (gameIndex = nextGame.getAndIncrement()) < gameCount) {
+            SplittableRandom random = new SplittableRandom(seed + gameIndex);
+            String[] openingMoves = createRandomOpening(openingState, startPosition,
+                                                        random);
+            EngineGame engineGame = new EngineGame(FenPosition.STANDARD_START_FEN,
+                                                   openingMoves, config, engine, config,
+                                                   engine, null, adjudication);
+            gameRecords[0].clear();
+            engineGame.setMoveListener((gameState, move, result) -> {
+                if (isQuietPosition(gameState, move, result)) {
+                    if (gameRecords[0].remaining() < TrainingRecord.RECORD_SIZE) {
+                        gameRecords[0] = grow(gameRecords[0]);
+                    }
+                    record.setPosition(gameState, result.getScore());
+                    record.writeTo(gameRecords[0]);
+                }
+            });
+            PgnGame game = engineGame.play(() -> writeError != null);
+            writeGame(gameRecords[0], game.getResult());
+        }
+    }
+
+    /**
+     * Plays random legal moves from the starting position, retrying until a line
+     * does not end the game early.
+     */
+    private String[] createRandomOpening(GameState gameState, FenPosition startPosition,
+                                         SplittableRandom random) {
+        String[] openingMoves = new String[randomPlies];
+        int ply = 0;
+        gameState.loadPosition(startPosition);
+        while (ply < randomPlies) {
+            int[] moves = MoveGenerator.generateLegalMoves(gameState);
+            if (moves.length == 0) {
+                ply = 0;
+                gameState.loadPosition(startPosition);
+                continue;
+            }
+            int move = moves[random.nextInt(moves.length)];
+            openingMoves[ply++] = Move.toUci(move, gameState.getIsWhiteSide());
+            MoveGenerator.makeMove(gameState, move);
+        }
+        return openingMoves;
+    }
+
+    /**
+     * Only positions where the engine is not in check, does not play a capture or
+     * promotion and has not found a mate are sampled, since the static evaluation
+     * cannot be expected to match the search score anywhere else.
+     */
+    private static boolean isQuietPosition(GameState gameState, int move,
+                                           SearchResult result) {
+        return !result.isMateScore()
+               && !MoveGenerator.isTactical(gameState.getChessBoard(), move)
+               && !gameState.calcIfAllyKingIsCheck(gameState.getIsWhiteToMove());
+    }
+
+    private void writeGame(ByteBuffer gameRecords, String result) {
+        int resultCode;
+        switch (result) {
+            case PgnGame.WHITE_WINS: resultCode = TrainingRecord.WHITE_WINS; break;
+            case PgnGame.BLACK_WINS: resultCode = TrainingRecord.BLACK_WINS; break;
+            case PgnGame.DRAW: resultCode = TrainingRecord.DRAW; break;
+            default: return;
+        }
+        for (int offset = 0; offset < gameRecords.position();
+             offset += TrainingRecord.RECORD_SIZE) {
+            TrainingRecord.putResult(gameRecords, offset, resultCode);
+        }
+        gameRecords.flip();
+        try {
+            writer.write(gameRecords);
+        } catch (IOException e) {
+            writeError = e;
+            return;
+        }
+        int finished = finishedCount.incrementAndGet();
+        if (finished % 100 == 0) {
+            System.err.println("Games " + finished + ", positions "
+                               + writer.getRecordCount());
+        }
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        return ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.capacity() * 2))
+                         .position(buffer.position())
+                         .order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
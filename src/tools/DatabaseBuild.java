@@ -0,0 +1,48 @@
+package tools;
+
+import database.GameDatabaseBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Builds the game database of the opening explorer from a PGN file.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class DatabaseBuild {
+
+    public static final String USAGE = "database <games.pgn> <database directory>"
+            + " [--threads N] [--plies N]";
+
+    private DatabaseBuild() {}
+
+    /**
+     * Runs the database command.
+     *
+     * @param options the command-line options.
+     * @throws IOException if a file cannot be read or written.
+     * @throws InterruptedException if interrupted while waiting for workers.
+     */
+    public static void run(CommandLineOptions options)
+            throws IOException, InterruptedException {
+        Path pgnFile = Paths.get(options.getArgument(0, "PGN file"));
+        Path directory = Paths.get(options.getArgument(1, "database directory"));
+        GameDatabaseBuilder builder = new GameDatabaseBuilder(
+                options.getInt("threads", Runtime.getRuntime().availableProcessors()),
+                options.getInt("plies", GameDatabaseBuilder.DEFAULT_MAX_PLY));
+
+        long startTime = System.currentTimeMillis();
+        int gameCount = builder.build(pgnFile, directory);
+        long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+        System.err.printf("Added %d games (%d skipped) from %.1f MB in %.1f s"
+                          + " (%.0f games/s)%n",
+                          gameCount, builder.getSkippedGameCount(),
+                          Files.size(pgnFile) / 1e6, elapsed / 1000.0,
+                          gameCount * 1000.0 / elapsed);
+    }
+}
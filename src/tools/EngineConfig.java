@@ -0,0 +1,168 @@
+package tools;
+
+import database.GameDatabase;
+import database.MoveStats;
+import engine.Move;
+import engine.MoveGenerator;
+import engine.SearchEngine;
+import engine.SearchLimits;
+import engine.TimeManager;
+import gamestate.GameState;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * The settings of one engine in a match, written as a comma separated list such as
+ * "name=new,depth=4,hash=32". A game clock, when there is one, is applied on top
+ * of the fixed depth, node and move time limits. An engine given a game database
+ * as its book plays the most played move of each position found in it without
+ * searching.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class EngineConfig {
+
+    private String name;
+    private int depth;
+    private long nodes;
+    private long moveTimeMillis;
+    private int hashSizeMB;
+    private GameDatabase book;
+    private int minBookGames;
+
+    /**
+     * Constructor for EngineConfig with default settings.
+     * 
+     * @param name the name of the engine in game records.
+     */
+    public EngineConfig(String name) {
+        this.name = name;
+        this.depth = 0;
+        this.nodes = 0;
+        this.moveTimeMillis = 0;
+        this.hashSizeMB = SearchEngine.DEFAULT_HASH_SIZE_MB;
+        this.minBookGames = 1;
+    }
+
+    /**
+     * Parses an engine configuration.
+     * 
+     * @param spec the settings, for example "name=new,depth=4,nodes=20000,hash=16"
+     * or "book=games,bookgames=10".
+     * @param defaultName the name used if the settings have none.
+     * @return the engine configuration.
+     * @throws IllegalArgumentException if a setting is unknown or malformed, or the
+     * book cannot be opened.
+     */
+    public static EngineConfig parse(String spec, String defaultName) {
+        EngineConfig config = new EngineConfig(defaultName);
+        for (String setting : spec.split(",")) {
+            if (setting.trim().isEmpty()) {
+                continue;
+            }
+            int equalsIndex = setting.indexOf('=');
+            if (equalsIndex < 0) {
+                throw new IllegalArgumentException("Expected name=value: " + setting);
+            }
+            String key = setting.substring(0, equalsIndex).trim();
+            String value = setting.substring(equalsIndex + 1).trim();
+            try {
+                switch (key) {
+                    case "name": config.name = value; break;
+                    case "depth": config.depth = Integer.parseInt(value); break;
+                    case "nodes": config.nodes = Long.parseLong(value); break;
+                    case "movetime": config.moveTimeMillis = Long.parseLong(value); break;
+                    case "hash": config.hashSizeMB = Integer.parseInt(value); break;
+                    case "book": config.book = openBook(value); break;
+                    case "bookgames": config.minBookGames = Integer.parseInt(value); break;
+                    default:
+                        throw new IllegalArgumentException("Unknown engine setting: " + key);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Engine setting " + key
+                                                   + " expects a number: " + value);
+            }
+        }
+        return config;
+    }
+
+    private static GameDatabase openBook(String directory) {
+        try {
+            return GameDatabase.open(Paths.get(directory));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot open book " + directory + ": "
+                                               + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates a new engine with these settings.
+     * 
+     * @return the search engine.
+     */
+    public SearchEngine createEngine() {
+        return new SearchEngine(hashSizeMB);
+    }
+
+    /**
+     * Returns the search limits of the next move.
+     * 
+     * @param clock the clock of the side to move, or null if the game is untimed.
+     * @return the search limits.
+     */
+    public SearchLimits getLimits(GameClock clock) {
+        long timeLimit = moveTimeMillis;
+        if (clock != null) {
+            long clockTime = TimeManager.allocateMoveTime(clock.getRemainingMillis(),
+                                                          clock.getIncrementMillis(),
+                                                          clock.getMovesToGo());
+            timeLimit = timeLimit > 0 ? Math.min(timeLimit, clockTime) : clockTime;
+        }
+        if (depth == 0 && nodes == 0 && timeLimit == 0) {
+            return SearchLimits.depth(3);
+        }
+        return new SearchLimits(depth, nodes, timeLimit);
+    }
+
+    /**
+     * Returns the book move of a position: the move played most often from it in the
+     * book, if it was played in enough games and is legal.
+     *
+     * @param gameState the position.
+     * @return the encoded move, or NONE if the engine should search.
+     */
+    public int getBookMove(GameState gameState) {
+        if (book == null) {
+            return Move.NONE;
+        }
+        MoveStats moveStats = book.getPositionStats(gameState).getMostPlayedMove(
+                minBookGames);
+        if (moveStats == null) {
+            return Move.NONE;
+        }
+        // A key collision could name a move of another position.
+        for (int move : MoveGenerator.generateLegalMoves(gameState)) {
+            if (move == moveStats.getMove()) {
+                return move;
+            }
+        }
+        return Move.NONE;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getHashSizeMB() {
+        return hashSizeMB;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + getLimits(null) + ", hash " + hashSizeMB + " MB"
+               + (book != null ? ", book " + book.getName() : "") + ")";
+    }
+}
@@ -0,0 +1,239 @@
+package tools;
+
+import engine.Move;
+import engine.MoveGenerator;
+import engine.SearchEngine;
+import engine.SearchLimits;
+import engine.SearchResult;
+import engine.Zobrist;
+import gamestate.GameResult;
+import gamestate.GameState;
+import metrics.MoveDecisionEvent;
+import notation.PgnGame;
+import notation.SanNotation;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Plays one headless game between two engines and records it as a PGN game.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class EngineGame {
+
+    private final String startFen;
+    private final String[] openingMoves;
+    private final EngineConfig[] configs;
+    private final SearchEngine[] engines;
+    private final GameClock timeControl;
+    private final Adjudication adjudication;
+    private MoveListener moveListener;
+
+    /**
+     * Constructor for EngineGame.
+     *
+     * @param startFen the FEN of the starting position.
+     * @param openingMoves UCI moves played from the starting position before the
+     * engines take over.
+     * @param whiteConfig the settings of the white engine.
+     * @param whiteEngine the white engine.
+     * @param blackConfig the settings of the black engine.
+     * @param blackEngine the black engine.
+     * @param timeControl the clock both sides start with, or null if untimed.
+     * @param adjudication the rules for ending the game early.
+     */
+    public EngineGame(String startFen, String[] openingMoves,
+                      EngineConfig whiteConfig, SearchEngine whiteEngine,
+                      EngineConfig blackConfig, SearchEngine blackEngine,
+                      GameClock timeControl, Adjudication adjudication) {
+        this.startFen = startFen;
+        this.openingMoves = openingMoves;
+        this.configs = new EngineConfig[] {whiteConfig, blackConfig};
+        this.engines = new SearchEngine[] {whiteEngine, blackEngine};
+        this.timeControl = timeControl;
+        this.adjudication = adjudication;
+    }
+
+    /**
+     * Sets the listener told about every searched engine move before it is played.
+     * Book moves are played without a search and are not reported.
+     *
+     * @param moveListener the listener, or null for none.
+     */
+    public void setMoveListener(MoveListener moveListener) {
+        this.moveListener = moveListener;
+    }
+
+    /**
+     * Plays the game to the end.
+     *
+     * @param isCancelled checked before every move; the game stops unfinished, with
+     * result "*", once it returns true.
+     * @return the game record, with a Termination tag explaining the result.
+     * @throws IllegalArgumentException if an opening move is illegal.
+     */
+    public PgnGame play(BooleanSupplier isCancelled) {
+        GameState gameState = GameState.fromFen(startFen, true);
+        PgnGame game = new PgnGame();
+        game.setStartFen(startFen);
+        game.setTag("White", configs[0].getName());
+        game.setTag("Black", configs[1].getName());
+
+        GameClock[] clocks = null;
+        if (timeControl != null) {
+            clocks = new GameClock[] {timeControl.copy(), timeControl.copy()};
+            game.setTag("TimeControl", timeControl.toString());
+        }
+        for (SearchEngine engine : engines) {
+            engine.newGame();
+        }
+
+        long[] positionKeys = new long[256];
+        int[] scores = new int[256];
+        int plyCount = 0;
+        int scoreCount = 0;
+        positionKeys[plyCount] = Zobrist.computeKey(gameState);
+
+        for (String uci : openingMoves) {
+            int move = Move.fromUci(uci, gameState);
+            if (move == Move.NONE) {
+                throw new IllegalArgumentException("Illegal opening move " + uci + " in "
+                                                   + gameState.toFen());
+            }
+            game.addMove(SanNotation.toSan(gameState, move));
+            MoveGenerator.makeMove(gameState, move);
+            positionKeys = ensureCapacity(positionKeys, ++plyCount);
+            positionKeys[plyCount] = Zobrist.computeKey(gameState);
+        }
+
+        while (true) {
+            boolean isWhiteToMove = gameState.getIsWhiteToMove();
+            int result = GameResult.getResult(gameState);
+            if (result == GameResult.CHECKMATE) {
+                return finish(game, isWhiteToMove ? PgnGame.BLACK_WINS
+                                                  : PgnGame.WHITE_WINS,
+                              GameResult.getDescription(result));
+            } else if (GameResult.isGameOver(result)) {
+                return finish(game, PgnGame.DRAW, GameResult.getDescription(result));
+            }
+            if (countRepetitions(positionKeys, plyCount) >= 3) {
+                return finish(game, PgnGame.DRAW, "threefold repetition");
+            }
+            if (adjudication.isDraw(gameState.getFullMoveNumber(),
+                                    Arrays.copyOf(scores, scoreCount), plyCount)) {
+                return finish(game, PgnGame.DRAW, "adjudication");
+            }
+            if (isCancelled.getAsBoolean()) {
+                return finish(game, PgnGame.UNKNOWN_RESULT, "unterminated");
+            }
+
+            int side = isWhiteToMove ? 0 : 1;
+            GameClock clock = clocks != null ? clocks[side] : null;
+            SearchLimits limits = configs[side].getLimits(clock);
+            MoveDecisionEvent decisionEvent = new MoveDecisionEvent();
+            decisionEvent.begin();
+            long startTime = System.currentTimeMillis();
+            int bookMove = configs[side].getBookMove(gameState);
+            SearchResult searchResult = null;
+            if (bookMove == Move.NONE) {
+                engines[side].setGameHistory(positionKeys, plyCount);
+                searchResult = engines[side].search(gameState, limits);
+            }
+            if (clock != null && clock.punch(System.currentTimeMillis() - startTime)) {
+                return finish(game, isWhiteToMove ? PgnGame.BLACK_WINS
+                                                  : PgnGame.WHITE_WINS, "time forfeit");
+            }
+
+            int move = bookMove;
+            if (searchResult != null) {
+                move = searchResult.getBestMove();
+                if (moveListener != null) {
+                    moveListener.moveSearched(gameState, move, searchResult);
+                }
+                commitDecisionEvent(decisionEvent, gameState, searchResult, limits);
+            }
+            game.addMove(SanNotation.toSan(gameState, move));
+            MoveGenerator.makeMove(gameState, move);
+            positionKeys = ensureCapacity(positionKeys, ++plyCount);
+            positionKeys[plyCount] = Zobrist.computeKey(gameState);
+            if (searchResult == null) {
+                // Book moves have no score for the adjudication rules to judge.
+                continue;
+            }
+            scores = ensureCapacity(scores, scoreCount);
+            scores[scoreCount++] = searchResult.getScore();
+
+            if (adjudication.isResignation(Arrays.copyOf(scores, scoreCount))) {
+                return finish(game, isWhiteToMove ? PgnGame.BLACK_WINS
+                                                  : PgnGame.WHITE_WINS, "adjudication");
+            }
+        }
+    }
+
+    /**
+     * Records the move the engine is about to play with the flight recorder if it is
+     * recording move decisions.
+     */
+    private static void commitDecisionEvent(MoveDecisionEvent decisionEvent,
+                                            GameState gameState, SearchResult result,
+                                            SearchLimits limits) {
+        decisionEvent.end();
+        if (decisionEvent.shouldCommit()) {
+            decisionEvent.fen = gameState.toFen();
+            decisionEvent.move = Move.toUci(result.getBestMove(),
+                                            gameState.getIsWhiteSide());
+            decisionEvent.score = result.getScore();
+            decisionEvent.depth = result.getDepth();
+            decisionEvent.nodes = result.getNodes();
+            decisionEvent.timeLimit = limits.getMaxTimeMillis() != Long.MAX_VALUE
+                                      ? limits.getMaxTimeMillis() : 0;
+            decisionEvent.commit();
+        }
+    }
+
+    private static PgnGame finish(PgnGame game, String result, String termination) {
+        game.setResult(result);
+        game.setTag("Termination", termination);
+        return game;
+    }
+
+    /**
+     * Counts how often the latest position occurred, looking back only at positions
+     * with the same side to move.
+     */
+    private static int countRepetitions(long[] positionKeys, int plyCount) {
+        int count = 1;
+        for (int ply = plyCount - 2; ply >= 0; ply -= 2) {
+            if (positionKeys[ply] == positionKeys[plyCount]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long[] ensureCapacity(long[] array, int index) {
+        return index < array.length ? array : Arrays.copyOf(array, array.length * 2);
+    }
+
+    private static int[] ensureCapacity(int[] array, int index) {
+        return index < array.length ? array : Arrays.copyOf(array, array.length * 2);
+    }
+
+    /**
+     * Receives the engine moves of a game as they are chosen.
+     */
+    public interface MoveListener {
+
+        /**
+         * Called after an engine has searched a position, before its move is played.
+         *
+         * @param gameState the position searched; it must be left unchanged.
+         * @param move the move the engine chose.
+         * @param result the search result.
+         */
+        void moveSearched(GameState gameState, int move, SearchResult result);
+    }
+}
@@ -0,0 +1,69 @@
+package tools;
+
+import engine.EvalParameters;
+import training.TexelTuner;
+import training.TrainingDataReader;
+import training.TuningDataset;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tunes the evaluation on training data and writes the parameters to a file the
+ * engine loads at startup.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class EvalTuning {
+
+    public static final String USAGE = "tune <training data> <output.params>"
+            + " [--start file.params] [--epochs N] [--rate X] [--lambda X] [--k X]"
+            + " [--limit N] [--threads N]";
+
+    private EvalTuning() {}
+
+    /**
+     * Runs the tune command.
+     *
+     * @param options the command-line options.
+     * @throws IOException if a file cannot be read or written.
+     */
+    public static void run(CommandLineOptions options) throws IOException {
+        Path dataPath = Paths.get(options.getArgument(0, "training data"));
+        Path outputPath = Paths.get(options.getArgument(1, "output file"));
+        EvalParameters parameters = options.hasOption("start")
+                ? EvalParameters.load(Paths.get(options.getString("start", null)))
+                : EvalParameters.defaults();
+
+        long startTime = System.currentTimeMillis();
+        TuningDataset dataset = TuningDataset.load(new TrainingDataReader(dataPath),
+                                                   options.getLong("limit", 0),
+                                                   options.getDouble("lambda", 1), 1);
+        if (dataset.size() == 0) {
+            throw new IllegalArgumentException("No positions in " + dataPath);
+        }
+        System.err.printf("Loaded %d positions in %.1f s%n", dataset.size(),
+                          (System.currentTimeMillis() - startTime) / 1000.0);
+
+        TexelTuner tuner = new TexelTuner(dataset, options.getInt("threads",
+                Runtime.getRuntime().availableProcessors()));
+        if (options.hasOption("k")) {
+            tuner.setScale(options.getDouble("k", 1));
+        } else {
+            tuner.fitScale(parameters);
+        }
+        System.err.printf("K %.4f, starting loss %.6f%n", tuner.getScale(),
+                          tuner.computeLoss(parameters));
+
+        int epochs = options.getInt("epochs", 200);
+        EvalParameters tuned = tuner.tune(parameters, epochs,
+                                          options.getDouble("rate", 1),
+                                          Math.max(1, epochs / 20));
+        tuned.save(outputPath);
+        System.err.printf("Wrote %s in %.1f s total%n", outputPath,
+                          (System.currentTimeMillis() - startTime) / 1000.0);
+    }
+}
@@ -0,0 +1,119 @@
+package tools;
+
+/**
+ * The chess clock of one side, for time controls written as "base+increment" in
+ * seconds, optionally preceded by a move count: "40/60+0.5".
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class GameClock {
+
+    private final long baseMillis;
+    private final long incrementMillis;
+    private final int movesPerSession;
+
+    private long remainingMillis;
+    private int movesPlayed;
+
+    /**
+     * Constructor for GameClock.
+     * 
+     * @param baseMillis the starting time.
+     * @param incrementMillis the time added after each move.
+     * @param movesPerSession the moves after which the base time is added again, or 0.
+     */
+    public GameClock(long baseMillis, long incrementMillis, int movesPerSession) {
+        this.baseMillis = baseMillis;
+        this.incrementMillis = incrementMillis;
+        this.movesPerSession = movesPerSession;
+        this.remainingMillis = baseMillis;
+        this.movesPlayed = 0;
+    }
+
+    /**
+     * Parses a time control.
+     * 
+     * @param timeControl the time control, for example "10+0.1" or "40/60".
+     * @return a new clock set to the starting time.
+     * @throws IllegalArgumentException if the time control is malformed.
+     */
+    public static GameClock parse(String timeControl) {
+        try {
+            int movesPerSession = 0;
+            String rest = timeControl.trim();
+            int slashIndex = rest.indexOf('/');
+            if (slashIndex >= 0) {
+                movesPerSession = Integer.parseInt(rest.substring(0, slashIndex));
+                rest = rest.substring(slashIndex + 1);
+            }
+            double increment = 0;
+            int plusIndex = rest.indexOf('+');
+            if (plusIndex >= 0) {
+                increment = Double.parseDouble(rest.substring(plusIndex + 1));
+                rest = rest.substring(0, plusIndex);
+            }
+            double base = Double.parseDouble(rest);
+            return new GameClock(Math.round(base * 1000), Math.round(increment * 1000),
+                                 movesPerSession);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed time control: " + timeControl);
+        }
+    }
+
+    /**
+     * Returns a new clock with the same time control, set to the starting time.
+     * 
+     * @return the new clock.
+     */
+    public GameClock copy() {
+        return new GameClock(baseMillis, incrementMillis, movesPerSession);
+    }
+
+    /**
+     * Charges the time spent on a move and adds the increment.
+     * 
+     * @param elapsedMillis the time spent on the move.
+     * @return true if the flag fell, false otherwise.
+     */
+    public boolean punch(long elapsedMillis) {
+        remainingMillis -= elapsedMillis;
+        if (remainingMillis < 0) {
+            return true;
+        }
+        remainingMillis += incrementMillis;
+        movesPlayed++;
+        if (movesPerSession > 0 && movesPlayed % movesPerSession == 0) {
+            remainingMillis += baseMillis;
+        }
+        return false;
+    }
+
+    public long getRemainingMillis() {
+        return remainingMillis;
+    }
+
+    public long getIncrementMillis() {
+        return incrementMillis;
+    }
+
+    public int getMovesToGo() {
+        return movesPerSession > 0 ? movesPerSession - movesPlayed % movesPerSession : 0;
+    }
+
+    /**
+     * Returns the time control in PGN TimeControl tag format.
+     */
+    @Override
+    public String toString() {
+        String session = formatSeconds(baseMillis) + (incrementMillis > 0
+                         ? "+" + formatSeconds(incrementMillis) : "");
+        return movesPerSession > 0 ? movesPerSession + "/" + session : session;
+    }
+
+    private static String formatSeconds(long millis) {
+        return millis % 1000 == 0 ? String.valueOf(millis / 1000)
+                                  : String.valueOf(millis / 1000.0);
+    }
+}
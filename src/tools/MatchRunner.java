@@ -0,0 +1,245 @@
+package tools;
+
+import engine.SearchEngine;
+import notation.PgnGame;
+import notation.PgnWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Plays a match between two engine configurations on all cores. Every opening is
+ * played twice with colours reversed, and an optional SPRT stops the match as soon
+ * as the result is significant. All finished games are written to a PGN file.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class MatchRunner {
+
+    public static final String USAGE = "match --engine1 <spec> --engine2 <spec>"
+            + " [--games N] [--concurrency N] [--openings file.epd] [--tc 40/60+0.5]"
+            + " [--pgn out.pgn] [--sprt elo0=0,elo1=10,alpha=0.05,beta=0.05]"
+            + " [--draw movenumber=40,movecount=8,score=10]"
+            + " [--resign movecount=3,score=600] [--maxplies N]";
+
+    private final EngineConfig[] configs;
+    private final int gameCount;
+    private final int concurrency;
+    private final OpeningSuite openings;
+    private final GameClock timeControl;
+    private final Adjudication adjudication;
+    private final Sprt sprt;
+    private final Writer pgnWriter;
+
+    private final ThreadLocal<SearchEngine[]> engines;
+    private volatile boolean isStopped;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int finishedCount;
+
+    /**
+     * Constructor for MatchRunner.
+     *
+     * @param config1 the settings of the tested engine.
+     * @param config2 the settings of the reference engine.
+     * @param gameCount the maximum number of games.
+     * @param concurrency the number of games played at once.
+     * @param openings the openings the games start from.
+     * @param timeControl the clock of each side, or null if untimed.
+     * @param adjudication the rules for ending games early.
+     * @param sprt the test that may end the match early, or null.
+     * @param pgnWriter where finished games are written, or null.
+     */
+    public MatchRunner(EngineConfig config1, EngineConfig config2, int gameCount,
+                       int concurrency, OpeningSuite openings, GameClock timeControl,
+                       Adjudication adjudication, Sprt sprt, Writer pgnWriter) {
+        this.configs = new EngineConfig[] {config1, config2};
+        this.gameCount = gameCount;
+        this.concurrency = Math.max(1, concurrency);
+        this.openings = openings;
+        this.timeControl = timeControl;
+        this.adjudication = adjudication;
+        this.sprt = sprt;
+        this.pgnWriter = pgnWriter;
+        this.engines = ThreadLocal.withInitial(() -> new SearchEngine[] {
+                configs[0].createEngine(), configs[1].createEngine()});
+    }
+
+    /**
+     * Runs the match command.
+     *
+     * @param options the command-line options.
+     * @throws IOException if a file cannot be read or written.
+     * @throws InterruptedException if interrupted while waiting for games.
+     */
+    public static void run(CommandLineOptions options)
+            throws IOException, InterruptedException {
+        if (!options.hasOption("engine1") || !options.hasOption("engine2")) {
+            throw new IllegalArgumentException("Both --engine1 and --engine2 are required");
+        }
+        EngineConfig config1 = EngineConfig.parse(options.getString("engine1", ""),
+                                                  "engine1");
+        EngineConfig config2 = EngineConfig.parse(options.getString("engine2", ""),
+                                                  "engine2");
+        OpeningSuite openings = options.hasOption("openings")
+                                ? OpeningSuite.load(Paths.get(options.getString("openings",
+                                                                                null)))
+                                : OpeningSuite.builtIn();
+        GameClock timeControl = options.hasOption("tc")
+                                ? GameClock.parse(options.getString("tc", null)) : null;
+        Adjudication adjudication = Adjudication.parse(options.getString("draw", null),
+                                                       options.getString("resign", null),
+                                                       options.getInt("maxplies", 400));
+        Sprt sprt = options.hasOption("sprt")
+                    ? Sprt.parse(options.getString("sprt", null)) : null;
+
+        Writer pgnWriter = options.hasOption("pgn")
+                           ? Files.newBufferedWriter(Paths.get(options.getString("pgn",
+                                                                                 null)),
+                                                     StandardCharsets.UTF_8)
+                           : null;
+        try {
+            MatchRunner matchRunner = new MatchRunner(
+                    config1, config2, options.getInt("games", openings.size() * 2),
+                    options.getInt("concurrency",
+                                   Runtime.getRuntime().availableProcessors()),
+                    openings, timeControl, adjudication, sprt, pgnWriter);
+            matchRunner.play();
+        } finally {
+            if (pgnWriter != null) {
+                pgnWriter.close();
+            }
+        }
+    }
+
+    /**
+     * Plays the match until all games are finished or the SPRT stops it, and prints
+     * the final score to standard error.
+     *
+     * @throws IOException if the PGN file cannot be written.
+     * @throws InterruptedException if interrupted while waiting for games.
+     */
+    public void play() throws IOException, InterruptedException {
+        System.err.println(configs[0] + " vs " + configs[1] + ", " + gameCount
+                           + " games, concurrency " + concurrency
+                           + (timeControl != null ? ", tc " + timeControl : "")
+                           + (sprt != null ? ", " + sprt : ""));
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("match-worker-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<?>> futures = new ArrayList<Future<?>>(gameCount);
+        for (int i = 0; i < gameCount; i++) {
+            int gameIndex = i;
+            futures.add(executor.submit(() -> {
+                playGame(gameIndex);
+                return null;
+            }));
+        }
+        executor.shutdown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            isStopped = true;
+            executor.shutdownNow();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IllegalStateException("Game failed", cause);
+        }
+        printScore("Final");
+    }
+
+    /**
+     * Plays one game. Consecutive games share an opening, with engine1 playing white
+     * in the even game and black in the odd one.
+     */
+    private void playGame(int gameIndex) throws IOException {
+        if (isStopped) {
+            return;
+        }
+        int openingIndex = gameIndex / 2;
+        boolean isEngine1White = gameIndex % 2 == 0;
+        int white = isEngine1White ? 0 : 1;
+        SearchEngine[] threadEngines = engines.get();
+
+        EngineGame engineGame = new EngineGame(openings.getStartFen(openingIndex),
+                                               openings.getOpeningMoves(openingIndex),
+                                               configs[white], threadEngines[white],
+                                               configs[1 - white],
+                                               threadEngines[1 - white],
+                                               timeControl, adjudication);
+        PgnGame game = engineGame.play(() -> isStopped);
+        if (game.getResult().equals(PgnGame.UNKNOWN_RESULT)) {
+            return;
+        }
+        game.setTag("Event", "Engine match");
+        game.setTag("Round", String.valueOf(gameIndex + 1));
+        recordResult(game, isEngine1White);
+    }
+
+    private synchronized void recordResult(PgnGame game, boolean isEngine1White)
+            throws IOException {
+        String result = game.getResult();
+        if (result.equals(PgnGame.DRAW)) {
+            draws++;
+        } else if (result.equals(PgnGame.WHITE_WINS) == isEngine1White) {
+            wins++;
+        } else {
+            losses++;
+        }
+        finishedCount++;
+        if (pgnWriter != null) {
+            PgnWriter.write(game, pgnWriter);
+            pgnWriter.flush();
+        }
+        printScore("Game " + finishedCount);
+
+        if (sprt != null && !isStopped) {
+            int decision = sprt.getDecision(wins, draws, losses);
+            if (decision != Sprt.CONTINUE) {
+                isStopped = true;
+                System.err.println("SPRT: " + (decision == Sprt.ACCEPT_H1 ? "H1" : "H0")
+                                   + " accepted");
+            }
+        }
+    }
+
+    private synchronized void printScore(String label) {
+        int games = wins + draws + losses;
+        StringBuilder line = new StringBuilder(label).append(": ")
+                .append(configs[0].getName()).append(" +").append(wins)
+                .append(" =").append(draws).append(" -").append(losses);
+        if (games > 0) {
+            double score = (wins + draws / 2.0) / games;
+            line.append(String.format(" (%.1f%%", score * 100));
+            if (score > 0 && score < 1) {
+                line.append(String.format(", Elo %+.1f", Sprt.scoreToElo(score)));
+            }
+            line.append(')');
+        }
+        if (sprt != null) {
+            line.append(String.format(" LLR %.2f (%.2f, %.2f)",
+                                      sprt.getLogLikelihoodRatio(wins, draws, losses),
+                                      sprt.getLowerBound(), sprt.getUpperBound()));
+        }
+        System.err.println(line);
+    }
+}
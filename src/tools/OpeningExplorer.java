@@ -0,0 +1,70 @@
+package tools;
+
+import database.GameDatabase;
+import database.MoveStats;
+import database.PositionStats;
+import gamestate.GameState;
+import notation.FenPosition;
+import notation.PgnGame;
+import notation.SanNotation;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Prints what was played from a position in a game database: each move with its
+ * game count and score, and the players of the first games that reached it.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class OpeningExplorer {
+
+    public static final String USAGE = "explore <database directory> [--fen FEN]"
+            + " [--games N]";
+
+    private OpeningExplorer() {}
+
+    /**
+     * Runs the explore command.
+     *
+     * @param options the command-line options.
+     * @throws IOException if the database cannot be opened.
+     */
+    public static void run(CommandLineOptions options) throws IOException {
+        GameDatabase database = GameDatabase.open(Paths.get(options.getArgument(
+                0, "database directory")));
+        GameState gameState = GameState.fromFen(
+                options.getString("fen", FenPosition.STANDARD_START_FEN), true);
+        boolean isWhiteToMove = gameState.getIsWhiteToMove();
+
+        long startTime = System.nanoTime();
+        PositionStats stats = database.getPositionStats(gameState);
+        long elapsedMicros = (System.nanoTime() - startTime) / 1000;
+
+        System.out.printf("%s: %d of %d games, score %.1f%% (looked up in %d us)%n",
+                          gameState.toFen(), stats.getGameCount(),
+                          database.getGameCount(), stats.getScore(isWhiteToMove) * 100,
+                          elapsedMicros);
+        for (MoveStats moveStats : stats.getMoves()) {
+            System.out.printf("  %-8s %8d  %5.1f%%  +%d =%d -%d%n",
+                              SanNotation.toSan(gameState, moveStats.getMove()),
+                              moveStats.getGameCount(),
+                              moveStats.getScore(isWhiteToMove) * 100,
+                              isWhiteToMove ? moveStats.getWhiteWins()
+                                            : moveStats.getBlackWins(),
+                              moveStats.getDraws(),
+                              isWhiteToMove ? moveStats.getBlackWins()
+                                            : moveStats.getWhiteWins());
+        }
+
+        for (int gameIndex : database.findGames(stats.getPositionKey(),
+                                                options.getInt("games", 0))) {
+            PgnGame game = database.getGame(gameIndex);
+            System.out.printf("  #%d %s - %s %s (%s)%n", gameIndex, game.getTag("White"),
+                              game.getTag("Black"), game.getResult(),
+                              game.getTag("Date"));
+        }
+    }
+}
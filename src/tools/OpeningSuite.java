@@ -0,0 +1,107 @@
+package tools;
+
+import notation.FenPosition;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The openings engine games start from: either positions read from an EPD or FEN
+ * file, or a built-in list of common opening lines.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class OpeningSuite {
+
+    private static final String[] BUILT_IN_OPENINGS = {
+        "e2e4 e7e5 g1f3 b8c6 f1b5",
+        "e2e4 e7e5 g1f3 b8c6 f1c4",
+        "e2e4 c7c5 g1f3 d7d6",
+        "e2e4 c7c5 b1c3 b8c6",
+        "e2e4 e7e6 d2d4 d7d5",
+        "e2e4 c7c6 d2d4 d7d5",
+        "e2e4 d7d6 d2d4 g8f6",
+        "e2e4 d7d5 e4d5 d8d5",
+        "d2d4 d7d5 c2c4 e7e6",
+        "d2d4 d7d5 c2c4 c7c6",
+        "d2d4 d7d5 c2c4 d5c4",
+        "d2d4 g8f6 c2c4 e7e6 b1c3 f8b4",
+        "d2d4 g8f6 c2c4 g7g6 b1c3 f8g7",
+        "d2d4 g8f6 g1f3 d7d5 c1f4",
+        "d2d4 f7f5 g2g3 g8f6",
+        "c2c4 e7e5 b1c3 g8f6",
+        "c2c4 c7c5 g1f3 b8c6",
+        "g1f3 d7d5 g2g3 g8f6",
+        "e2e4 g7g6 d2d4 f8g7",
+        "e2e4 b8c6 g1f3 d7d6",
+    };
+
+    private final List<String> startFens;
+    private final List<String[]> openingMoves;
+
+    private OpeningSuite() {
+        startFens = new ArrayList<String>();
+        openingMoves = new ArrayList<String[]>();
+    }
+
+    /**
+     * Returns the built-in openings, given as moves from the standard position.
+     * 
+     * @return the opening suite.
+     */
+    public static OpeningSuite builtIn() {
+        OpeningSuite suite = new OpeningSuite();
+        for (String line : BUILT_IN_OPENINGS) {
+            suite.startFens.add(FenPosition.STANDARD_START_FEN);
+            suite.openingMoves.add(line.split(" "));
+        }
+        return suite;
+    }
+
+    /**
+     * Reads openings from a file with one FEN or EPD position per line.
+     * 
+     * @param path the opening file.
+     * @return the opening suite.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if a position is malformed or the file is empty.
+     */
+    public static OpeningSuite load(Path path) throws IOException {
+        OpeningSuite suite = new OpeningSuite();
+        FenPosition position = new FenPosition();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                position.parse(line);
+                suite.startFens.add(position.toString());
+                suite.openingMoves.add(new String[0]);
+            }
+        }
+        if (suite.size() == 0) {
+            throw new IllegalArgumentException("No openings in " + path);
+        }
+        return suite;
+    }
+
+    public int size() {
+        return startFens.size();
+    }
+
+    public String getStartFen(int index) {
+        return startFens.get(index % size());
+    }
+
+    public String[] getOpeningMoves(int index) {
+        return openingMoves.get(index % size());
+    }
+}
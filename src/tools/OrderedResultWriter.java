@@ -0,0 +1,123 @@
+package tools;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Writes results that finish out of order in their input order. At most a fixed
+ * window of results can be in flight: producers must reserve a slot before handing
+ * out work, which keeps memory flat when one slow result holds up the rest. A
+ * result that will never be handed in must be reported with fail, or a producer
+ * waiting for its slot would wait forever.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class OrderedResultWriter {
+
+    private final Writer writer;
+    private final String[] pendingResults;
+    private final Semaphore freeSlots;
+    private long nextIndex;
+    private IOException writeError;
+    private volatile Throwable failure;
+
+    /**
+     * Constructor for OrderedResultWriter.
+     * 
+     * @param writer the writer results are written to, one line each.
+     * @param windowSize how many results may be in flight at once.
+     */
+    public OrderedResultWriter(Writer writer, int windowSize) {
+        this.writer = writer;
+        this.pendingResults = new String[windowSize];
+        this.freeSlots = new Semaphore(windowSize);
+        this.nextIndex = 0;
+    }
+
+    /**
+     * Reserves a slot for the next result, blocking while the window is full.
+     * 
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws IllegalStateException if a result has failed.
+     */
+    public void acquireSlot() throws InterruptedException {
+        freeSlots.acquire();
+        if (failure != null) {
+            // Pass the wake-up on to any other waiting producer.
+            freeSlots.release();
+            throw new IllegalStateException("A result failed", failure);
+        }
+    }
+
+    /**
+     * Reports that a reserved result will never be handed in. Wakes any producer
+     * waiting for a slot, and acquireSlot throws from then on.
+     * 
+     * @param cause why the result failed.
+     */
+    public synchronized void fail(Throwable cause) {
+        if (failure == null) {
+            failure = cause;
+            freeSlots.release();
+        }
+    }
+
+    /**
+     * Returns the first failure reported with fail.
+     * 
+     * @return the failure, or null if no result has failed.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Hands in the result with the given index. Writes it, and any results waiting
+     * behind it, once every earlier result has been written.
+     * 
+     * @param index the input index of the result; its slot must have been reserved.
+     * @param result the result line.
+     */
+    public synchronized void write(long index, String result) {
+        pendingResults[(int) (index % pendingResults.length)] = result;
+        int slot = (int) (nextIndex % pendingResults.length);
+        while (pendingResults[slot] != null) {
+            try {
+                if (writeError == null) {
+                    writer.write(pendingResults[slot]);
+                    writer.write(System.lineSeparator());
+                }
+            } catch (IOException e) {
+                writeError = e;
+            }
+            pendingResults[slot] = null;
+            nextIndex++;
+            freeSlots.release();
+            slot = (int) (nextIndex % pendingResults.length);
+        }
+    }
+
+    /**
+     * Returns the number of results written so far.
+     * 
+     * @return the written count.
+     */
+    public synchronized long getWrittenCount() {
+        return nextIndex;
+    }
+
+    /**
+     * Flushes and closes the underlying writer.
+     * 
+     * @throws IOException if any write failed.
+     */
+    public synchronized void close() throws IOException {
+        writer.close();
+        if (writeError != null) {
+            throw writeError;
+        }
+    }
+}
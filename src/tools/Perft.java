@@ -0,0 +1,130 @@
+package tools;
+
+import engine.Move;
+import engine.MoveGenerator;
+import gamestate.GameState;
+import notation.FenPosition;
+
+/**
+ * Counts the leaf nodes of the legal move tree to a fixed depth, the standard check
+ * of move generation. Without a position it checks the counts of a few well known
+ * positions against their published counts, which cover castling, en passant,
+ * promotions and pins; with one it prints the count below each legal move, to
+ * compare against another engine.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class Perft {
+
+    public static final String USAGE = "perft [--depth N] [--fen FEN]";
+
+    public static final int DEFAULT_DEPTH = 3;
+
+    // The known positions, each followed by its published counts from depth 1 up.
+    private static final String[] POSITIONS = {
+        FenPosition.STANDARD_START_FEN,
+        "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+        "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+        "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+        "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+        "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+    };
+
+    private static final long[][] COUNTS = {
+        {20, 400, 8902, 197281, 4865609},
+        {48, 2039, 97862, 4085603},
+        {14, 191, 2812, 43238, 674624},
+        {6, 264, 9467, 422333},
+        {44, 1486, 62379, 2103487},
+        {46, 2079, 89890, 3894594},
+    };
+
+    private Perft() {}
+
+    /**
+     * Runs the perft command.
+     *
+     * @param options the command-line options.
+     * @throws IllegalStateException if a known position gives a different count.
+     */
+    public static void run(CommandLineOptions options) {
+        int depth = options.getInt("depth", DEFAULT_DEPTH);
+        if (depth < 1) {
+            throw new IllegalArgumentException("The depth must be at least 1");
+        }
+        if (options.hasOption("fen")) {
+            divide(GameState.fromFen(options.getString("fen", null), true), depth);
+        } else {
+            checkKnownPositions(depth);
+        }
+    }
+
+    /**
+     * Returns the number of leaf nodes of the legal move tree below a position.
+     *
+     * @param gameState the position, left as it was.
+     * @param depth the depth in plies.
+     * @return the leaf node count.
+     */
+    public static long perft(GameState gameState, int depth) {
+        int[] moves = MoveGenerator.generateLegalMoves(gameState);
+        if (depth == 1) {
+            return moves.length;
+        }
+        long nodes = 0;
+        for (int move : moves) {
+            MoveGenerator.makeMove(gameState, move);
+            nodes += perft(gameState, depth - 1);
+            MoveGenerator.undoMove(gameState);
+        }
+        return nodes;
+    }
+
+    /**
+     * Prints the count below each legal move of a position and the total.
+     */
+    private static void divide(GameState gameState, int depth) {
+        long startTime = System.nanoTime();
+        long nodes = 0;
+        for (int move : MoveGenerator.generateLegalMoves(gameState)) {
+            MoveGenerator.makeMove(gameState, move);
+            long moveNodes = depth == 1 ? 1 : perft(gameState, depth - 1);
+            MoveGenerator.undoMove(gameState);
+            System.out.println(Move.toUci(move, true) + ": " + moveNodes);
+            nodes += moveNodes;
+        }
+        long elapsed = Math.max(1, (System.nanoTime() - startTime) / 1000000);
+        System.out.println();
+        System.out.println("Nodes           : " + nodes);
+        System.out.println("Total time (ms) : " + elapsed);
+    }
+
+    /**
+     * Counts every known position to the depth, or to its deepest known count if
+     * that is shallower, printing one line per position.
+     */
+    private static void checkKnownPositions(int depth) {
+        int mismatchCount = 0;
+        for (int i = 0; i < POSITIONS.length; i++) {
+            int positionDepth = Math.min(depth, COUNTS[i].length);
+            long expected = COUNTS[i][positionDepth - 1];
+            long nodes = perft(GameState.fromFen(POSITIONS[i], true), positionDepth);
+            boolean isMatch = nodes == expected;
+            if (!isMatch) {
+                mismatchCount++;
+            }
+            System.out.printf("%-4s depth %d %,12d %s%n", isMatch ? "ok" : "FAIL",
+                              positionDepth, nodes,
+                              isMatch ? POSITIONS[i] : POSITIONS[i] + " (expected "
+                                                       + expected + ")");
+        }
+        if (mismatchCount > 0) {
+            throw new IllegalStateException(mismatchCount + " of " + POSITIONS.length
+                                            + " positions gave a wrong count");
+        }
+        System.out.println();
+        System.out.println("All " + POSITIONS.length + " positions match");
+    }
+}
@@ -0,0 +1,147 @@
+package tools;
+
+/**
+ * A sequential probability ratio test between two Elo hypotheses, using the normal
+ * approximation of the log-likelihood ratio over win, draw and loss counts. After
+ * each game the test either accepts one hypothesis or asks for more games.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class Sprt {
+
+    public static final int ACCEPT_H0 = -1;
+    public static final int CONTINUE = 0;
+    public static final int ACCEPT_H1 = 1;
+
+    private final double elo0;
+    private final double elo1;
+    private final double lowerBound;
+    private final double upperBound;
+
+    /**
+     * Constructor for Sprt.
+     * 
+     * @param elo0 the Elo difference of the null hypothesis.
+     * @param elo1 the Elo difference of the alternative hypothesis.
+     * @param alpha the false positive rate.
+     * @param beta the false negative rate.
+     */
+    public Sprt(double elo0, double elo1, double alpha, double beta) {
+        this.elo0 = elo0;
+        this.elo1 = elo1;
+        this.lowerBound = Math.log(beta / (1 - alpha));
+        this.upperBound = Math.log((1 - beta) / alpha);
+    }
+
+    /**
+     * Parses settings such as "elo0=0,elo1=10,alpha=0.05,beta=0.05".
+     * 
+     * @param spec the settings; missing values use the defaults shown above.
+     * @return the test.
+     */
+    public static Sprt parse(String spec) {
+        double elo0 = 0;
+        double elo1 = 10;
+        double alpha = 0.05;
+        double beta = 0.05;
+        for (String setting : spec.split(",")) {
+            String[] pair = setting.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Bad SPRT setting: " + setting);
+            }
+            double value;
+            try {
+                value = Double.parseDouble(pair[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Bad SPRT setting: " + setting);
+            }
+            switch (pair[0].trim()) {
+                case "elo0": elo0 = value; break;
+                case "elo1": elo1 = value; break;
+                case "alpha": alpha = value; break;
+                case "beta": beta = value; break;
+                default: throw new IllegalArgumentException("Bad SPRT setting: " + setting);
+            }
+        }
+        return new Sprt(elo0, elo1, alpha, beta);
+    }
+
+    /**
+     * Returns the log-likelihood ratio of the alternative over the null hypothesis.
+     * 
+     * @param wins the games won by the tested engine.
+     * @param draws the games drawn.
+     * @param losses the games lost by the tested engine.
+     * @return the log-likelihood ratio, 0 while there is too little data.
+     */
+    public double getLogLikelihoodRatio(int wins, int draws, int losses) {
+        int games = wins + draws + losses;
+        if (games == 0) {
+            return 0;
+        }
+        double score = (wins + draws / 2.0) / games;
+        double variance = (wins * Math.pow(1 - score, 2)
+                           + draws * Math.pow(0.5 - score, 2)
+                           + losses * Math.pow(score, 2)) / games;
+        if (variance == 0) {
+            return 0;
+        }
+        double score0 = eloToScore(elo0);
+        double score1 = eloToScore(elo1);
+        return games * (score1 - score0) * (2 * score - score0 - score1) / (2 * variance);
+    }
+
+    /**
+     * Returns the decision of the test so far.
+     * 
+     * @param wins the games won by the tested engine.
+     * @param draws the games drawn.
+     * @param losses the games lost by the tested engine.
+     * @return ACCEPT_H0, ACCEPT_H1 or CONTINUE.
+     */
+    public int getDecision(int wins, int draws, int losses) {
+        double logLikelihoodRatio = getLogLikelihoodRatio(wins, draws, losses);
+        if (logLikelihoodRatio >= upperBound) {
+            return ACCEPT_H1;
+        } else if (logLikelihoodRatio <= lowerBound) {
+            return ACCEPT_H0;
+        }
+        return CONTINUE;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SPRT elo0=%.1f elo1=%.1f bounds (%.2f, %.2f)",
+                             elo0, elo1, lowerBound, upperBound);
+    }
+
+    /**
+     * Returns the expected score of a player with the given Elo advantage.
+     * 
+     * @param elo the Elo difference.
+     * @return the expected score between 0 and 1.
+     */
+    public static double eloToScore(double elo) {
+        return 1 / (1 + Math.pow(10, -elo / 400));
+    }
+
+    /**
+     * Returns the Elo difference that gives the expected score.
+     * 
+     * @param score the score between 0 and 1, exclusive.
+     * @return the Elo difference.
+     */
+    public static double scoreToElo(double score) {
+        return -400 * Math.log10(1 / score - 1);
+    }
+}
@@ -0,0 +1,252 @@
+package tools;
+
+import engine.Move;
+import engine.SearchEngine;
+import engine.SearchLimits;
+import engine.SearchResult;
+import gamestate.GameState;
+import notation.EpdOperations;
+import notation.FenPosition;
+import notation.SanNotation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs a tactical test suite: an EPD file whose positions carry best move (bm) and
+ * avoid move (am) operations. Each position is searched with a fixed budget, and a
+ * position counts as solved when the engine ends on a correct move; its time to
+ * solve is when that move was first found and then kept for every later iteration.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class TestSuite {
+
+    public static final String USAGE = "testsuite <suite.epd> [--time ms] [--depth N]"
+            + " [--nodes N] [--threads N] [--hash MB]";
+
+    private final List<String> lines;
+    private final SearchLimits limits;
+    private final int threadCount;
+    private final ThreadLocal<SearchEngine> engines;
+    private final ThreadLocal<GameState> gameStates;
+
+    /**
+     * Constructor for TestSuite.
+     *
+     * @param lines the EPD lines of the suite.
+     * @param limits the search budget of each position.
+     * @param threadCount the number of positions searched at once.
+     * @param hashSizeMB the transposition table size of each worker.
+     */
+    public TestSuite(List<String> lines, SearchLimits limits, int threadCount,
+                     int hashSizeMB) {
+        this.lines = lines;
+        this.limits = limits;
+        this.threadCount = Math.max(1, threadCount);
+        this.engines = ThreadLocal.withInitial(() -> new SearchEngine(hashSizeMB));
+        this.gameStates = ThreadLocal.withInitial(
+                () -> GameState.fromFen(FenPosition.STANDARD_START_FEN, true));
+    }
+
+    /**
+     * Runs the testsuite command.
+     *
+     * @param options the command-line options.
+     * @throws IOException if the suite cannot be read.
+     * @throws InterruptedException if interrupted while waiting for workers.
+     */
+    public static void run(CommandLineOptions options)
+            throws IOException, InterruptedException {
+        List<String> lines = new ArrayList<String>();
+        for (String line : Files.readAllLines(Paths.get(options.getArgument(0, "suite")),
+                                              StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty() && !line.startsWith("#")) {
+                lines.add(line);
+            }
+        }
+        SearchLimits limits = new SearchLimits(options.getInt("depth", 0),
+                                               options.getLong("nodes", 0),
+                                               options.getLong("time", 0));
+        if (limits.getMaxDepth() == SearchLimits.MAX_DEPTH
+                && limits.getMaxNodes() == Long.MAX_VALUE
+                && limits.getMaxTimeMillis() == Long.MAX_VALUE) {
+            limits = SearchLimits.time(1000);
+        }
+        TestSuite testSuite = new TestSuite(
+                lines, limits,
+                options.getInt("threads", Runtime.getRuntime().availableProcessors()),
+                options.getInt("hash", SearchEngine.DEFAULT_HASH_SIZE_MB));
+        testSuite.runSuite();
+    }
+
+    /**
+     * Searches every position, printing one line per position in suite order and a
+     * summary at the end.
+     *
+     * @throws InterruptedException if interrupted while waiting for workers.
+     */
+    public void runSuite() throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<Solution>> futures = new ArrayList<Future<Solution>>(lines.size());
+        for (String line : lines) {
+            futures.add(executor.submit(() -> solve(line)));
+        }
+        executor.shutdown();
+
+        int solvedCount = 0;
+        int errorCount = 0;
+        long solveTime = 0;
+        long solveNodes = 0;
+        long solveDepth = 0;
+        for (Future<Solution> future : futures) {
+            Solution solution;
+            try {
+                solution = future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Test position failed", e.getCause());
+            }
+            System.out.println(solution);
+            if (solution.error != null) {
+                errorCount++;
+            } else if (solution.isSolved()) {
+                solvedCount++;
+                solveTime += solution.solveTimeMillis;
+                solveNodes += solution.solveNodes;
+                solveDepth += solution.solveDepth;
+            }
+        }
+
+        int testedCount = lines.size() - errorCount;
+        System.out.println();
+        System.out.printf("Solved %d of %d (%.1f%%), %s, %d threads%n", solvedCount,
+                          testedCount, 100.0 * solvedCount / Math.max(1, testedCount),
+                          limits, threadCount);
+        if (solvedCount > 0) {
+            System.out.printf("Mean time to solve  : %d ms%n", solveTime / solvedCount);
+            System.out.printf("Mean nodes to solve : %d%n", solveNodes / solvedCount);
+            System.out.printf("Mean depth to solve : %.1f%n",
+                              (double) solveDepth / solvedCount);
+        }
+        if (errorCount > 0) {
+            System.out.println("Positions with errors: " + errorCount);
+        }
+        System.out.printf("Total time          : %.1f s%n",
+                          (System.currentTimeMillis() - startTime) / 1000.0);
+    }
+
+    private Solution solve(String line) {
+        Solution solution = new Solution(line.trim());
+        try {
+            FenPosition position = new FenPosition();
+            EpdOperations operations = EpdOperations.parse(line, position.parse(line));
+            GameState gameState = gameStates.get();
+            gameState.loadPosition(position);
+            solution.id = operations.getOperand("id", position.toString());
+            solution.bestMoves = parseMoves(gameState, operations.getOperands("bm"));
+            solution.avoidMoves = parseMoves(gameState, operations.getOperands("am"));
+            solution.expected = (solution.bestMoves.isEmpty() ? ""
+                                 : "bm " + String.join(" ", operations.getOperands("bm")))
+                                + (solution.avoidMoves.isEmpty() ? ""
+                                   : " am " + String.join(" ",
+                                                          operations.getOperands("am")));
+            if (solution.bestMoves.isEmpty() && solution.avoidMoves.isEmpty()) {
+                throw new IllegalArgumentException("no bm or am operation");
+            }
+
+            SearchEngine engine = engines.get();
+            engine.newGame();
+            engine.setSearchListener(solution::iterationCompleted);
+            SearchResult result = engine.search(gameState, limits);
+            engine.setSearchListener(null);
+            solution.finalMove = SanNotation.toSan(gameState, result.getBestMove());
+            if (!solution.isCorrect(result.getBestMove())) {
+                solution.solveDepth = -1;
+            }
+        } catch (RuntimeException e) {
+            solution.error = e.getMessage();
+        }
+        return solution;
+    }
+
+    private static List<Integer> parseMoves(GameState gameState, List<String> operands) {
+        List<Integer> moves = new ArrayList<Integer>(operands.size());
+        for (String operand : operands) {
+            int move = SanNotation.fromSan(gameState, operand);
+            if (move == Move.NONE) {
+                move = Move.fromUci(operand, gameState);
+            }
+            if (move == Move.NONE) {
+                throw new IllegalArgumentException("illegal move " + operand);
+            }
+            moves.add(move);
+        }
+        return moves;
+    }
+
+    /**
+     * The outcome of one test position.
+     */
+    private static class Solution {
+
+        private final String line;
+        private String id;
+        private List<Integer> bestMoves;
+        private List<Integer> avoidMoves;
+        private String expected;
+        private String finalMove;
+        private String error;
+
+        // The iteration since which every iteration found a correct move, or -1.
+        private int solveDepth = -1;
+        private long solveTimeMillis;
+        private long solveNodes;
+
+        private Solution(String line) {
+            this.line = line;
+        }
+
+        private boolean isCorrect(int move) {
+            return (bestMoves.isEmpty() || bestMoves.contains(move))
+                   && !avoidMoves.contains(move);
+        }
+
+        private void iterationCompleted(SearchResult result) {
+            if (!isCorrect(result.getBestMove())) {
+                solveDepth = -1;
+            } else if (solveDepth < 0) {
+                solveDepth = result.getDepth();
+                solveTimeMillis = result.getTimeMillis();
+                solveNodes = result.getNodes();
+            }
+        }
+
+        private boolean isSolved() {
+            return solveDepth >= 0;
+        }
+
+        @Override
+        public String toString() {
+            if (error != null) {
+                return "error   " + line + ": " + error;
+            } else if (!isSolved()) {
+                return String.format("failed  %-16s found %-8s expected %s", id, finalMove,
+                                     expected.trim());
+            }
+            return String.format("solved  %-16s found %-8s time %6d ms  depth %2d"
+                                 + "  nodes %d", id, finalMove, solveTimeMillis,
+                                 solveDepth, solveNodes);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package tools;
+
+import metrics.SearchTraceRecorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the search traces written by SearchTraceRecorder and reports the shape of
+ * the search tree: the effective branching factor of each iteration, and for each
+ * remaining depth how nodes ended, how often the first move caused the cutoff and
+ * what share of the moves cut nodes had to search.
+ *
+ * <p>A search stopped by a time or node limit cuts its last iteration short, which
+ * lowers that iteration's branching factor, so traces of depth limited searches
+ * such as the bench give the cleanest figures.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class TraceAnalysis {
+
+    public static final String USAGE = "trace <trace directory>";
+
+    // Row 0 holds the quiescence nodes, row d the nodes with d plies to go.
+    private static final int ROW_COUNT = 128;
+
+    private final long[][] nodeTypeCounts = new long[ROW_COUNT][
+            SearchTraceRecorder.NODE_TYPE_COUNT];
+    private final long[] firstMoveCutoffs = new long[ROW_COUNT];
+    private final long[] cutoffIndexSums = new long[ROW_COUNT];
+    private final long[] cutoffMovesSearched = new long[ROW_COUNT];
+    private final long[] cutoffMoveCounts = new long[ROW_COUNT];
+
+    private final long[] iterationNodes = new long[ROW_COUNT];
+    private final int[] iterationCounts = new int[ROW_COUNT];
+    private final double[] branchingFactorLogSums = new double[ROW_COUNT];
+    private final int[] branchingFactorCounts = new int[ROW_COUNT];
+
+    private long recordCount;
+    private int segmentCount;
+
+    // The iteration being read, and the node count of the one before it in the same
+    // search, or -1 if the trace started inside it.
+    private int iterationDepth;
+    private long currentIterationNodes;
+    private long previousIterationNodes;
+
+    /**
+     * Runs the trace command.
+     *
+     * @param options the command-line options.
+     * @throws IOException if a trace file cannot be read.
+     */
+    public static void run(CommandLineOptions options) throws IOException {
+        Path directory = Paths.get(options.getArgument(0, "trace directory"));
+        TraceAnalysis analysis = new TraceAnalysis();
+        analysis.readTraces(directory);
+        analysis.printReport(System.out);
+    }
+
+    /**
+     * Reads every trace below a directory. The segments of each trace are read
+     * oldest first.
+     *
+     * @param directory the directory passed as "chess.trace.dir", or the directory of
+     * a single engine.
+     * @throws IOException if a trace file cannot be read.
+     */
+    public void readTraces(Path directory) throws IOException {
+        Map<Path, List<Path>> traces;
+        try (Stream<Path> files = Files.walk(directory)) {
+            traces = files.filter(file -> file.getFileName().toString()
+                                              .matches("trace-\\d+\\.bin"))
+                          .collect(Collectors.groupingBy(Path::getParent, TreeMap::new,
+                                                         Collectors.toList()));
+        }
+        if (traces.isEmpty()) {
+            throw new IllegalArgumentException("No trace files in " + directory);
+        }
+        for (List<Path> segmentFiles : traces.values()) {
+            readTrace(segmentFiles);
+        }
+    }
+
+    private void readTrace(List<Path> segmentFiles) throws IOException {
+        List<MappedByteBuffer> segments = new ArrayList<MappedByteBuffer>();
+        for (Path file : segmentFiles) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() < SearchTraceRecorder.HEADER_SIZE) {
+                    continue;
+                }
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                                                       channel.size());
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+                if (segment.getInt(0) != SearchTraceRecorder.MAGIC
+                        || segment.getShort(4) != SearchTraceRecorder.VERSION
+                        || segment.getShort(6) != SearchTraceRecorder.RECORD_SIZE) {
+                    throw new IllegalArgumentException(file + " is not a search trace");
+                }
+                // Segments the ring never reached have no sequence number.
+                if (segment.getInt(8) >= 0) {
+                    segments.add(segment);
+                }
+            }
+        }
+        segments.sort((a, b) -> Integer.compare(a.getInt(8), b.getInt(8)));
+
+        iterationDepth = 0;
+        currentIterationNodes = 0;
+        previousIterationNodes = -1;
+        for (MappedByteBuffer segment : segments) {
+            segmentCount++;
+            int count = segment.getInt(16);
+            for (int i = 0; i < count; i++) {
+                readRecord(segment, SearchTraceRecorder.HEADER_SIZE
+                                    + i * SearchTraceRecorder.RECORD_SIZE);
+            }
+        }
+        endIteration();
+    }
+
+    private void readRecord(MappedByteBuffer segment, int offset) {
+        recordCount++;
+        int nodeType = segment.get(offset + 16);
+        if (nodeType == SearchTraceRecorder.NODE_ITERATION) {
+            int depth = segment.get(offset + 15);
+            endIteration();
+            if (depth == 1) {
+                previousIterationNodes = -1;
+            }
+            iterationDepth = depth;
+            return;
+        }
+        currentIterationNodes++;
+
+        boolean isQuiescence = (segment.get(offset + 17)
+                                & SearchTraceRecorder.QUIESCENCE_FLAG) != 0;
+        int row = isQuiescence ? 0 : Math.max(1, Math.min(ROW_COUNT - 1,
+                                                          segment.get(offset + 15)));
+        nodeTypeCounts[row][nodeType]++;
+        if (nodeType == SearchTraceRecorder.NODE_FAIL_HIGH) {
+            int moveIndex = segment.get(offset + 19) & 0xFF;
+            if (moveIndex == 0) {
+                firstMoveCutoffs[row]++;
+            }
+            cutoffIndexSums[row] += moveIndex;
+            cutoffMovesSearched[row] += segment.getShort(offset + 20);
+            cutoffMoveCounts[row] += segment.getShort(offset + 22);
+        }
+    }
+
+    /**
+     * Adds the nodes of the iteration just read to the iteration statistics. The
+     * nodes read before the first iteration marker belong to an iteration whose start
+     * the ring overwrote, so they are left out.
+     */
+    private void endIteration() {
+        if (iterationDepth > 0 && iterationDepth < ROW_COUNT) {
+            iterationNodes[iterationDepth] += currentIterationNodes;
+            iterationCounts[iterationDepth]++;
+            if (previousIterationNodes > 0 && currentIterationNodes > 0) {
+                branchingFactorLogSums[iterationDepth] += Math.log(
+                        (double) currentIterationNodes / previousIterationNodes);
+                branchingFactorCounts[iterationDepth]++;
+            }
+            previousIterationNodes = currentIterationNodes;
+        }
+        currentIterationNodes = 0;
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param out the stream the report is printed to.
+     */
+    public void printReport(PrintStream out) {
+        long nodeCount = 0;
+        for (long[] counts : nodeTypeCounts) {
+            for (long count : counts) {
+                nodeCount += count;
+            }
+        }
+        out.printf("Read %d records (%d nodes) from %d segments%n%n", recordCount,
+                   nodeCount, segmentCount);
+
+        out.println("Iteration  searches      mean nodes  branching factor");
+        for (int depth = 1; depth < ROW_COUNT; depth++) {
+            if (iterationCounts[depth] == 0) {
+                continue;
+            }
+            String branchingFactor = branchingFactorCounts[depth] == 0 ? "-"
+                    : String.format("%.2f", Math.exp(branchingFactorLogSums[depth]
+                                                     / branchingFactorCounts[depth]));
+            out.printf("%9d  %8d  %14d  %16s%n", depth, iterationCounts[depth],
+                       iterationNodes[depth] / iterationCounts[depth], branchingFactor);
+        }
+
+        out.println();
+        out.println("Depth         nodes   nodes%   exact%  cutoff%   all%  hash%"
+                    + "  standpat%  other%  first-move%  cutoff-index  searched%");
+        for (int row = ROW_COUNT - 1; row >= 0; row--) {
+            long[] counts = nodeTypeCounts[row];
+            long rowCount = 0;
+            for (long count : counts) {
+                rowCount += count;
+            }
+            if (rowCount == 0) {
+                continue;
+            }
+            long cutoffCount = counts[SearchTraceRecorder.NODE_FAIL_HIGH];
+            long otherCount = counts[SearchTraceRecorder.NODE_TERMINAL]
+                              + counts[SearchTraceRecorder.NODE_MAX_PLY];
+            out.printf("%5s  %12d  %6.2f  %7.2f  %7.2f  %5.2f  %5.2f  %9.2f  %6.2f"
+                       + "  %11.2f  %12.2f  %9.2f%n",
+                       row == 0 ? "qs" : Integer.toString(row), rowCount,
+                       percent(rowCount, nodeCount),
+                       percent(counts[SearchTraceRecorder.NODE_EXACT], rowCount),
+                       percent(cutoffCount, rowCount),
+                       percent(counts[SearchTraceRecorder.NODE_FAIL_LOW], rowCount),
+                       percent(counts[SearchTraceRecorder.NODE_HASH_CUTOFF], rowCount),
+                       percent(counts[SearchTraceRecorder.NODE_STAND_PAT], rowCount),
+                       percent(otherCount, rowCount),
+                       percent(firstMoveCutoffs[row], cutoffCount),
+                       cutoffCount == 0 ? 0.0 : (double) cutoffIndexSums[row] / cutoffCount,
+                       percent(cutoffMovesSearched[row], cutoffMoveCounts[row]));
+        }
+        out.println();
+        out.println("cutoff-index is the mean search order index of the move that caused"
+                    + " a beta cutoff,");
+        out.println("searched% the share of generated moves that cut nodes searched"
+                    + " before cutting off.");
+    }
+
+    private static double percent(long count, long total) {
+        return total == 0 ? 0.0 : 100.0 * count / total;
+    }
+}
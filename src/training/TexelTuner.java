@@ -0,0 +1,203 @@
+package training;
+
+import engine.EvalParameters;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tunes the evaluation parameters on a dataset by minimising the mean squared error
+ * between the target of each position and the win chance predicted from its
+ * evaluation, sigmoid(K * eval). The loss and its gradient are computed in parallel
+ * over chunks of positions on a fork/join pool, and the parameters are updated with
+ * Adam.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class TexelTuner {
+
+    private static final int CHUNK_SIZE = 16384;
+    private static final double BETA1 = 0.9;
+    private static final double BETA2 = 0.999;
+    private static final double EPSILON = 1e-8;
+
+    private final TuningDataset dataset;
+    private final ForkJoinPool pool;
+    private final boolean[] isFrozen;
+    private double scale;
+
+    /**
+     * Constructor for TexelTuner.
+     *
+     * @param dataset the positions to tune on.
+     * @param threadCount the parallelism of the fork/join pool.
+     */
+    public TexelTuner(TuningDataset dataset, int threadCount) {
+        this.dataset = dataset;
+        this.pool = new ForkJoinPool(Math.max(1, threadCount));
+        this.isFrozen = new boolean[EvalParameters.PARAMETER_COUNT];
+        // Both sides always have one king, so the king value cannot be learned.
+        this.isFrozen[EvalParameters.getPieceValueIndex(5)] = true;
+        this.scale = 1;
+    }
+
+    /**
+     * Finds the scaling constant K that best fits the targets with the given
+     * parameters, by golden section search, and uses it from then on.
+     *
+     * @param parameters the current parameters.
+     * @return the scaling constant.
+     */
+    public double fitScale(EvalParameters parameters) {
+        double[] vector = toVector(parameters);
+        double low = 0.05;
+        double high = 5;
+        double ratio = (Math.sqrt(5) - 1) / 2;
+        for (int i = 0; i < 40; i++) {
+            double left = high - ratio * (high - low);
+            double right = low + ratio * (high - low);
+            scale = left;
+            double leftLoss = computeLoss(vector);
+            scale = right;
+            double rightLoss = computeLoss(vector);
+            if (leftLoss < rightLoss) {
+                high = right;
+            } else {
+                low = left;
+            }
+        }
+        scale = (low + high) / 2;
+        return scale;
+    }
+
+    public void setScale(double scale) {
+        this.scale = scale;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Returns the loss of the parameters over the whole dataset.
+     *
+     * @param parameters the parameters.
+     * @return the mean squared error.
+     */
+    public double computeLoss(EvalParameters parameters) {
+        return computeLoss(toVector(parameters));
+    }
+
+    private double computeLoss(double[] vector) {
+        return pool.invoke(new GradientTask(vector, 0, dataset.size(), false))[0]
+               / dataset.size();
+    }
+
+    /**
+     * Runs Adam for a number of full passes over the dataset.
+     *
+     * @param parameters the starting parameters.
+     * @param epochs the number of passes.
+     * @param learningRate the step size in centipawns.
+     * @param reportInterval how many epochs between loss reports on standard error.
+     * @return the tuned parameters, rounded to whole centipawns.
+     */
+    public EvalParameters tune(EvalParameters parameters, int epochs, double learningRate,
+                               int reportInterval) {
+        double[] vector = toVector(parameters);
+        double[] firstMoments = new double[vector.length];
+        double[] secondMoments = new double[vector.length];
+        int size = dataset.size();
+
+        for (int epoch = 1; epoch <= epochs; epoch++) {
+            double[] result = pool.invoke(new GradientTask(vector, 0, size, true));
+            double correction1 = 1 - Math.pow(BETA1, epoch);
+            double correction2 = 1 - Math.pow(BETA2, epoch);
+            for (int i = 0; i < vector.length; i++) {
+                if (isFrozen[i]) {
+                    continue;
+                }
+                double gradient = result[i + 1] / size;
+                firstMoments[i] = BETA1 * firstMoments[i] + (1 - BETA1) * gradient;
+                secondMoments[i] = BETA2 * secondMoments[i]
+                                   + (1 - BETA2) * gradient * gradient;
+                vector[i] -= learningRate * (firstMoments[i] / correction1)
+                             / (Math.sqrt(secondMoments[i] / correction2) + EPSILON);
+            }
+            if (reportInterval > 0 && (epoch % reportInterval == 0 || epoch == epochs)) {
+                System.err.printf("Epoch %d loss %.6f%n", epoch, result[0] / size);
+            }
+        }
+
+        int[] rounded = new int[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            rounded[i] = (int) Math.round(vector[i]);
+        }
+        return new EvalParameters(rounded);
+    }
+
+    private static double[] toVector(EvalParameters parameters) {
+        double[] vector = new double[EvalParameters.PARAMETER_COUNT];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = parameters.get(i);
+        }
+        return vector;
+    }
+
+    /**
+     * Sums the squared error, and optionally its gradient, over a range of
+     * positions. The result holds the error at index 0 and the gradient after it.
+     * Tasks only live inside one tuning run and are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private class GradientTask extends RecursiveTask<double[]> {
+
+        private final double[] vector;
+        private final int start;
+        private final int end;
+        private final boolean isGradientNeeded;
+
+        private GradientTask(double[] vector, int start, int end,
+                             boolean isGradientNeeded) {
+            this.vector = vector;
+            this.start = start;
+            this.end = end;
+            this.isGradientNeeded = isGradientNeeded;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (end - start > CHUNK_SIZE) {
+                int middle = (start + end) >>> 1;
+                GradientTask left = new GradientTask(vector, start, middle,
+                                                     isGradientNeeded);
+                left.fork();
+                double[] result = new GradientTask(vector, middle, end,
+                                                   isGradientNeeded).compute();
+                double[] leftResult = left.join();
+                for (int i = 0; i < result.length; i++) {
+                    result[i] += leftResult[i];
+                }
+                return result;
+            }
+
+            double[] result = new double[isGradientNeeded ? vector.length + 1 : 1];
+            double[] gradient = new double[isGradientNeeded ? vector.length : 0];
+            // The derivative of sigmoid(K * x) is sigmoid * (1 - sigmoid) * K ln 10 / 400.
+            double slope = scale * Math.log(10) / 400;
+            for (int i = start; i < end; i++) {
+                double predicted = TuningDataset.sigmoid(dataset.evaluate(i, vector), scale);
+                double error = predicted - dataset.getTarget(i);
+                result[0] += error * error;
+                if (isGradientNeeded) {
+                    dataset.addGradient(i, 2 * error * predicted * (1 - predicted) * slope,
+                                        gradient);
+                }
+            }
+            System.arraycopy(gradient, 0, result, 1, gradient.length);
+            return result;
+        }
+    }
+}
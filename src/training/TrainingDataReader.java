@@ -0,0 +1,110 @@
+package training;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads training records by memory-mapping chunk files written by
+ * TrainingDataWriter. Records are decoded straight from the mapped pages, so a
+ * trainer can scan or randomly sample billions of positions without copying them
+ * onto the heap. A reader only reads, so one can be shared between threads as long
+ * as each thread decodes into its own TrainingRecord.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class TrainingDataReader {
+
+    private final MappedByteBuffer[] chunks;
+    private final long[] chunkStarts;
+    private final long recordCount;
+
+    /**
+     * Constructor for TrainingDataReader.
+     *
+     * @param path a chunk file, or a directory whose ".bin" files are all read in
+     * name order.
+     * @throws IOException if a file cannot be mapped.
+     */
+    public TrainingDataReader(Path path) throws IOException {
+        List<Path> files = new ArrayList<Path>();
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> stream = Files.list(path)) {
+                stream.filter(file -> file.getFileName().toString().endsWith(".bin"))
+                      .sorted()
+                      .forEach(files::add);
+            }
+        } else {
+            files.add(path);
+        }
+
+        chunks = new MappedByteBuffer[files.size()];
+        chunkStarts = new long[files.size() + 1];
+        for (int i = 0; i < files.size(); i++) {
+            try (FileChannel channel = FileChannel.open(files.get(i),
+                                                        StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size % TrainingRecord.RECORD_SIZE != 0 || size > Integer.MAX_VALUE) {
+                    throw new IOException("Not a training chunk: " + files.get(i));
+                }
+                // The mapping stays valid after the channel is closed.
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+                chunkStarts[i + 1] = chunkStarts[i] + size / TrainingRecord.RECORD_SIZE;
+            }
+        }
+        recordCount = chunkStarts[files.size()];
+    }
+
+    /**
+     * Returns the number of records in all chunks.
+     *
+     * @return the record count.
+     */
+    public long size() {
+        return recordCount;
+    }
+
+    /**
+     * Decodes a record.
+     *
+     * @param index the index of the record over all chunks.
+     * @param record the record to fill.
+     * @return the filled record.
+     */
+    public TrainingRecord read(long index, TrainingRecord record) {
+        if (index < 0 || index >= recordCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + recordCount);
+        }
+        int chunk = findChunk(index);
+        record.readFrom(chunks[chunk], (int) (index - chunkStarts[chunk])
+                                       * TrainingRecord.RECORD_SIZE);
+        return record;
+    }
+
+    /**
+     * Binary searches the chunk holding a record.
+     */
+    private int findChunk(long index) {
+        int low = 0;
+        int high = chunks.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (chunkStarts[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,149 @@
+package training;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends training records to a directory of chunk files named "chunk-00000.bin",
+ * "chunk-00001.bin" and so on, each holding at most a fixed number of records.
+ * Records are gathered in a direct buffer and written through a file channel, and
+ * existing chunks are never overwritten, so several runs can add to one directory.
+ * Writes are synchronized so worker threads can share one writer.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class TrainingDataWriter implements Closeable {
+
+    public static final int DEFAULT_RECORDS_PER_CHUNK = 1 << 20;
+
+    private static final int BUFFER_RECORDS = 4096;
+
+    private final Path directory;
+    private final long recordsPerChunk;
+    private final ByteBuffer buffer;
+
+    private FileChannel channel;
+    private int chunkIndex;
+    private long chunkRecordCount;
+    private long recordCount;
+
+    /**
+     * Constructor for TrainingDataWriter.
+     *
+     * @param directory the directory of the chunk files; created if missing.
+     * @param recordsPerChunk the number of records after which a new chunk starts.
+     * @throws IOException if the directory cannot be created.
+     */
+    public TrainingDataWriter(Path directory, long recordsPerChunk) throws IOException {
+        if (recordsPerChunk <= 0
+                || recordsPerChunk > Integer.MAX_VALUE / TrainingRecord.RECORD_SIZE) {
+            throw new IllegalArgumentException("Bad chunk size: " + recordsPerChunk);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.recordsPerChunk = recordsPerChunk;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS
+                                                * TrainingRecord.RECORD_SIZE)
+                                .order(ByteOrder.LITTLE_ENDIAN);
+        this.chunkIndex = 0;
+    }
+
+    /**
+     * Returns the file name of a chunk.
+     *
+     * @param chunkIndex the index of the chunk.
+     * @return the file name.
+     */
+    public static String getChunkName(int chunkIndex) {
+        return String.format("chunk-%05d.bin", chunkIndex);
+    }
+
+    /**
+     * Appends whole records, for example all sampled positions of one game.
+     *
+     * @param records a buffer whose remaining bytes are a multiple of RECORD_SIZE;
+     * it is fully consumed.
+     * @throws IOException if writing fails.
+     */
+    public synchronized void write(ByteBuffer records) throws IOException {
+        if (records.remaining() % TrainingRecord.RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("Partial training record");
+        }
+        while (records.hasRemaining()) {
+            if (!buffer.hasRemaining() || chunkRecordCount == recordsPerChunk) {
+                flush();
+            }
+            long chunkSpace = (recordsPerChunk - chunkRecordCount)
+                              * TrainingRecord.RECORD_SIZE;
+            int length = (int) Math.min(Math.min(records.remaining(), buffer.remaining()),
+                                        chunkSpace);
+            int limit = records.limit();
+            records.limit(records.position() + length);
+            buffer.put(records);
+            records.limit(limit);
+
+            int count = length / TrainingRecord.RECORD_SIZE;
+            chunkRecordCount += count;
+            recordCount += count;
+        }
+    }
+
+    /**
+     * Writes the buffered records to the current chunk, starting the next chunk when
+     * the current one is full.
+     *
+     * @throws IOException if writing fails.
+     */
+    public synchronized void flush() throws IOException {
+        if (buffer.position() > 0) {
+            if (channel == null) {
+                openNextChunk();
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+        if (chunkRecordCount == recordsPerChunk) {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+            chunkRecordCount = 0;
+        }
+    }
+
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        flush();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Opens the first chunk index that does not exist yet.
+     */
+    private void openNextChunk() throws IOException {
+        Path chunk;
+        while (Files.exists(chunk = directory.resolve(getChunkName(chunkIndex)))) {
+            chunkIndex++;
+        }
+        channel = FileChannel.open(chunk, StandardOpenOption.CREATE_NEW,
+                                   StandardOpenOption.WRITE);
+        chunkIndex++;
+    }
+}
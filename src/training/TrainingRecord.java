@@ -0,0 +1,169 @@
+package training;
+
+import chessboard.Tile;
+import chesspieces.Piece;
+import engine.Zobrist;
+import gamestate.GameState;
+import notation.FenPosition;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One training position in a fixed-width binary record of RECORD_SIZE bytes:
+ *
+ * <pre>
+ *   bytes  0-31  the board, two squares per byte from a8 to h1, low nibble first.
+ *                0 is empty, 1-6 a white and 7-12 a black pawn, knight, bishop,
+ *                rook, queen or king.
+ *   byte   32    the side to move, 0 for white and 1 for black.
+ *   bytes 33-34  the search score in centipawns from white's point of view.
+ *   byte   35    the game result from white's point of view: 0 loss, 1 draw, 2 win.
+ * </pre>
+ *
+ * All values are little-endian. A record object is mutable so readers can reuse one
+ * while scanning millions of positions.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class TrainingRecord {
+
+    public static final int RECORD_SIZE = 36;
+
+    public static final int EMPTY = 0;
+    public static final int BLACK_WINS = 0;
+    public static final int DRAW = 1;
+    public static final int WHITE_WINS = 2;
+
+    private static final int SIDE_OFFSET = 32;
+    private static final int SCORE_OFFSET = 33;
+    private static final int RESULT_OFFSET = 35;
+    private static final String PIECE_LETTERS = ".PNBRQKpnbrqk";
+
+    private final byte[] pieces;
+    private boolean isWhiteToMove;
+    private int score;
+    private int result;
+
+    /**
+     * Constructor for an empty TrainingRecord.
+     */
+    public TrainingRecord() {
+        this.pieces = new byte[64];
+    }
+
+    /**
+     * Fills the record from a position. The result is left unchanged since it is only
+     * known once the game is over.
+     * 
+     * @param gameState the position.
+     * @param score the search score relative to the side to move.
+     */
+    public void setPosition(GameState gameState, int score) {
+        Tile[] chessBoard = gameState.getChessBoard();
+        boolean isWhiteSide = gameState.getIsWhiteSide();
+        for (int square = 0; square < 64; square++) {
+            Piece piece = chessBoard[FenPosition.toTileID(square, isWhiteSide)]
+                          .getAssignedPiece();
+            pieces[square] = (byte) (piece == null ? EMPTY
+                                                   : Zobrist.getPieceIndex(piece) + 1);
+        }
+        this.isWhiteToMove = gameState.getIsWhiteToMove();
+        this.score = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE,
+                                                        isWhiteToMove ? score : -score));
+    }
+
+    /**
+     * Writes the record at the current position of the buffer.
+     * 
+     * @param buffer a little-endian buffer with at least RECORD_SIZE bytes remaining.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        for (int square = 0; square < 64; square += 2) {
+            buffer.put((byte) (pieces[square] | pieces[square + 1] << 4));
+        }
+        buffer.put((byte) (isWhiteToMove ? 0 : 1));
+        buffer.putShort((short) score);
+        buffer.put((byte) result);
+    }
+
+    /**
+     * Reads the record starting at an absolute offset, without moving the buffer.
+     * 
+     * @param buffer a little-endian buffer.
+     * @param offset the offset of the record.
+     */
+    public void readFrom(ByteBuffer buffer, int offset) {
+        for (int i = 0; i < 32; i++) {
+            int packed = buffer.get(offset + i);
+            pieces[2 * i] = (byte) (packed & 15);
+            pieces[2 * i + 1] = (byte) (packed >> 4 & 15);
+        }
+        isWhiteToMove = buffer.get(offset + SIDE_OFFSET) == 0;
+        score = buffer.getShort(offset + SCORE_OFFSET);
+        result = buffer.get(offset + RESULT_OFFSET);
+    }
+
+    /**
+     * Sets the result byte of a record already written to a buffer.
+     * 
+     * @param buffer the buffer holding the record.
+     * @param offset the offset of the record.
+     * @param result BLACK_WINS, DRAW or WHITE_WINS.
+     */
+    public static void putResult(ByteBuffer buffer, int offset, int result) {
+        buffer.put(offset + RESULT_OFFSET, (byte) result);
+    }
+
+    /**
+     * Returns the piece code of a square.
+     * 
+     * @param square the square, a8 = 0 to h1 = 63.
+     * @return EMPTY, 1-6 for white or 7-12 for black pieces.
+     */
+    public int getPiece(int square) {
+        return pieces[square];
+    }
+
+    public boolean getIsWhiteToMove() {
+        return isWhiteToMove;
+    }
+
+    /**
+     * Returns the search score of the position.
+     * 
+     * @return the score in centipawns from white's point of view.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the result of the game the position was played in.
+     * 
+     * @return BLACK_WINS, DRAW or WHITE_WINS.
+     */
+    public int getResult() {
+        return result;
+    }
+
+    /**
+     * Returns the position as a FEN. Castling and en passant are not recorded.
+     * 
+     * @return the FEN.
+     */
+    public String toFen() {
+        FenPosition position = new FenPosition();
+        for (int square = 0; square < 64; square++) {
+            position.setPiece(square, PIECE_LETTERS.charAt(pieces[square]));
+        }
+        position.setIsWhiteToMove(isWhiteToMove);
+        return position.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toFen() + " score " + score + " result " + result;
+    }
+}
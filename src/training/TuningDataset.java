@@ -0,0 +1,152 @@
+package training;
+
+import engine.EvalParameters;
+
+import java.util.Arrays;
+
+/**
+ * Training positions reduced to what a linear evaluation needs: for each position
+ * the evaluation parameters it uses, each with a sign for the side owning the piece,
+ * and the target score between 0 and 1. A position takes about 70 bytes, so
+ * millions fit comfortably in memory.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class TuningDataset {
+
+    private short[] features;
+    private int[] offsets;
+    private float[] targets;
+    private int size;
+    private int featureCount;
+
+    /**
+     * Constructor for an empty TuningDataset.
+     *
+     * @param capacity the expected number of positions.
+     */
+    public TuningDataset(int capacity) {
+        this.features = new short[Math.max(1, capacity) * 32];
+        this.offsets = new int[Math.max(1, capacity) + 1];
+        this.targets = new float[Math.max(1, capacity)];
+    }
+
+    /**
+     * Loads positions from training data.
+     *
+     * @param reader the training data.
+     * @param limit the maximum number of positions, or 0 for all.
+     * @param lambda the weight of the game result in the target; the rest comes from
+     * the search score.
+     * @param scale the scaling constant turning the search score into a win chance.
+     * @return the dataset.
+     */
+    public static TuningDataset load(TrainingDataReader reader, long limit, double lambda,
+                                     double scale) {
+        long count = limit > 0 ? Math.min(limit, reader.size()) : reader.size();
+        if (count > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("Too many positions: " + count);
+        }
+        TuningDataset dataset = new TuningDataset((int) count);
+        TrainingRecord record = new TrainingRecord();
+        for (long i = 0; i < count; i++) {
+            reader.read(i, record);
+            double target = lambda * record.getResult() / 2.0
+                            + (1 - lambda) * sigmoid(record.getScore(), scale);
+            dataset.add(record, (float) target);
+        }
+        return dataset;
+    }
+
+    /**
+     * Adds a position.
+     *
+     * @param record the position.
+     * @param target the expected score of white, between 0 and 1.
+     */
+    public void add(TrainingRecord record, float target) {
+        if (size == targets.length) {
+            targets = Arrays.copyOf(targets, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 2 + 1);
+        }
+        if (featureCount + 128 > features.length) {
+            features = Arrays.copyOf(features, features.length * 2);
+        }
+        for (int square = 0; square < 64; square++) {
+            int piece = record.getPiece(square);
+            if (piece != TrainingRecord.EMPTY) {
+                boolean isWhitePiece = piece <= EvalParameters.PIECE_TYPE_COUNT;
+                int pieceType = (piece - 1) % EvalParameters.PIECE_TYPE_COUNT;
+                int sign = isWhitePiece ? 1 : -1;
+                int relativeSquare = isWhitePiece ? square : square ^ 56;
+                addFeature(sign, EvalParameters.getPieceValueIndex(pieceType));
+                addFeature(sign, EvalParameters.getPieceSquareIndex(pieceType,
+                                                                    relativeSquare));
+            }
+        }
+        targets[size++] = target;
+        offsets[size] = featureCount;
+    }
+
+    /**
+     * Features are stored as index + 1, negated for black pieces.
+     */
+    private void addFeature(int sign, int index) {
+        features[featureCount++] = (short) (sign * (index + 1));
+    }
+
+    /**
+     * Returns the evaluation of a position from white's point of view.
+     *
+     * @param index the position.
+     * @param parameters the parameter vector.
+     * @return the evaluation in centipawns.
+     */
+    public double evaluate(int index, double[] parameters) {
+        double score = 0;
+        for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+            int feature = features[i];
+            score += feature > 0 ? parameters[feature - 1] : -parameters[-feature - 1];
+        }
+        return score;
+    }
+
+    /**
+     * Adds a multiple of the feature vector of a position to a gradient.
+     *
+     * @param index the position.
+     * @param factor the derivative of the loss by the evaluation.
+     * @param gradient the gradient to add to.
+     */
+    public void addGradient(int index, double factor, double[] gradient) {
+        for (int i = offsets[index]; i < offsets[index + 1]; i++) {
+            int feature = features[i];
+            if (feature > 0) {
+                gradient[feature - 1] += factor;
+            } else {
+                gradient[-feature - 1] -= factor;
+            }
+        }
+    }
+
+    public float getTarget(int index) {
+        return targets[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the expected score for a centipawn evaluation.
+     *
+     * @param score the evaluation in centipawns.
+     * @param scale the scaling constant K.
+     * @return the expected score between 0 and 1.
+     */
+    public static double sigmoid(double score, double scale) {
+        return 1 / (1 + Math.pow(10, -scale * score / 400));
+    }
+}
@@ -0,0 +1,231 @@
+package userinterface;
+
+import analysis.AnalysisJob;
+import analysis.AnalysisScheduler;
+import engine.Move;
+import engine.MoveGenerator;
+import engine.SearchEngine;
+import engine.SearchLimits;
+import engine.SearchResult;
+import engine.Zobrist;
+import gamestate.GameResult;
+import gamestate.GameState;
+import gamestate.MoveHistory;
+import notation.SanNotation;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Analyses the current position of the game while the window is open and shows the
+ * engine's best moves as a ranked list, each with its score for the side to move
+ * and its principal variation. The number of moves is chosen in the window; the
+ * analysis runs until the position changes, searching deeper all the time. The game
+ * is replayed on a copy off the event dispatch thread to find the keys of its
+ * earlier positions, so the search sees repetitions, and the live board is never
+ * touched.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class AnalysisWindow {
+
+    private static final String[] COLUMNS = {"#", "Score", "Line"};
+
+    private static final int DEFAULT_LINE_COUNT = 3;
+    private static final int MAX_LINE_COUNT = 10;
+
+    private final GameState gameState;
+    private final AnalysisScheduler scheduler;
+    private final JDialog dialog;
+    private final JLabel summaryLabel;
+    private final JSpinner lineCountSpinner;
+    private final DefaultTableModel tableModel;
+    // Replays the game on a copy before each analysis.
+    private final ExecutorService setUpExecutor;
+    private AnalysisJob job;
+    // Counts analyses started and stopped, so a set-up for an old position is dropped.
+    private int analysisCount;
+
+    /**
+     * Constructor for AnalysisWindow.
+     *
+     * @param owner the game window.
+     * @param gameState the live game.
+     */
+    public AnalysisWindow(JFrame owner, GameState gameState) {
+        this.gameState = gameState;
+        this.scheduler = new AnalysisScheduler("analysis-window", 1,
+                                               SearchEngine.DEFAULT_HASH_SIZE_MB);
+        this.dialog = new JDialog(owner, "Analysis", false);
+        this.summaryLabel = new JLabel();
+        this.lineCountSpinner = new JSpinner(new SpinnerNumberModel(DEFAULT_LINE_COUNT, 1,
+                                                                    MAX_LINE_COUNT, 1));
+        this.setUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "analysis-window-setup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tableModel = new DefaultTableModel(COLUMNS, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+
+        JTable table = new JTable(tableModel);
+        table.setFillsViewportHeight(true);
+        table.getColumnModel().getColumn(0).setMaxWidth(30);
+        table.getColumnModel().getColumn(1).setMaxWidth(60);
+        lineCountSpinner.addChangeListener(e -> positionChanged());
+
+        JPanel topPanel = new JPanel(new BorderLayout(8, 0));
+        topPanel.setBorder(BorderFactory.createEmptyBorder(4, 4, 4, 4));
+        topPanel.add(new JLabel("Lines:"), BorderLayout.WEST);
+        topPanel.add(lineCountSpinner, BorderLayout.CENTER);
+        topPanel.add(summaryLabel, BorderLayout.EAST);
+        dialog.add(topPanel, BorderLayout.NORTH);
+        dialog.add(new JScrollPane(table), BorderLayout.CENTER);
+        dialog.setSize(480, 4 * BoardComponent.TILE_SIZE);
+        dialog.setLocation(owner.getX() + owner.getWidth(), owner.getY());
+        dialog.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                stopAnalysis();
+            }
+        });
+    }
+
+    /**
+     * Shows the window and starts analysing the current position.
+     */
+    public void show() {
+        dialog.setVisible(true);
+        positionChanged();
+    }
+
+    /**
+     * Starts analysing the current position again, if the window is showing. Must be
+     * called on the event dispatch thread.
+     */
+    public void positionChanged() {
+        stopAnalysis();
+        tableModel.setRowCount(0);
+        if (!dialog.isVisible()) {
+            return;
+        }
+        summaryLabel.setText("Searching...");
+        String fen = gameState.toFen();
+        String startFen = gameState.getStartFen();
+        boolean isWhiteSide = gameState.getIsWhiteSide();
+        int[] gameMoves = encodeMoves(gameState.getGameMoves());
+        int startedCount = analysisCount;
+        setUpExecutor.execute(() -> {
+            GameState position = GameState.fromFen(startFen, isWhiteSide);
+            long[] positionKeys = new long[gameMoves.length];
+            for (int i = 0; i < gameMoves.length; i++) {
+                positionKeys[i] = Zobrist.computeKey(position);
+                MoveGenerator.makeMove(position, gameMoves[i]);
+            }
+            boolean hasLegalMove = GameResult.hasLegalMove(position);
+            SwingUtilities.invokeLater(() -> {
+                if (analysisCount == startedCount) {
+                    startAnalysis(fen, positionKeys, hasLegalMove);
+                }
+            });
+        });
+    }
+
+    /**
+     * Submits the analysis of a position once the game has been replayed.
+     */
+    private void startAnalysis(String fen, long[] positionKeys, boolean hasLegalMove) {
+        if (!hasLegalMove) {
+            summaryLabel.setText("No legal moves");
+            return;
+        }
+        // The scheduler searches a board with white on the bottom, whichever way the
+        // game is shown, so the lines are read on such a board too.
+        AnalysisJob newJob = new AnalysisJob(fen, positionKeys, positionKeys.length,
+                                             new SearchLimits(0, 0, 0),
+                                             AnalysisJob.INTERACTIVE);
+        newJob.setLineCount((Integer) lineCountSpinner.getValue());
+        newJob.setListener((analysedJob, result) -> SwingUtilities.invokeLater(() -> {
+            if (analysedJob == job) {
+                showLines(fen, result);
+            }
+        }));
+        job = newJob;
+        scheduler.submit(newJob);
+    }
+
+    private void stopAnalysis() {
+        analysisCount++;
+        if (job != null) {
+            job.cancel();
+            job = null;
+        }
+    }
+
+    /**
+     * Returns the moves of the game as encoded moves, for replaying on a copy.
+     */
+    private static int[] encodeMoves(List<MoveHistory> entries) {
+        int[] moves = new int[entries.size()];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = Move.fromHistory(entries.get(i));
+        }
+        return moves;
+    }
+
+    /**
+     * Replaces the list with the lines of an iteration.
+     */
+    private void showLines(String fen, SearchResult result) {
+        summaryLabel.setText(String.format("depth %d, %,d nodes", result.getDepth(),
+                                           result.getNodes()));
+        tableModel.setRowCount(0);
+        SearchResult[] lines = result.getLines();
+        for (int i = 0; i < lines.length; i++) {
+            tableModel.addRow(new Object[] {i + 1, formatScore(lines[i].getScore()),
+                                            formatLine(fen, lines[i])});
+        }
+    }
+
+    /**
+     * Returns a score in pawns, or the moves to mate as "#3" and "#-3".
+     */
+    private static String formatScore(int score) {
+        if (SearchResult.isMateScore(score)) {
+            int moves = (SearchEngine.MATE_SCORE - Math.abs(score) + 1) / 2;
+            return "#" + (score > 0 ? moves : -moves);
+        }
+        return String.format("%+.2f", score / 100.0);
+    }
+
+    /**
+     * Returns the principal variation of a line in numbered SAN, played out on a
+     * board of its own.
+     */
+    private static String formatLine(String fen, SearchResult line) {
+        GameState position = GameState.fromFen(fen, true);
+        StringBuilder text = new StringBuilder();
+        for (int move : line.getPrincipalVariation()) {
+            if (position.getIsWhiteToMove()) {
+                text.append(position.getFullMoveNumber()).append(". ");
+            } else if (text.length() == 0) {
+                text.append(position.getFullMoveNumber()).append("... ");
+            }
+            text.append(SanNotation.toSan(position, move)).append(' ');
+            MoveGenerator.makeMove(position, move);
+        }
+        return text.toString().trim();
+    }
+}
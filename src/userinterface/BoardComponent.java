@@ -0,0 +1,360 @@
+package userinterface;
+
+import chessboard.Tile;
+import chesspieces.Piece;
+import gamestate.GameState;
+import gamestate.LegalMoveCache;
+import gamestate.MoveAlgorithm;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import java.awt.Color;
+import java.awt.Cursor;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Paints the whole chessboard, its pieces, the highlighted moves of the selected
+ * piece and the piece being dragged in one component, straight from the model
+ * tiles. Changed tiles are collected into one dirty rectangle and repainted
+ * together, so a move causes a single small repaint and no layout.
+ *
+ * <p>The left mouse button selects a piece and moves it by clicking its target tile
+ * or dragging it there; the right mouse button undoes the last move.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class BoardComponent extends JComponent {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int TILE_SIZE = 64;
+
+    // Default colors of tiles
+    private static final Color DARK_COLOR = new Color(204, 255, 255);
+    private static final Color LIGHT_COLOR = new Color(0, 153, 153);
+    private static final Color HIGHLIGHT_DARK = new Color(176, 181, 176);
+    private static final Color HIGHLIGHT_LIGHT = new Color(120, 128, 120);
+
+    // The piece images fill the tiles but for a small margin.
+    private static final int SPRITE_SIZE = 60;
+
+    private final GameState gameState;
+    private final Tile[] chessBoard;
+    private final MoveAlgorithm moveAlgorithm;
+    private final PieceSprites sprites;
+    private final LegalMoveCache legalMoveCache;
+
+    private Piece selectedPiece;
+    private Set<Integer> selectedMoves;
+    private Point dragPoint;
+
+    // Tiles changed since the last repaint was scheduled, or null if none.
+    private Rectangle dirtyRegion;
+    private Runnable positionListener;
+
+    /**
+     * Constructor for BoardComponent.
+     *
+     * @param gameState the state of the game shown.
+     * @param moveAlgorithm plays the moves made on the board.
+     */
+    public BoardComponent(GameState gameState, MoveAlgorithm moveAlgorithm) {
+        this.gameState = gameState;
+        this.chessBoard = gameState.getChessBoard();
+        this.moveAlgorithm = moveAlgorithm;
+        this.sprites = PieceSprites.getInstance(SPRITE_SIZE);
+        this.selectedMoves = Collections.emptySet();
+        this.legalMoveCache = new LegalMoveCache(gameState);
+
+        setPreferredSize(new Dimension(8 * TILE_SIZE, 8 * TILE_SIZE));
+        setOpaque(true);
+        setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        BoardMouseListener mouseListener = new BoardMouseListener();
+        addMouseListener(mouseListener);
+        addMouseMotionListener(mouseListener);
+        moveAlgorithm.setBoardListener(this::tilesChanged);
+    }
+
+    /**
+     * Sets the listener run on the event dispatch thread after each move or undo.
+     *
+     * @param positionListener the listener, or null for none.
+     */
+    public void setPositionListener(Runnable positionListener) {
+        this.positionListener = positionListener;
+    }
+
+    /**
+     * Highlights a piece and the tiles it can move to, replacing any earlier
+     * highlights.
+     *
+     * @param piece the piece, or null to remove the highlights.
+     * @param moves the tile IDs the piece can move to.
+     */
+    public void setHighlights(Piece piece, Set<Integer> moves) {
+        markSelectionDirty();
+        selectedPiece = piece;
+        selectedMoves = piece != null ? moves : Collections.<Integer>emptySet();
+        markSelectionDirty();
+        repaintDirtyRegion();
+    }
+
+    /**
+     * Marks the tiles changed by a move or undo for repainting, and starts computing
+     * the legal moves of the new position. Safe to call from any thread; both happen
+     * on the event dispatch thread.
+     *
+     * @param tileIDs the IDs of the changed tiles.
+     */
+    public void tilesChanged(int[] tileIDs) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> tilesChanged(tileIDs));
+            return;
+        }
+        legalMoveCache.positionChanged();
+        for (int tileID : tileIDs) {
+            markDirty(getTileBounds(tileID));
+        }
+        repaintDirtyRegion();
+        if (positionListener != null) {
+            positionListener.run();
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int firstColumn = Math.max(0, clip.x / TILE_SIZE);
+        int lastColumn = Math.min(7, (clip.x + clip.width - 1) / TILE_SIZE);
+        int firstRow = Math.max(0, clip.y / TILE_SIZE);
+        int lastRow = Math.min(7, (clip.y + clip.height - 1) / TILE_SIZE);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                paintTile(g, row * 8 + column);
+            }
+        }
+
+        if (dragPoint != null && selectedPiece != null) {
+            BufferedImage image = sprites.getImage(selectedPiece);
+            if (image != null) {
+                g.drawImage(image, dragPoint.x - SPRITE_SIZE / 2,
+                            dragPoint.y - SPRITE_SIZE / 2, null);
+            }
+        }
+    }
+
+    private void paintTile(Graphics g, int tileID) {
+        int x = (tileID % 8) * TILE_SIZE;
+        int y = (tileID / 8) * TILE_SIZE;
+        boolean isHighlighted = selectedPiece != null
+                && (tileID == selectedPiece.getPiecePosition()
+                    || selectedMoves.contains(tileID));
+        boolean isDarkColor = (tileID / 8 + tileID % 8) % 2 == 0;
+        if (isHighlighted) {
+            g.setColor(isDarkColor ? HIGHLIGHT_DARK : HIGHLIGHT_LIGHT);
+        } else {
+            g.setColor(isDarkColor ? DARK_COLOR : LIGHT_COLOR);
+        }
+        g.fillRect(x, y, TILE_SIZE, TILE_SIZE);
+
+        Piece piece = chessBoard[tileID].getAssignedPiece();
+        // The dragged piece is drawn under the mouse instead of on its tile.
+        if (piece != null && !(dragPoint != null && piece == selectedPiece)) {
+            BufferedImage image = sprites.getImage(piece);
+            if (image != null) {
+                int margin = (TILE_SIZE - SPRITE_SIZE) / 2;
+                g.drawImage(image, x + margin, y + margin, null);
+            }
+        }
+    }
+
+    private static Rectangle getTileBounds(int tileID) {
+        return new Rectangle((tileID % 8) * TILE_SIZE, (tileID / 8) * TILE_SIZE,
+                             TILE_SIZE, TILE_SIZE);
+    }
+
+    private Rectangle getDragBounds() {
+        return new Rectangle(dragPoint.x - SPRITE_SIZE / 2, dragPoint.y - SPRITE_SIZE / 2,
+                             SPRITE_SIZE, SPRITE_SIZE);
+    }
+
+    /**
+     * Marks the highlighted tiles and the dragged piece for repainting.
+     */
+    private void markSelectionDirty() {
+        if (selectedPiece != null) {
+            markDirty(getTileBounds(selectedPiece.getPiecePosition()));
+            for (int moveID : selectedMoves) {
+                markDirty(getTileBounds(moveID));
+            }
+        }
+        if (dragPoint != null) {
+            markDirty(getDragBounds());
+        }
+    }
+
+    private void markDirty(Rectangle region) {
+        if (dirtyRegion == null) {
+            dirtyRegion = region;
+        } else {
+            dirtyRegion.add(region);
+        }
+    }
+
+    private void repaintDirtyRegion() {
+        if (dirtyRegion != null) {
+            repaint(dirtyRegion);
+            dirtyRegion = null;
+        }
+    }
+
+    /**
+     * Returns the ID of the tile under a point.
+     *
+     * @return the tile ID, or -1 if the point is off the board.
+     */
+    private static int getTileID(Point point) {
+        int column = point.x / TILE_SIZE;
+        int row = point.y / TILE_SIZE;
+        if (point.x < 0 || point.y < 0 || column > 7 || row > 7) {
+            return -1;
+        }
+        return row * 8 + column;
+    }
+
+    /**
+     * Selects a piece of the side to move, dragging it from the given point. If its
+     * legal moves are still being computed the piece is selected without any tiles
+     * to move to, and they are highlighted once known.
+     */
+    private void selectPiece(Piece piece, Point point) {
+        Set<Integer> moves = legalMoveCache.getLegalMoves(piece.getPiecePosition());
+        if (moves == null) {
+            legalMoveCache.whenReady(
+                    () -> SwingUtilities.invokeLater(() -> legalMovesReady(piece)));
+            moves = Collections.emptySet();
+        }
+        setHighlights(piece, moves);
+        dragPoint = point;
+        markSelectionDirty();
+        repaintDirtyRegion();
+    }
+
+    /**
+     * Highlights the legal moves of a piece selected before they were known, if it
+     * is still selected.
+     */
+    private void legalMovesReady(Piece piece) {
+        if (piece != selectedPiece) {
+            return;
+        }
+        Set<Integer> moves = legalMoveCache.getLegalMoves(piece.getPiecePosition());
+        if (moves != null) {
+            setHighlights(piece, moves);
+        }
+    }
+
+    private void unselectPiece() {
+        dragPoint = null;
+        setHighlights(null, null);
+    }
+
+    /**
+     * Plays the selected piece to a tile if that is a legal move, and unselects it.
+     */
+    private void moveSelectedPiece(int tileID) {
+        Piece piece = selectedPiece;
+        boolean isLegal = selectedMoves.contains(tileID);
+        unselectPiece();
+        if (isLegal) {
+            moveAlgorithm.movePieceToSquare(chessBoard, piece.getPiecePosition(), tileID);
+        }
+    }
+
+    /**
+     * Turns mouse presses, drags and releases into selections and moves.
+     */
+    private class BoardMouseListener extends MouseAdapter {
+
+        /**
+         * When the mouse is pressed, perform the corresponding chess action.
+         */
+        @Override
+        public void mousePressed(MouseEvent e) {
+            int tileID = getTileID(e.getPoint());
+            if (!SwingUtilities.isLeftMouseButton(e) || tileID < 0) {
+                return;
+            }
+            Piece piece = chessBoard[tileID].getAssignedPiece();
+            if (selectedPiece == null) {
+                if (piece != null
+                        && piece.getIsPieceWhite() == gameState.getIsWhiteToMove()) {
+                    selectPiece(piece, e.getPoint());
+                }
+            } else if (piece == selectedPiece) {
+                unselectPiece();
+            } else if (piece != null
+                       && piece.getIsPieceWhite() == selectedPiece.getIsPieceWhite()) {
+                selectPiece(piece, e.getPoint());
+            } else {
+                moveSelectedPiece(tileID);
+            }
+        }
+
+        /**
+         * Update the piece image as you click and drag a piece.
+         */
+        @Override
+        public void mouseDragged(MouseEvent e) {
+            if (dragPoint != null) {
+                markDirty(getDragBounds());
+                dragPoint = e.getPoint();
+                markDirty(getDragBounds());
+                repaintDirtyRegion();
+            }
+        }
+
+        /**
+         * When the mouse is released on the tile it was pressed on, the piece stays
+         * selected for a click on its target. Otherwise the piece moves to the tile
+         * the mouse was released on if it is a legal move.
+         */
+        @Override
+        public void mouseReleased(MouseEvent e) {
+            if (dragPoint == null || !SwingUtilities.isLeftMouseButton(e)) {
+                return;
+            }
+            int tileID = getTileID(e.getPoint());
+            markSelectionDirty();
+            dragPoint = null;
+            repaintDirtyRegion();
+            if (tileID != selectedPiece.getPiecePosition()) {
+                moveSelectedPiece(tileID);
+            }
+        }
+
+        /**
+         * Undo the move if the right mouse button was clicked.
+         */
+        @Override
+        public void mouseClicked(MouseEvent e) {
+            if (SwingUtilities.isRightMouseButton(e)) {
+                unselectPiece();
+                moveAlgorithm.undoMove(chessBoard);
+            }
+        }
+    }
+}
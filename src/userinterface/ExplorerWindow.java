@@ -0,0 +1,98 @@
+package userinterface;
+
+import database.GameDatabase;
+import database.MoveStats;
+import database.PositionStats;
+import gamestate.GameState;
+import notation.SanNotation;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+
+/**
+ * Shows what was played from the current position of the game in a game database:
+ * each move with the number of games and the score of the side to move. The table
+ * is refreshed whenever the board reports a change.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class ExplorerWindow {
+
+    private static final String[] COLUMNS = {"Move", "Games", "Score", "Won", "Drawn",
+                                             "Lost"};
+
+    private final GameState gameState;
+    private final GameDatabase database;
+    private final JDialog dialog;
+    private final JLabel summaryLabel;
+    private final DefaultTableModel tableModel;
+
+    /**
+     * Constructor for ExplorerWindow.
+     *
+     * @param owner the game window.
+     * @param gameState the live game.
+     * @param database the game database to look positions up in.
+     */
+    public ExplorerWindow(JFrame owner, GameState gameState, GameDatabase database) {
+        this.gameState = gameState;
+        this.database = database;
+        this.dialog = new JDialog(owner, "Opening Explorer - " + database.getName(),
+                                  false);
+        this.summaryLabel = new JLabel();
+        this.tableModel = new DefaultTableModel(COLUMNS, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+
+        JTable table = new JTable(tableModel);
+        table.setFillsViewportHeight(true);
+        summaryLabel.setBorder(BorderFactory.createEmptyBorder(4, 4, 4, 4));
+        dialog.add(summaryLabel, BorderLayout.NORTH);
+        dialog.add(new JScrollPane(table), BorderLayout.CENTER);
+        dialog.setSize(360, 8 * BoardComponent.TILE_SIZE);
+        dialog.setLocation(owner.getX() + owner.getWidth(), owner.getY());
+    }
+
+    /**
+     * Shows the window with the moves of the current position.
+     */
+    public void show() {
+        positionChanged();
+        dialog.setVisible(true);
+    }
+
+    /**
+     * Looks the current position up again. Must be called on the event dispatch
+     * thread.
+     */
+    public void positionChanged() {
+        PositionStats stats = database.getPositionStats(gameState);
+        boolean isWhiteToMove = gameState.getIsWhiteToMove();
+        summaryLabel.setText(String.format("%d of %d games, score %.1f%%",
+                                           stats.getGameCount(), database.getGameCount(),
+                                           stats.getScore(isWhiteToMove) * 100));
+        tableModel.setRowCount(0);
+        if (stats.getMoves().isEmpty()) {
+            return;
+        }
+        // SAN needs the legal moves, which are generated on a copy so that the live
+        // board is not touched.
+        GameState position = GameState.fromFen(gameState.toFen(),
+                                               gameState.getIsWhiteSide());
+        for (MoveStats moveStats : stats.getMoves()) {
+            tableModel.addRow(new Object[] {
+                    SanNotation.toSan(position, moveStats.getMove()),
+                    moveStats.getGameCount(),
+                    String.format("%.1f%%", moveStats.getScore(isWhiteToMove) * 100),
+                    isWhiteToMove ? moveStats.getWhiteWins() : moveStats.getBlackWins(),
+                    moveStats.getDraws(),
+                    isWhiteToMove ? moveStats.getBlackWins() : moveStats.getWhiteWins()});
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package userinterface;
 
-import chessboard.TileUI;
+import database.GameDatabase;
+import gamestate.GameResult;
 import gamestate.GameState;
 import gamestate.MoveAlgorithm;
-import gamestate.MoveHistory;
+import notation.PgnGame;
+import notation.PgnWriter;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Stack;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 
 /**
  * Creates and displays the Game Interface for the Chess game. In charge of setting up
- * the chessboard frame, panels, and mouse listeners for each chessboard tile.
+ * the chessboard frame and the board component that draws the game and takes the
+ * player's moves. The game itself lives in the model; the board component repaints
+ * when the move algorithm reports changed tiles, and the window title shows checks,
+ * checkmates and draws. The game menu exports the moves played so far as PGN,
+ * opens a game database in the opening explorer and opens the engine analysis of
+ * the current position.
  *
  * @author  Danhiel Vu
  * @version 1.0
@@ -19,91 +32,141 @@ import java.util.Stack;
  */
 public class GameUI {
 
+    private static final String TITLE = "Chess";
+
     private final GameState gameState;
-    private final TileUI[] chessBoard;
     private final MoveAlgorithm moveAlgorithm;
-    private final Stack<MoveHistory> moveHistory;
 
-    private final JPanel chessBoardPanel;
-    private final JLayeredPane boardJLayeredPane;
     private final JFrame frame;
+    private BoardComponent boardComponent;
+    private ExplorerWindow explorerWindow;
+    private AnalysisWindow analysisWindow;
 
     /**
      * Constructor for GameUI.
      * 
-     * @param chessBoard the main chessboard that tracks board-state.
+     * @param gameState the state of the game shown.
      * @param moveAlgorithm controls piece movement in the game. 
-     * @param moveHistory tracks move history.
      */
-    public GameUI(GameState gameState, MoveAlgorithm moveAlgorithm,
-                         Stack<MoveHistory> moveHistory) {
+    public GameUI(GameState gameState, MoveAlgorithm moveAlgorithm) {
         this.gameState = gameState;
-        this.chessBoard = gameState.getChessBoard();
         this.moveAlgorithm = moveAlgorithm;
-        this.moveHistory = moveHistory;
 
-        chessBoardPanel = new JPanel();
-        boardJLayeredPane = new JLayeredPane();
-        frame = new JFrame("Chess");
+        frame = new JFrame(TITLE);
     }
 
     /**
      * Creates the Chess game UI.
      */
     public void createGameUI() {
-        setUpChessBoardPanel();
-        setUpMainPanel();
+        boardComponent = new BoardComponent(gameState, moveAlgorithm);
+        boardComponent.setPositionListener(this::positionChanged);
         setUpJFrame();
     }
 
     /**
-     * Sets up the Chessboard with all the relevant pieces.
+     * Sets up the JFrame of the GameUI.
      */
-    private void setUpChessBoardPanel() {
-        chessBoardPanel.setLayout(new GridLayout(8, 8));
-        for (int i = 0; i < 64; i++) {
-            TileUI boardTile = chessBoard[i];
-            JPanel tileJPanel = boardTile.getTileJPanel();
-
-            chessBoardPanel.add(tileJPanel);
-            setUpTileMouseListeners(boardTile, tileJPanel);
-        }
+    private void setUpJFrame() {
+        frame.setJMenuBar(createMenuBar());
+        frame.add(boardComponent);
+        frame.setResizable(false);
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame.pack();
+        frame.setVisible(true);
+
+        Toolkit tk = Toolkit.getDefaultToolkit();
+        frame.setLocation(tk.getScreenSize().width / 2 - frame.getWidth() / 2,
+                tk.getScreenSize().height / 4);
+    }
+
+    private JMenuBar createMenuBar() {
+        JMenuItem exportItem = new JMenuItem("Export PGN...");
+        exportItem.addActionListener(e -> exportPgn());
+        JMenuItem explorerItem = new JMenuItem("Opening Explorer...");
+        explorerItem.addActionListener(e -> openExplorer());
+        JMenuItem analysisItem = new JMenuItem("Engine Analysis");
+        analysisItem.addActionListener(e -> openAnalysis());
+        JMenu gameMenu = new JMenu("Game");
+        gameMenu.add(exportItem);
+        gameMenu.add(explorerItem);
+        gameMenu.add(analysisItem);
+        JMenuBar menuBar = new JMenuBar();
+        menuBar.add(gameMenu);
+        return menuBar;
     }
 
     /**
-     * Sets up a second layer on the chessboard to enable chesspiece mouse track.
+     * Asks for a file and writes the game played so far to it as PGN.
      */
-    private void setUpMainPanel() {
-        boardJLayeredPane.setPreferredSize(new Dimension(512, 512));
-        boardJLayeredPane.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
-        boardJLayeredPane.add(chessBoardPanel, JLayeredPane.DEFAULT_LAYER);
-        chessBoardPanel.setBounds(0 ,0, 512, 512);
+    private void exportPgn() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setSelectedFile(new File("game.pgn"));
+        if (fileChooser.showSaveDialog(frame) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        PgnGame game = PgnGame.fromGameState(gameState);
+        game.setTag("Event", "Casual game");
+        game.setTag("Date", new SimpleDateFormat("yyyy.MM.dd").format(new Date()));
+        try (Writer writer = Files.newBufferedWriter(fileChooser.getSelectedFile().toPath(),
+                                                     StandardCharsets.UTF_8)) {
+            PgnWriter.write(game, writer);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(frame, "Cannot write the game: " + e.getMessage(),
+                                          "Export PGN", JOptionPane.ERROR_MESSAGE);
+        }
     }
 
     /**
-     * Sets up mouse listeners for each tile on the chessboard.
-     * @param chessTile a singular tile taken from the 64 tiles on the main chessboard.
-     * @param tileJPanel the JPanel of the boardTile.
+     * Asks for a game database and shows what was played from the current position
+     * in it, following the game as moves are made.
      */
-    private void setUpTileMouseListeners(TileUI chessTile, JPanel tileJPanel) {
-        TileMouseListener tileMouseListener = new TileMouseListener(chessTile,
-                gameState, moveAlgorithm, moveHistory, boardJLayeredPane);
-        tileJPanel.addMouseMotionListener(tileMouseListener);
-        tileJPanel.addMouseListener(tileMouseListener);
+    private void openExplorer() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setFileSelectionMode(JFileChooser.DIRECTORIES_ONLY);
+        if (fileChooser.showOpenDialog(frame) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        try {
+            GameDatabase database = GameDatabase.open(
+                    fileChooser.getSelectedFile().toPath());
+            explorerWindow = new ExplorerWindow(frame, gameState, database);
+            explorerWindow.show();
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(frame, "Cannot open the database: "
+                                          + e.getMessage(), "Opening Explorer",
+                                          JOptionPane.ERROR_MESSAGE);
+        }
     }
 
     /**
-     * Sets up the JFrame of the GameUI.
+     * Shows the engine's best moves in the current position, analysing again as
+     * moves are made. The window is kept for the rest of the game once opened.
      */
-    private void setUpJFrame() {
-        frame.add(boardJLayeredPane);
-        frame.setResizable(false);
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        frame.pack();
-        frame.setVisible(true);
+    private void openAnalysis() {
+        if (analysisWindow == null) {
+            analysisWindow = new AnalysisWindow(frame, gameState);
+        }
+        analysisWindow.show();
+    }
 
-        Toolkit tk = Toolkit.getDefaultToolkit();
-        frame.setLocation(tk.getScreenSize().width / 2 - frame.getWidth() / 2,
-                tk.getScreenSize().height / 4);
+    /**
+     * Shows the result of the new position in the window title, and tells the open
+     * windows that follow the game about it.
+     */
+    private void positionChanged() {
+        // The result needs the legal moves, which are generated on a copy so that
+        // the live board is not touched.
+        GameState position = GameState.fromFen(gameState.toFen(),
+                                               gameState.getIsWhiteSide());
+        int result = GameResult.getResult(position);
+        frame.setTitle(result == GameResult.IN_PROGRESS
+                       ? TITLE : TITLE + " - " + GameResult.getDescription(result));
+        if (explorerWindow != null) {
+            explorerWindow.positionChanged();
+        }
+        if (analysisWindow != null) {
+            analysisWindow.positionChanged();
+        }
     }
-}
\ No newline at end of file
+}
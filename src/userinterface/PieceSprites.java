@@ -0,0 +1,133 @@
+package userinterface;
+
+import chesspieces.Piece;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+
+/**
+ * Loads the twelve piece images once per size and shares them between all tiles and
+ * games. The images are read from "img/" on the classpath, or from the "img"
+ * directory when the game runs from the project directory, and drawn into images
+ * compatible with the screen so Swing can keep them in video memory. Setting
+ * "chess.sprites.accelerated" to false keeps plain images instead.
+ *
+ * @author  Danhiel Vu
+ * @version 1.0
+ * @since   10/19/2026
+ */
+public class PieceSprites {
+
+    private static final String[] PIECE_TYPES = {"Pawn", "Knight", "Bishop", "Rook",
+                                                 "Queen", "King"};
+
+    private static final Map<Integer, PieceSprites> spritesBySize =
+            new ConcurrentHashMap<Integer, PieceSprites>();
+
+    private final int size;
+    private final BufferedImage[] images;
+
+    private PieceSprites(int size) {
+        this.size = size;
+        this.images = new BufferedImage[2 * PIECE_TYPES.length];
+        for (int i = 0; i < images.length; i++) {
+            String fileName = (i < PIECE_TYPES.length ? "White" : "Black")
+                              + PIECE_TYPES[i % PIECE_TYPES.length] + ".png";
+            BufferedImage image = readImage(fileName);
+            if (image != null) {
+                images[i] = scale(image, size);
+            }
+        }
+    }
+
+    /**
+     * Returns the sprites of the given size, loading them on first use.
+     *
+     * @param size the width and height of the sprites in pixels.
+     * @return the shared sprites.
+     */
+    public static PieceSprites getInstance(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Sprite size must be positive: " + size);
+        }
+        return spritesBySize.computeIfAbsent(size, PieceSprites::new);
+    }
+
+    /**
+     * Returns the width and height of the sprites.
+     *
+     * @return the size in pixels.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the image of a piece.
+     *
+     * @param piece the piece, or null.
+     * @return the image, or null if the piece is null or its image is missing.
+     */
+    public BufferedImage getImage(Piece piece) {
+        return piece != null ? images[piece.getPieceCode()] : null;
+    }
+
+    private static BufferedImage readImage(String fileName) {
+        try {
+            URL resource = PieceSprites.class.getResource("/img/" + fileName);
+            if (resource != null) {
+                try (InputStream in = resource.openStream()) {
+                    return ImageIO.read(in);
+                }
+            }
+            Path file = Paths.get("img", fileName);
+            if (Files.exists(file)) {
+                return ImageIO.read(file.toFile());
+            }
+            System.err.println("Missing piece image " + fileName);
+        } catch (IOException e) {
+            System.err.println("Cannot read piece image " + fileName + ": "
+                               + e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Draws an image at the given size into a new translucent image, compatible with
+     * the screen unless accelerated images are turned off or there is no screen.
+     */
+    private static BufferedImage scale(BufferedImage image, int size) {
+        BufferedImage scaled;
+        if (!GraphicsEnvironment.isHeadless()
+                && !"false".equals(System.getProperty("chess.sprites.accelerated"))) {
+            GraphicsConfiguration configuration = GraphicsEnvironment
+                    .getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration();
+            scaled = configuration.createCompatibleImage(size, size,
+                                                         Transparency.TRANSLUCENT);
+        } else {
+            scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        }
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                                  RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+                                  RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(image, 0, 0, size, size, null);
+        graphics.dispose();
+        return scaled;
+    }
+}
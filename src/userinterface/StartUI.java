@@ -115,7 +115,7 @@ public class StartUI {
         GameState gameState = new GameState(gameBoard.getChessBoard(),
                                             moveAlgorithm,
                                             isWhiteSide);
-        GameUI gameUI = new GameUI(gameState, moveAlgorithm, moveHistory);
+        GameUI gameUI = new GameUI(gameState, moveAlgorithm);
 
         gameUI.createGameUI();
         frame.dispose();